@@ -0,0 +1,69 @@
+package com.search.benchmark.jmh;
+
+import com.search.benchmark.algorithms.BoyerMooreSearch;
+import com.search.benchmark.algorithms.CompiledPattern;
+import com.search.benchmark.algorithms.GalilBoyerMooreSearch;
+import com.search.benchmark.algorithms.KMPSearch;
+import com.search.benchmark.algorithms.NaiveSearch;
+import com.search.benchmark.algorithms.PositionCollector;
+import com.search.benchmark.algorithms.StringSearchAlgorithm;
+import com.search.benchmark.algorithms.TwoWaySearch;
+import com.search.benchmark.generators.TextGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Периодические входы из TextGenerator.generateRepeatedText: наивный поиск деградирует
+ * с ростом паттерна, KMP, Бойер-Мур с хорошим суффиксом и Two-Way остаются линейными.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AdversarialBenchmark {
+
+    @Param({"naive", "boyer-moore", "galil", "kmp", "two-way"})
+    public String engine;
+
+    @Param({"16", "256"})
+    public int patternLength;
+
+    private String text;
+    private CompiledPattern compiled;
+    private PositionCollector collector;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StringSearchAlgorithm algorithm;
+        switch (engine) {
+            case "naive":
+                algorithm = new NaiveSearch();
+                break;
+            case "boyer-moore":
+                algorithm = new BoyerMooreSearch();
+                break;
+            case "galil":
+                algorithm = new GalilBoyerMooreSearch();
+                break;
+            case "kmp":
+                algorithm = new KMPSearch();
+                break;
+            default:
+                algorithm = new TwoWaySearch();
+        }
+        text = TextGenerator.generateRepeatedText("a", 200_000);
+        // Почти совпадает в каждой позиции, но не встречается ни разу
+        compiled = algorithm.compile("a".repeat(patternLength - 1) + "b");
+        collector = new PositionCollector();
+    }
+
+    @Benchmark
+    public int search() {
+        collector.clear();
+        compiled.search(text, collector);
+        return collector.size();
+    }
+}
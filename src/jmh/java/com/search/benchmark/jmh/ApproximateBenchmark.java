@@ -0,0 +1,51 @@
+package com.search.benchmark.jmh;
+
+import com.search.benchmark.algorithms.ApproximateSearch;
+import com.search.benchmark.algorithms.ApproximateSearchAlgorithm;
+import com.search.benchmark.algorithms.BoyerMooreSearch;
+import com.search.benchmark.algorithms.VariantSearch;
+import com.search.benchmark.stats.ApproximateStats;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Поиск слова с опечаткой: битовые векторы (Майерс, Shift-Add) против перебора
+ * всех вариантов на расстоянии k с точным поиском каждого.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApproximateBenchmark {
+
+    @Param({"bit-parallel", "variants"})
+    public String engine;
+
+    @Param({"EDIT", "HAMMING"})
+    public ApproximateSearch.Mode mode;
+
+    @Param({"1"})
+    public int maxDistance;
+
+    @Param({"Shawshenk"})
+    public String pattern;
+
+    private String text;
+    private ApproximateSearchAlgorithm algorithm;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        text = BenchmarkInputs.text("shawshank.txt");
+        algorithm = engine.equals("variants")
+                ? new VariantSearch(new BoyerMooreSearch(), mode, maxDistance)
+                : new ApproximateSearch(mode, maxDistance);
+    }
+
+    @Benchmark
+    public ApproximateStats search() {
+        return algorithm.search(text, pattern);
+    }
+}
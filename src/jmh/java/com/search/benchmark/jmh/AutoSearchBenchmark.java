@@ -0,0 +1,60 @@
+package com.search.benchmark.jmh;
+
+import com.search.benchmark.algorithms.PositionCollector;
+import com.search.benchmark.algorithms.StringSearchAlgorithm;
+import com.search.benchmark.auto.AutoSearch;
+import com.search.benchmark.auto.CalibrationProfile;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Накладные расходы выбора: AutoSearch против алгоритма, который он выбирает,
+ * на коротком тексте, где цена выбора заметнее всего.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AutoSearchBenchmark {
+
+    @Param({"programming.txt", "lotr_two_towers.txt"})
+    public String corpus;
+
+    @Param({"algorithm"})
+    public String pattern;
+
+    private String text;
+    private AutoSearch auto;
+    private StringSearchAlgorithm chosen;
+    private PositionCollector collector;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        text = BenchmarkInputs.text(corpus);
+        auto = new AutoSearch(CalibrationProfile.loadOrDefault(CalibrationProfile.DEFAULT_PATH));
+        chosen = auto.choose(text, pattern).create();
+        collector = new PositionCollector();
+    }
+
+    @Benchmark
+    public int auto() {
+        collector.clear();
+        auto.search(text, pattern, collector);
+        return collector.size();
+    }
+
+    @Benchmark
+    public int chosenDirectly() {
+        collector.clear();
+        chosen.search(text, pattern, collector);
+        return collector.size();
+    }
+
+    @Benchmark
+    public CalibrationProfile.Engine chooseOnly() {
+        return auto.choose(text, pattern);
+    }
+}
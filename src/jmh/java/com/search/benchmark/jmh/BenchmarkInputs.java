@@ -0,0 +1,88 @@
+package com.search.benchmark.jmh;
+
+import com.search.benchmark.Main;
+import com.search.benchmark.algorithms.StringSearchAlgorithm;
+import com.search.benchmark.generators.CorpusGenerator;
+import com.search.benchmark.generators.MarkovTextModel;
+import com.search.benchmark.generators.PeriodicTextModel;
+import com.search.benchmark.generators.TextGenerator;
+import com.search.benchmark.generators.ZipfWordModel;
+
+import java.util.List;
+
+public final class BenchmarkInputs {
+
+    // Корпуса из папки texts/
+    public static final String[] CORPORA = {
+            "programming.txt",
+            "lotr_two_towers.txt",
+            "java_algorithms.txt",
+            "shawshank.txt"
+    };
+
+    // Синтетические входы на основе TextGenerator
+    public static final String RANDOM = "random";
+    public static final String WITH_PATTERNS = "patterns";
+    public static final String REPEATED = "repeated";
+
+    // Реалистичные и неблагоприятные входы CorpusGenerator
+    public static final String ZIPF = "zipf";
+    public static final String MARKOV = "markov";
+    public static final String ADVERSARIAL = "adversarial";
+
+    private static final int SYNTHETIC_LENGTH = 200_000;
+
+    // Число алгоритмов в Main.createAlgorithms(). @Param не может вычисляться, поэтому
+    // списки индексов в бенчмарках записаны явно; при добавлении алгоритма algorithm()
+    // упадет, пока не обновлены это значение и списки "0".."N-1"
+    public static final int ALGORITHM_COUNT = 18;
+
+    private BenchmarkInputs() {
+    }
+
+    public static StringSearchAlgorithm algorithm(int index) {
+        List<StringSearchAlgorithm> algorithms = Main.createAlgorithms();
+        if (algorithms.size() != ALGORITHM_COUNT) {
+            throw new IllegalStateException("Main.createAlgorithms() содержит " + algorithms.size()
+                    + " алгоритмов, а бенчмарки рассчитаны на " + ALGORITHM_COUNT
+                    + ": обновите ALGORITHM_COUNT и списки @Param algorithm");
+        }
+        if (index < 0 || index >= algorithms.size()) {
+            throw new IllegalArgumentException("Нет алгоритма с индексом " + index
+                    + ", допустимо 0.." + (algorithms.size() - 1));
+        }
+        return algorithms.get(index);
+    }
+
+    public static String text(String corpus) {
+        switch (corpus) {
+            case RANDOM:
+                return TextGenerator.generateRandomText(SYNTHETIC_LENGTH, TextGenerator.getEnglishAlphabet());
+            case WITH_PATTERNS:
+                return TextGenerator.generateTextWithPatterns(SYNTHETIC_LENGTH, "algorithm", 0.01);
+            case REPEATED:
+                return TextGenerator.generateRepeatedText("aab", SYNTHETIC_LENGTH / 3);
+            case ZIPF:
+                return new CorpusGenerator(new ZipfWordModel(
+                        ZipfWordModel.vocabulary(CorpusGenerator.trainingText(), 20_000), 1.0), 42)
+                        .generate(SYNTHETIC_LENGTH);
+            case MARKOV:
+                return new CorpusGenerator(MarkovTextModel.train(CorpusGenerator.trainingText(), 3), 42)
+                        .generate(SYNTHETIC_LENGTH);
+            case ADVERSARIAL:
+                return new CorpusGenerator(new PeriodicTextModel("aab", 0.0001, "ab"), 42)
+                        .generate(SYNTHETIC_LENGTH);
+            default:
+                return Main.readTextFromFile(corpus);
+        }
+    }
+
+    // Паттерн заданной длины берем из середины текста, чтобы он гарантированно встречался
+    public static String pattern(String text, int length) {
+        if (length >= text.length()) {
+            return text;
+        }
+        int start = (text.length() - length) / 2;
+        return text.substring(start, start + length);
+    }
+}
@@ -0,0 +1,48 @@
+package com.search.benchmark.jmh;
+
+import com.search.benchmark.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Точка входа benchmarks.jar. Подставляет все алгоритмы из Main.createAlgorithms(),
+ * включает GC-профайлер (allocation rate) и модуль Vector API для VectorSearch,
+ * пишет результаты в jmh-result.json.
+ * Аргументы командной строки JMH (-f, -wi, -p ...) имеют приоритет.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions cmd = new CommandLineOptions(args);
+
+        int algorithmCount = Main.createAlgorithms().size();
+        String[] indices = new String[algorithmCount];
+        for (int i = 0; i < algorithmCount; i++) {
+            indices[i] = String.valueOf(i);
+        }
+
+        ChainedOptionsBuilder builder = new OptionsBuilder()
+                .parent(cmd)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("jmh-result.json");
+
+        if (cmd.getIncludes().isEmpty()) {
+            builder.include(SearchBenchmark.class.getSimpleName());
+        }
+        if (!cmd.getJvmArgsAppend().hasValue()) {
+            builder.jvmArgsAppend("--add-modules=jdk.incubator.vector");
+        }
+        if (!cmd.getParameter("algorithm").hasValue()) {
+            builder.param("algorithm", indices);
+        }
+
+        new Runner(builder.build()).run();
+    }
+}
@@ -0,0 +1,79 @@
+package com.search.benchmark.jmh;
+
+import com.search.benchmark.algorithms.CompiledPattern;
+import com.search.benchmark.algorithms.CompiledPatternCache;
+import com.search.benchmark.algorithms.PositionCollector;
+import com.search.benchmark.algorithms.StringSearchAlgorithm;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Повторяющиеся запросы: один паттерн по множеству коротких документов.
+ * Сравнивает предобработку на каждый вызов с переиспользованием CompiledPattern.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CompiledPatternBenchmark {
+
+    @Param({"0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15", "16", "17"})
+    public int algorithm;
+
+    @Param({"256"})
+    public int documentLength;
+
+    private static final int DOCUMENTS = 1000;
+
+    private StringSearchAlgorithm engine;
+    private String[] documents;
+    private String pattern;
+    private CompiledPattern compiled;
+    private CompiledPatternCache cache;
+    private PositionCollector collector;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        engine = BenchmarkInputs.algorithm(algorithm);
+        String text = BenchmarkInputs.text("lotr_two_towers.txt");
+        documents = new String[DOCUMENTS];
+        int step = (text.length() - documentLength) / DOCUMENTS;
+        for (int i = 0; i < DOCUMENTS; i++) {
+            documents[i] = text.substring(i * step, i * step + documentLength);
+        }
+        pattern = "Gandalf";
+        compiled = engine.compile(pattern);
+        cache = new CompiledPatternCache(64);
+        collector = new PositionCollector();
+    }
+
+    @Benchmark
+    public int compileEveryCall() {
+        collector.clear();
+        for (String document : documents) {
+            engine.search(document, pattern, collector);
+        }
+        return collector.size();
+    }
+
+    @Benchmark
+    public int precompiled() {
+        collector.clear();
+        for (String document : documents) {
+            compiled.search(document, collector);
+        }
+        return collector.size();
+    }
+
+    @Benchmark
+    public int cached() {
+        collector.clear();
+        for (String document : documents) {
+            cache.get(engine, pattern).search(document, collector);
+        }
+        return collector.size();
+    }
+}
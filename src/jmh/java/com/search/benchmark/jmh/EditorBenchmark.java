@@ -0,0 +1,73 @@
+package com.search.benchmark.jmh;
+
+import com.search.benchmark.algorithms.BoyerMooreSearch;
+import com.search.benchmark.algorithms.CompiledPattern;
+import com.search.benchmark.editor.EditableDocument;
+import com.search.benchmark.editor.LiveMatches;
+import com.search.benchmark.editor.PieceTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Нажатие клавиши в редакторе: вставка символа у курсора и его удаление.
+ * incremental - живые результаты EditableDocument (перепроверка окна правки),
+ * fullRescan - та же правка в PieceTable и полный поиск по документу.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EditorBenchmark {
+
+    @Param({"programming.txt", "lotr_two_towers.txt"})
+    public String corpus;
+
+    @Param({"the", "Gandalf"})
+    public String pattern;
+
+    private EditableDocument document;
+    private LiveMatches live;
+    private PieceTable table;
+    private CompiledPattern compiled;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String text = BenchmarkInputs.text(corpus);
+        document = new EditableDocument(text);
+        live = document.register(pattern, new BoyerMooreSearch());
+        table = new PieceTable(text);
+        compiled = new BoyerMooreSearch().compile(pattern);
+        cursor = text.length() / 2;
+    }
+
+    // Курсор медленно движется по документу, как при наборе
+    private int nextCursor(int length) {
+        cursor += 7;
+        if (cursor >= length) {
+            cursor = 0;
+        }
+        return cursor;
+    }
+
+    @Benchmark
+    public int incremental() {
+        int position = nextCursor(document.length());
+        document.insert(position, "e");
+        int afterInsert = live.count();
+        document.delete(position, 1);
+        return afterInsert + live.count();
+    }
+
+    @Benchmark
+    public int fullRescan() {
+        int position = nextCursor(table.length());
+        table.insert(position, "e");
+        int afterInsert = compiled.count(table.toString());
+        table.delete(position, 1);
+        return afterInsert + compiled.count(table.toString());
+    }
+}
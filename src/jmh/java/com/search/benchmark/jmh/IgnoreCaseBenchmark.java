@@ -0,0 +1,79 @@
+package com.search.benchmark.jmh;
+
+import com.search.benchmark.algorithms.BoyerMooreSearch;
+import com.search.benchmark.algorithms.CompiledPattern;
+import com.search.benchmark.algorithms.KMPSearch;
+import com.search.benchmark.algorithms.PositionCollector;
+import com.search.benchmark.algorithms.RabinKarpSearch;
+import com.search.benchmark.hash.HornerHash;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Поиск без учета регистра: копия текста через toLowerCase против свертки на лету.
+ * gc.alloc.rate.norm показывает, что свертка не выделяет память пропорционально тексту.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IgnoreCaseBenchmark {
+
+    @Param({"shawshank.txt", "lotr_two_towers.txt"})
+    public String corpus;
+
+    @Param({"Algorithm"})
+    public String pattern;
+
+    private String text;
+    private CompiledPattern kmp;
+    private CompiledPattern boyerMoore;
+    private CompiledPattern rabinKarp;
+    private PositionCollector collector;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        text = BenchmarkInputs.text(corpus);
+        kmp = new KMPSearch(true).compile(pattern);
+        boyerMoore = new BoyerMooreSearch(true).compile(pattern);
+        rabinKarp = new RabinKarpSearch(new HornerHash(), true).compile(pattern);
+        collector = new PositionCollector();
+    }
+
+    @Benchmark
+    public int toLowerCaseIndexOf() {
+        String lowerText = text.toLowerCase();
+        String lowerPattern = pattern.toLowerCase();
+        int count = 0;
+        int index = 0;
+        while ((index = lowerText.indexOf(lowerPattern, index)) != -1) {
+            count++;
+            index++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int kmpFolded() {
+        collector.clear();
+        kmp.search(text, collector);
+        return collector.size();
+    }
+
+    @Benchmark
+    public int boyerMooreFolded() {
+        collector.clear();
+        boyerMoore.search(text, collector);
+        return collector.size();
+    }
+
+    @Benchmark
+    public int rabinKarpFolded() {
+        collector.clear();
+        rabinKarp.search(text, collector);
+        return collector.size();
+    }
+}
@@ -0,0 +1,98 @@
+package com.search.benchmark.jmh;
+
+import com.search.benchmark.algorithms.KMPSearch;
+import com.search.benchmark.algorithms.PositionCollector;
+import com.search.benchmark.algorithms.StringSearchAlgorithm;
+import com.search.benchmark.index.FMIndex;
+import com.search.benchmark.index.FMIndexSearch;
+import com.search.benchmark.index.SuffixArray;
+import com.search.benchmark.index.SuffixArraySearch;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Цена построения индекса против выигрыша на одном запросе.
+ * Окупаемость индекса = build / (scan - query) запросов.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IndexBenchmark {
+
+    @Param({"lotr_two_towers.txt", "repeated"})
+    public String corpus;
+
+    @Param({"8", "32"})
+    public int patternLength;
+
+    private String text;
+    private String pattern;
+    private SuffixArray suffixArray;
+    private FMIndex fmIndex;
+    private StringSearchAlgorithm scan;
+    private StringSearchAlgorithm suffixArraySearch;
+    private StringSearchAlgorithm fmIndexSearch;
+    private PositionCollector collector;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        text = BenchmarkInputs.text(corpus);
+        pattern = BenchmarkInputs.pattern(text, patternLength);
+        suffixArray = SuffixArray.build(text);
+        fmIndex = FMIndex.build(text);
+        scan = new KMPSearch();
+        suffixArraySearch = new SuffixArraySearch();
+        fmIndexSearch = new FMIndexSearch();
+        collector = new PositionCollector();
+        // Прогреваем кеш индекса, чтобы запросы не включали построение
+        suffixArraySearch.search(text, pattern, collector);
+        fmIndexSearch.search(text, pattern, collector);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public SuffixArray buildSuffixArray() {
+        return SuffixArray.build(text);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public FMIndex buildFMIndex() {
+        return FMIndex.build(text);
+    }
+
+    @Benchmark
+    public int scanQuery() {
+        collector.clear();
+        scan.search(text, pattern, collector);
+        return collector.size();
+    }
+
+    @Benchmark
+    public int suffixArrayQuery() {
+        collector.clear();
+        suffixArraySearch.search(text, pattern, collector);
+        return collector.size();
+    }
+
+    @Benchmark
+    public int fmIndexQuery() {
+        collector.clear();
+        fmIndexSearch.search(text, pattern, collector);
+        return collector.size();
+    }
+
+    @Benchmark
+    public int suffixArrayCount() {
+        return suffixArray.count(pattern);
+    }
+
+    @Benchmark
+    public int fmIndexCount() {
+        return fmIndex.count(pattern);
+    }
+}
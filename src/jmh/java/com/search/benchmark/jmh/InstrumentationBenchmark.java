@@ -0,0 +1,55 @@
+package com.search.benchmark.jmh;
+
+import com.search.benchmark.algorithms.PositionCollector;
+import com.search.benchmark.algorithms.StringSearchAlgorithm;
+import com.search.benchmark.stats.AlgorithmStats;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Стоимость инструментирования: search(text, pattern) со счетчиками и
+ * AlgorithmStats против быстрого режима search(text, pattern, sink).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class InstrumentationBenchmark {
+
+    @Param({"0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15", "16", "17"})
+    public int algorithm;
+
+    @Param({"lotr_two_towers.txt", "shawshank.txt"})
+    public String corpus;
+
+    @Param({"9"})
+    public int patternLength;
+
+    private StringSearchAlgorithm engine;
+    private String text;
+    private String pattern;
+    private PositionCollector collector;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        engine = BenchmarkInputs.algorithm(algorithm);
+        text = BenchmarkInputs.text(corpus);
+        pattern = BenchmarkInputs.pattern(text, patternLength);
+        collector = new PositionCollector();
+    }
+
+    @Benchmark
+    public AlgorithmStats instrumented() {
+        return engine.search(text, pattern);
+    }
+
+    @Benchmark
+    public int fast() {
+        collector.clear();
+        engine.search(text, pattern, collector);
+        return collector.size();
+    }
+}
@@ -0,0 +1,80 @@
+package com.search.benchmark.jmh;
+
+import com.search.benchmark.algorithms.CompiledPattern;
+import com.search.benchmark.algorithms.MatchCounter;
+import com.search.benchmark.algorithms.StringSearchAlgorithm;
+import com.search.benchmark.metrics.MeteredSearch;
+import com.search.benchmark.metrics.MetricsRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Накладные расходы метрик: скомпилированный поиск без обертки, с MeteredSearch
+ * без выборок и с инструментированной выборкой каждого 1000-го вызова.
+ * Короткий текст показывает стоимость nanoTime и гистограммы на вызов.
+ * Варианты *Shared идут в 4 потока через один общий MeteredSearch (Scope.Benchmark):
+ * все потоки пишут в одни и те же счетчики и интервалы гистограммы.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsOverheadBenchmark {
+
+    @Param({"8", "9"})
+    public int algorithm;
+
+    @Param({"programming.txt", "lotr_two_towers.txt"})
+    public String corpus;
+
+    private String text;
+    private CompiledPattern raw;
+    private CompiledPattern metered;
+    private CompiledPattern sampled;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StringSearchAlgorithm engine = BenchmarkInputs.algorithm(algorithm);
+        text = BenchmarkInputs.text(corpus);
+        String pattern = BenchmarkInputs.pattern(text, 8);
+        raw = engine.compile(pattern);
+        metered = new MeteredSearch(engine, new MetricsRegistry(), 0).compile(pattern);
+        sampled = new MeteredSearch(engine, new MetricsRegistry(), 1000).compile(pattern);
+    }
+
+    @Benchmark
+    public int raw() {
+        MatchCounter counter = new MatchCounter();
+        raw.search(text, counter);
+        return counter.getCount();
+    }
+
+    @Benchmark
+    public int metered() {
+        MatchCounter counter = new MatchCounter();
+        metered.search(text, counter);
+        return counter.getCount();
+    }
+
+    @Benchmark
+    public int meteredSampled() {
+        MatchCounter counter = new MatchCounter();
+        sampled.search(text, counter);
+        return counter.getCount();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int rawShared() {
+        return raw();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int meteredShared() {
+        return metered();
+    }
+}
@@ -0,0 +1,79 @@
+package com.search.benchmark.jmh;
+
+import com.search.benchmark.algorithms.AhoCorasickSearch;
+import com.search.benchmark.algorithms.CompiledPatternSet;
+import com.search.benchmark.algorithms.KMPSearch;
+import com.search.benchmark.algorithms.MultiPatternRabinKarpSearch;
+import com.search.benchmark.algorithms.MultiPatternSearchAlgorithm;
+import com.search.benchmark.algorithms.RepeatedSearch;
+import com.search.benchmark.hash.HornerHash;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Один проход Ахо-Корасик против N проходов KMP в зависимости от числа паттернов.
+ * Паттерны - различные слова длиной от 4 символов из того же корпуса.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MultiPatternBenchmark {
+
+    @Param({"aho-corasick", "rabin-karp", "kmp-repeated"})
+    public String engine;
+
+    @Param({"shawshank.txt", "lotr_two_towers.txt"})
+    public String corpus;
+
+    @Param({"1", "2", "4", "8", "16", "64", "256", "1024"})
+    public int patternCount;
+
+    private String text;
+    private CompiledPatternSet compiled;
+    private int found;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        text = BenchmarkInputs.text(corpus);
+        MultiPatternSearchAlgorithm algorithm;
+        switch (engine) {
+            case "aho-corasick":
+                algorithm = new AhoCorasickSearch();
+                break;
+            case "rabin-karp":
+                algorithm = new MultiPatternRabinKarpSearch(new HornerHash());
+                break;
+            default:
+                algorithm = new RepeatedSearch(new KMPSearch());
+        }
+        compiled = algorithm.compile(words(text, patternCount));
+    }
+
+    static List<String> words(String text, int count) {
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : text.split("[^\\p{L}]+")) {
+            if (word.length() >= 4) {
+                words.add(word);
+                if (words.size() == count) {
+                    break;
+                }
+            }
+        }
+        return new ArrayList<>(words);
+    }
+
+    @Benchmark
+    public int search() {
+        found = 0;
+        compiled.search(text, (patternId, position) -> found++);
+        return found;
+    }
+}
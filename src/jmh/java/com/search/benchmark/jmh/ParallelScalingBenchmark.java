@@ -0,0 +1,67 @@
+package com.search.benchmark.jmh;
+
+import com.search.benchmark.algorithms.CompiledPattern;
+import com.search.benchmark.algorithms.ParallelSearch;
+import com.search.benchmark.algorithms.PositionCollector;
+import com.search.benchmark.generators.CorpusGenerator;
+import com.search.benchmark.generators.ZipfWordModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Масштабирование ParallelSearch от 1 до N потоков.
+ * Для синтетического текста в 1 ГБ:
+ * java -jar target/benchmarks.jar ParallelScalingBenchmark -p corpus=synthetic
+ *      -p syntheticLength=1073741824 -jvmArgs -Xmx6g
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelScalingBenchmark {
+
+    @Param({"0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15", "16", "17"})
+    public int algorithm;
+
+    @Param({"lotr_two_towers.txt", "shawshank.txt", "synthetic"})
+    public String corpus;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    @Param({"67108864"})
+    public int syntheticLength;
+
+    private ForkJoinPool pool;
+    private CompiledPattern compiled;
+    private String text;
+    private PositionCollector collector;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        text = "synthetic".equals(corpus)
+                ? new CorpusGenerator(new ZipfWordModel(ZipfWordModel.vocabulary(
+                        CorpusGenerator.trainingText(), 20_000), 1.0), 42, "algorithm", 1000).generate(syntheticLength)
+                : BenchmarkInputs.text(corpus);
+        pool = new ForkJoinPool(threads);
+        ParallelSearch search = new ParallelSearch(BenchmarkInputs.algorithm(algorithm), pool);
+        compiled = search.compile("algorithm");
+        collector = new PositionCollector();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int search() {
+        collector.clear();
+        compiled.search(text, collector);
+        return collector.size();
+    }
+}
@@ -0,0 +1,67 @@
+package com.search.benchmark.jmh;
+
+import com.search.benchmark.algorithms.CompiledPattern;
+import com.search.benchmark.algorithms.StringSearchAlgorithm;
+import com.search.benchmark.stats.AlgorithmStats;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Режимы запроса на больших корпусах: полный инструментированный поиск
+ * против contains / indexOf / firstN / count с ранней остановкой.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QueryModeBenchmark {
+
+    @Param({"0", "8", "9"})
+    public int algorithm;
+
+    @Param({"lotr_two_towers.txt", "shawshank.txt"})
+    public String corpus;
+
+    // Частый паттерн, редкий и отсутствующий
+    @Param({"the", "Gandalf", "substring"})
+    public String pattern;
+
+    private String text;
+    private StringSearchAlgorithm engine;
+    private CompiledPattern compiled;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        engine = BenchmarkInputs.algorithm(algorithm);
+        text = BenchmarkInputs.text(corpus);
+        compiled = engine.compile(pattern);
+    }
+
+    @Benchmark
+    public AlgorithmStats fullSearch() {
+        return engine.search(text, pattern);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return compiled.contains(text);
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return compiled.indexOf(text);
+    }
+
+    @Benchmark
+    public int[] firstTen() {
+        return compiled.firstN(text, 10);
+    }
+
+    @Benchmark
+    public int count() {
+        return compiled.count(text);
+    }
+}
@@ -0,0 +1,47 @@
+package com.search.benchmark.jmh;
+
+import com.search.benchmark.algorithms.StringSearchAlgorithm;
+import com.search.benchmark.stats.AlgorithmStats;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение всех алгоритмов из Main.createAlgorithms() на корпусах texts/
+ * и синтетических текстах. BenchmarkRunner подставляет индексы сам, список @Param
+ * нужен для запуска из CLI JMH или IDE.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SearchBenchmark {
+
+    @Param({"0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15", "16", "17"})
+    public int algorithm;
+
+    @Param({"programming.txt", "lotr_two_towers.txt", "java_algorithms.txt", "shawshank.txt",
+            "random", "patterns", "repeated", "zipf", "markov", "adversarial"})
+    public String corpus;
+
+    @Param({"4", "9", "32"})
+    public int patternLength;
+
+    private StringSearchAlgorithm engine;
+    private String text;
+    private String pattern;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        engine = BenchmarkInputs.algorithm(algorithm);
+        text = BenchmarkInputs.text(corpus);
+        pattern = BenchmarkInputs.pattern(text, patternLength);
+    }
+
+    @Benchmark
+    public AlgorithmStats search() {
+        return engine.search(text, pattern);
+    }
+}
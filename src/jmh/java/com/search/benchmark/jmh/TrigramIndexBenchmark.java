@@ -0,0 +1,71 @@
+package com.search.benchmark.jmh;
+
+import com.search.benchmark.algorithms.BoyerMooreSearch;
+import com.search.benchmark.algorithms.CompiledPattern;
+import com.search.benchmark.algorithms.PositionCollector;
+import com.search.benchmark.generators.TextGenerator;
+import com.search.benchmark.index.TrigramIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Запрос по коллекции документов: индекс триграмм против сканирования каждого документа.
+ * Время запроса через индекс должно слабо зависеть от числа документов.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TrigramIndexBenchmark {
+
+    @Param({"1000", "4000", "16000"})
+    public int documents;
+
+    @Param({"1000"})
+    public int documentLength;
+
+    private String[] texts;
+    private TrigramIndex index;
+    private String pattern;
+    private CompiledPattern compiled;
+    private PositionCollector collector;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        texts = new String[documents];
+        index = new TrigramIndex();
+        String alphabet = TextGenerator.getEnglishAlphabet();
+        for (int i = 0; i < documents; i++) {
+            texts[i] = TextGenerator.generateRandomText(documentLength, alphabet);
+            index.addDocument("doc" + i, texts[i]);
+        }
+        // Паттерн из одного документа: редкий, как имя или идентификатор
+        pattern = BenchmarkInputs.pattern(texts[documents / 2], 12);
+        compiled = new BoyerMooreSearch().compile(pattern);
+        collector = new PositionCollector();
+    }
+
+    @Benchmark
+    public int scanAll() {
+        collector.clear();
+        for (String text : texts) {
+            compiled.search(text, collector);
+        }
+        return collector.size();
+    }
+
+    @Benchmark
+    public int indexed() {
+        collector.clear();
+        index.search(pattern, (document, position) -> collector.onMatch(position));
+        return collector.size();
+    }
+
+    @Benchmark
+    public int candidatesOnly() {
+        return index.candidates(pattern).length;
+    }
+}
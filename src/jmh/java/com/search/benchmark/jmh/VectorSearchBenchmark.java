@@ -0,0 +1,59 @@
+package com.search.benchmark.jmh;
+
+import com.search.benchmark.algorithms.BoyerMooreSearch;
+import com.search.benchmark.algorithms.CompiledPattern;
+import com.search.benchmark.algorithms.HorspoolSearch;
+import com.search.benchmark.algorithms.StringSearchAlgorithm;
+import com.search.benchmark.algorithms.VectorSearch;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SIMD-фильтр против Бойера-Мура и Хорспула на английских корпусах с короткими паттернами.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class VectorSearchBenchmark {
+
+    @Param({"vector", "boyer-moore", "horspool"})
+    public String engine;
+
+    @Param({"lotr_two_towers.txt", "shawshank.txt", "java_algorithms.txt"})
+    public String corpus;
+
+    @Param({"algorithm", "the", "Frodo", "prison"})
+    public String pattern;
+
+    private String text;
+    private CompiledPattern compiled;
+    private int found;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        text = BenchmarkInputs.text(corpus);
+        StringSearchAlgorithm algorithm;
+        switch (engine) {
+            case "vector":
+                algorithm = new VectorSearch();
+                break;
+            case "horspool":
+                algorithm = new HorspoolSearch();
+                break;
+            default:
+                algorithm = new BoyerMooreSearch();
+        }
+        compiled = algorithm.compile(pattern);
+    }
+
+    @Benchmark
+    public int search() {
+        found = 0;
+        compiled.search(text, position -> found++);
+        return found;
+    }
+}
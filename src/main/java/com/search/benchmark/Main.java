@@ -1,17 +1,28 @@
 package com.search.benchmark;
 
 import com.search.benchmark.algorithms.*;
+import com.search.benchmark.auto.*;
+import com.search.benchmark.batch.*;
 import com.search.benchmark.hash.*;
 import com.search.benchmark.generators.*;
+import com.search.benchmark.metrics.*;
+import com.search.benchmark.report.*;
 import com.search.benchmark.stats.*;
 import java.util.*;
+import java.util.stream.*;
 import java.io.*;
 import java.nio.file.*;
 
 public class Main {
 
+    // Ключевые слова для сравнения поиска набора паттернов
+    private static final List<String> KEYWORDS = List.of(
+            "algorithm", "search", "pattern", "text", "the", "and",
+            "ring", "prison", "программист", "код"
+    );
+
     // Метод для чтения текста из файла
-    private static String readTextFromFile(String filename) {
+    public static String readTextFromFile(String filename) {
         try {
             // Путь к файлу в папке texts
             Path filePath = Paths.get("texts", filename);
@@ -36,8 +47,14 @@ public class Main {
         }
     }
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         System.out.println("=== ИССЛЕДОВАНИЕ АЛГОРИТМОВ ПОИСКА ПОДСТРОК ===\n");
+
+        // Пересобрать профиль AutoSearch до создания алгоритмов
+        if (Arrays.asList(args).contains("--calibrate")) {
+            Calibrator.main(new String[0]);
+            System.out.println();
+        }
         System.out.println("Анализ влияния хеш-функций на алгоритм Рабина-Карпа\n");
 
         // Создаем тестовые случаи из файлов
@@ -46,49 +63,91 @@ public class Main {
         // Создаем алгоритмы для тестирования
         List<StringSearchAlgorithm> algorithms = createAlgorithms();
 
-        // Запускаем тесты
-        List<BenchmarkResult> results = new ArrayList<>();
+        // Метрики движков, доступные через JMX (jconsole) во время прогона
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.registerMBeans();
 
-        for (TestCase testCase : testCases) {
-            System.out.println("\n" + "=".repeat(80));
-            System.out.println("ТЕСТ: " + testCase);
-            System.out.println("=".repeat(80));
+        // --export=файл.csv|.jsonl пишет каждый запуск для RegressionComparator,
+        // --repeat=N повторяет запуски, чтобы сравнение имело доверительные интервалы
+        String exportPath = option(args, "--export", null);
+        int repetitions = Math.max(1, Integer.parseInt(option(args, "--repeat", "1")));
 
-            BenchmarkResult benchmarkResult = new BenchmarkResult(
-                    testCase.getName(),
-                    testCase.getText(),
-                    testCase.getPattern()
-            );
+        // try-with-resources сбрасывает и закрывает файл даже при исключении посреди прогона
+        try (ResultWriter exporter = exportPath == null ? null
+                : ResultWriter.open(Paths.get(exportPath), EnvironmentInfo.current())) {
+            // Запускаем тесты
+            List<BenchmarkResult> results = new ArrayList<>();
 
-            // Запускаем каждый алгоритм
-            for (StringSearchAlgorithm algorithm : algorithms) {
-                System.out.print("  Запуск " + algorithm.getName() + "... ");
+            for (TestCase testCase : testCases) {
+                System.out.println("\n" + "=".repeat(80));
+                System.out.println("ТЕСТ: " + testCase);
+                System.out.println("=".repeat(80));
 
-                AlgorithmStats stats = algorithm.search(
+                BenchmarkResult benchmarkResult = new BenchmarkResult(
+                        testCase.getName(),
                         testCase.getText(),
                         testCase.getPattern()
                 );
 
-                benchmarkResult.addAlgorithmStats(stats);
-                System.out.println("✓");
+                // Запускаем каждый алгоритм
+                for (StringSearchAlgorithm algorithm : algorithms) {
+                    System.out.print("  Запуск " + algorithm.getName() + "... ");
+
+                    AlgorithmStats stats = null;
+                    for (int repetition = 0; repetition < repetitions; repetition++) {
+                        stats = algorithm.search(
+                                testCase.getText(),
+                                testCase.getPattern()
+                        );
+                        registry.forEngine(algorithm.getName())
+                                .recordSample(stats, testCase.getText().length());
+                        if (exporter != null) {
+                            exporter.write(ResultRow.of(testCase.getName(), repetition,
+                                    testCase.getText().length(), testCase.getPattern().length(), stats));
+                        }
+                    }
+
+                    benchmarkResult.addAlgorithmStats(stats);
+                    System.out.println("✓");
+                }
+
+                results.add(benchmarkResult);
+                benchmarkResult.printSummary();
+
+                // Дополнительная информация о тексте
+                System.out.println("\nДополнительная информация:");
+                System.out.println("-".repeat(40));
+                System.out.println("Длина текста: " + testCase.getText().length() + " символов");
+                System.out.println("Паттерн: '" + testCase.getPattern() + "' (длина: " + testCase.getPattern().length() + ")");
+
+                // Подсчет вхождений паттерна в тексте (примерно)
+                int occurrences = countOccurrences(testCase.getText(), testCase.getPattern());
+                System.out.println("Примерное количество вхождений: " + occurrences);
             }
 
-            results.add(benchmarkResult);
-            benchmarkResult.printSummary();
+            // Выводим общую сводку
+            printOverallSummary(results);
+            registry.snapshot().print(System.out);
+        }
+        if (exportPath != null) {
+            System.out.println("\nРезультаты сохранены в " + exportPath);
+        }
 
-            // Дополнительная информация о тексте
-            System.out.println("\nДополнительная информация:");
-            System.out.println("-".repeat(40));
-            System.out.println("Длина текста: " + testCase.getText().length() + " символов");
-            System.out.println("Паттерн: '" + testCase.getPattern() + "' (длина: " + testCase.getPattern().length() + ")");
+        // Поиск набора ключевых слов за один проход
+        runMultiPatternComparison(testCases);
 
-            // Подсчет вхождений паттерна в тексте (примерно)
-            int occurrences = countOccurrences(testCase.getText(), testCase.getPattern());
-            System.out.println("Примерное количество вхождений: " + occurrences);
-        }
+        // Пакетное выполнение заданий (текст, ключевое слово) пулом потоков
+        runBatchComparison(testCases);
+    }
 
-        // Выводим общую сводку
-        printOverallSummary(results);
+    // Значение аргумента вида --name=value
+    private static String option(String[] args, String name, String defaultValue) {
+        for (String arg : args) {
+            if (arg.startsWith(name + "=")) {
+                return arg.substring(name.length() + 1);
+            }
+        }
+        return defaultValue;
     }
 
     private static List<TestCase> createTestCasesFromFiles() {
@@ -151,21 +210,19 @@ public class Main {
     }
 
     private static int countOccurrences(String text, String pattern) {
-        // Простой подсчет вхождений (без учета регистра)
-        String lowerText = text.toLowerCase();
-        String lowerPattern = pattern.toLowerCase();
-        int count = 0;
-        int index = 0;
-
-        while ((index = lowerText.indexOf(lowerPattern, index)) != -1) {
-            count++;
-            index += pattern.length();
-        }
-
-        return count;
+        // Простой подсчет непересекающихся вхождений без учета регистра, без копии текста
+        int[] count = new int[1];
+        int[] nextAllowed = new int[1];
+        new BoyerMooreSearch(true).search(text, pattern, position -> {
+            if (position >= nextAllowed[0]) {
+                count[0]++;
+                nextAllowed[0] = position + pattern.length();
+            }
+        });
+        return count[0];
     }
 
-    private static List<StringSearchAlgorithm> createAlgorithms() {
+    public static List<StringSearchAlgorithm> createAlgorithms() {
         List<StringSearchAlgorithm> algorithms = new ArrayList<>();
 
         // Наивный алгоритм (базовое сравнение)
@@ -175,11 +232,34 @@ public class Main {
         algorithms.add(new RabinKarpSearch(new SimpleHash()));
         algorithms.add(new RabinKarpSearch(new HornerHash()));
         algorithms.add(new RabinKarpSearch(new XORHash()));
+        algorithms.add(new RabinKarpSearch(new MersenneHash()));
+        algorithms.add(new RabinKarpSearch(new DJB2Hash()));
+        algorithms.add(new RabinKarpSearch(new BuzHash()));
+        algorithms.add(new RabinKarpSearch(new GearHash()));
 
         // Другие алгоритмы для сравнения
         algorithms.add(new BoyerMooreSearch());
         algorithms.add(new KMPSearch());
 
+        // Семейство Бойера-Мура
+        algorithms.add(new HorspoolSearch());
+        algorithms.add(new SundaySearch());
+        algorithms.add(new GalilBoyerMooreSearch());
+        algorithms.add(new BoyerMooreSearch(ShiftTable.Kind.HASHED));
+
+        // Two-Way: линейный в худшем случае при O(1) дополнительной памяти
+        algorithms.add(new TwoWaySearch());
+
+        // Битовый параллелизм на масках символов. Паттерны тестов - обычные строки,
+        // поэтому синтаксис '?' и [..] здесь выключен
+        algorithms.add(new ShiftOrSearch(false, false));
+
+        // SIMD-фильтр по первому и последнему символу (java --add-modules jdk.incubator.vector)
+        algorithms.add(new VectorSearch());
+
+        // Выбор алгоритма по профилю калибровки (calibration.properties)
+        algorithms.add(new AutoSearch());
+
         return algorithms;
     }
 
@@ -229,5 +309,64 @@ public class Main {
         }
     }
 
+    private static void runMultiPatternComparison(List<TestCase> testCases) {
+        System.out.println("\n\n" + "=".repeat(80));
+        System.out.println("ПОИСК НАБОРА ПАТТЕРНОВ (" + KEYWORDS.size() + " ключевых слов)");
+        System.out.println("=".repeat(80));
+
+        List<MultiPatternSearchAlgorithm> algorithms = List.of(
+                new AhoCorasickSearch(),
+                new MultiPatternRabinKarpSearch(new HornerHash()),
+                new RepeatedSearch(new KMPSearch())
+        );
+
+        System.out.printf("\n%-50s %-25s %-12s %-15s %-10s\n",
+                "ТЕСТ", "АЛГОРИТМ", "ВРЕМЯ (мс)", "ПРОВЕРОК", "НАЙДЕНО");
+        System.out.println("-".repeat(115));
+
+        for (TestCase testCase : testCases) {
+            for (MultiPatternSearchAlgorithm algorithm : algorithms) {
+                MultiPatternStats stats = algorithm.search(testCase.getText(), KEYWORDS);
+                System.out.printf("%-50s %-25s %-12.3f %-,15d %-10d\n",
+                        testCase.getName(), stats.getAlgorithmName(), stats.getTimeMillis(),
+                        stats.getCharChecks(), stats.getFoundCount());
+            }
+        }
+    }
 
-}
\ No newline at end of file
+    private static void runBatchComparison(List<TestCase> testCases) {
+        System.out.println("\n\n" + "=".repeat(80));
+        System.out.println("ПАКЕТНОЕ ВЫПОЛНЕНИЕ ЗАДАНИЙ");
+        System.out.println("=".repeat(80));
+
+        // Каждый текст с каждым ключевым словом, по несколько раз
+        List<TestCase> jobs = new ArrayList<>();
+        for (int round = 0; round < 20; round++) {
+            for (TestCase testCase : testCases) {
+                for (String keyword : KEYWORDS) {
+                    jobs.add(new TestCase(testCase.getName(), testCase.getText(), keyword));
+                }
+            }
+        }
+
+        int workers = Runtime.getRuntime().availableProcessors();
+        List<BatchSearchExecutor> executors = List.of(
+                new BatchSearchExecutor(new BoyerMooreSearch(), BatchSearchExecutor.ThreadMode.PLATFORM,
+                        workers, workers * 16, false),
+                new BatchSearchExecutor(new BoyerMooreSearch(), BatchSearchExecutor.ThreadMode.PLATFORM,
+                        workers, workers * 16, true),
+                new BatchSearchExecutor(new BoyerMooreSearch(), BatchSearchExecutor.ThreadMode.VIRTUAL,
+                        workers, workers * 16, true)
+        );
+
+        for (BatchSearchExecutor executor : executors) {
+            BatchRun run = executor.submit(jobs);
+            long found;
+            try (Stream<JobStats> results = run.results()) {
+                found = results.mapToLong(JobStats::getFoundCount).sum();
+            }
+            run.getReport().print();
+            System.out.printf("Найдено вхождений: %,d\n", found);
+        }
+    }
+}
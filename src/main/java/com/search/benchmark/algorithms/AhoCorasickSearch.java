@@ -0,0 +1,159 @@
+package com.search.benchmark.algorithms;
+
+import com.search.benchmark.stats.MultiPatternStats;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ахо-Корасик: бор паттернов с суффиксными ссылками, достроенный до полного автомата.
+ * Переходы хранятся в плотной таблице [состояние * σ + символ], где σ - число
+ * различных символов в паттернах (через CharIndexMap). Символ вне алфавита
+ * переводит автомат в корень. Текст проходится один раз при любом числе паттернов.
+ */
+public class AhoCorasickSearch implements MultiPatternSearchAlgorithm {
+
+    @Override
+    public MultiPatternStats search(String text, List<String> patterns) {
+        MultiPatternStats stats = new MultiPatternStats(getName(), patterns.size());
+        long startTime = System.nanoTime();
+
+        Automaton automaton = new Automaton(patterns);
+        automaton.search(text, (patternId, position) -> stats.addMatch(patternId, position), stats);
+
+        stats.setTimeNanos(System.nanoTime() - startTime);
+        return stats;
+    }
+
+    @Override
+    public CompiledPatternSet compile(List<String> patterns) {
+        return new Automaton(patterns);
+    }
+
+    private static final class Automaton implements CompiledPatternSet {
+        private final String[] patterns;
+        private final CharIndexMap alphabet;
+        private final int sigma;
+        private final int[] delta;
+        // Первый паттерн, заканчивающийся в состоянии, и цепочка одинаковых паттернов
+        private final int[] firstOutput;
+        private final int[] nextSamePattern;
+        // Ближайшее по суффиксным ссылкам состояние, в котором заканчивается паттерн
+        private final int[] dictionaryLink;
+
+        Automaton(List<String> patternList) {
+            patterns = patternList.toArray(new String[0]);
+
+            int maxStates = 1;
+            alphabet = new CharIndexMap();
+            for (String pattern : patterns) {
+                maxStates += pattern.length();
+                for (int i = 0; i < pattern.length(); i++) {
+                    alphabet.add(pattern.charAt(i));
+                }
+            }
+            sigma = Math.max(1, alphabet.size());
+
+            int[] table = new int[maxStates * sigma];
+            Arrays.fill(table, -1);
+            int[] output = new int[maxStates];
+            Arrays.fill(output, -1);
+            nextSamePattern = new int[patterns.length];
+            Arrays.fill(nextSamePattern, -1);
+
+            // Строим бор
+            int states = 1;
+            for (int id = 0; id < patterns.length; id++) {
+                String pattern = patterns[id];
+                if (pattern.isEmpty()) {
+                    continue;
+                }
+                int state = 0;
+                for (int i = 0; i < pattern.length(); i++) {
+                    int cell = state * sigma + alphabet.get(pattern.charAt(i));
+                    if (table[cell] < 0) {
+                        table[cell] = states++;
+                    }
+                    state = table[cell];
+                }
+                nextSamePattern[id] = output[state];
+                output[state] = id;
+            }
+
+            delta = Arrays.copyOf(table, states * sigma);
+            firstOutput = Arrays.copyOf(output, states);
+            dictionaryLink = new int[states];
+            Arrays.fill(dictionaryLink, -1);
+
+            // Обход в ширину: суффиксные ссылки и достройка переходов
+            int[] fail = new int[states];
+            int[] queue = new int[states];
+            int head = 0;
+            int tail = 0;
+            for (int c = 0; c < sigma; c++) {
+                int next = delta[c];
+                if (next < 0) {
+                    delta[c] = 0;
+                } else {
+                    fail[next] = 0;
+                    queue[tail++] = next;
+                }
+            }
+            while (head < tail) {
+                int state = queue[head++];
+                int failState = fail[state];
+                dictionaryLink[state] = firstOutput[failState] >= 0 ? failState : dictionaryLink[failState];
+                for (int c = 0; c < sigma; c++) {
+                    int cell = state * sigma + c;
+                    int next = delta[cell];
+                    if (next < 0) {
+                        delta[cell] = delta[failState * sigma + c];
+                    } else {
+                        fail[next] = delta[failState * sigma + c];
+                        queue[tail++] = next;
+                    }
+                }
+            }
+        }
+
+        @Override
+        public int size() {
+            return patterns.length;
+        }
+
+        @Override
+        public String getPattern(int patternId) {
+            return patterns[patternId];
+        }
+
+        @Override
+        public void search(String text, MultiMatchSink sink) {
+            search(text, sink, null);
+        }
+
+        void search(String text, MultiMatchSink sink, MultiPatternStats stats) {
+            int n = text.length();
+            int state = 0;
+
+            for (int i = 0; i < n; i++) {
+                int c = alphabet.get(text.charAt(i));
+                state = c < 0 ? 0 : delta[state * sigma + c];
+                if (stats != null) {
+                    stats.incrementCharChecks();
+                }
+
+                int output = firstOutput[state] >= 0 ? state : dictionaryLink[state];
+                while (output >= 0) {
+                    for (int id = firstOutput[output]; id >= 0; id = nextSamePattern[id]) {
+                        sink.onMatch(id, i - patterns[id].length() + 1);
+                    }
+                    output = dictionaryLink[output];
+                }
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Ахо-Корасик";
+    }
+}
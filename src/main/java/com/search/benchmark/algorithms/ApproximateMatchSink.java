@@ -0,0 +1,12 @@
+package com.search.benchmark.algorithms;
+
+// Получатель приближенных вхождений: позиция и расстояние до паттерна
+@FunctionalInterface
+public interface ApproximateMatchSink {
+    void onMatch(int position, int distance);
+
+    // true - поиск можно прекратить, как в MatchSink
+    default boolean isDone() {
+        return false;
+    }
+}
@@ -0,0 +1,280 @@
+package com.search.benchmark.algorithms;
+
+import com.search.benchmark.stats.ApproximateStats;
+
+import java.util.Arrays;
+
+/**
+ * Приближенный поиск с не более чем maxDistance ошибками.
+ * EDIT - редакционное расстояние, битовые векторы Майерса (блоки по 64 строки DP),
+ * позиция вхождения - индекс за его последним символом, т.к. начало при вставках
+ * и удалениях неоднозначно.
+ * HAMMING - только замены, Shift-Add: счетчики несовпадений в полях по B бит
+ * с битом переполнения, позиция - начало окна.
+ */
+public class ApproximateSearch implements ApproximateSearchAlgorithm {
+
+    public enum Mode {
+        EDIT("редакционное"),
+        HAMMING("Хэмминг");
+
+        private final String title;
+
+        Mode(String title) {
+            this.title = title;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+    }
+
+    private final Mode mode;
+    private final int maxDistance;
+
+    public ApproximateSearch(Mode mode, int maxDistance) {
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException("Расстояние должно быть неотрицательным: " + maxDistance);
+        }
+        this.mode = mode;
+        this.maxDistance = maxDistance;
+    }
+
+    @Override
+    public ApproximateStats search(String text, String pattern) {
+        ApproximateStats stats = new ApproximateStats(getName(), maxDistance);
+        long startTime = System.nanoTime();
+
+        compileApproximate(pattern).search(text, stats::addMatch);
+        // Одно обновление битовых векторов на символ текста
+        stats.addCharChecks(text.length());
+
+        stats.setTimeNanos(System.nanoTime() - startTime);
+        return stats;
+    }
+
+    @Override
+    public void search(String text, String pattern, ApproximateMatchSink sink) {
+        compileApproximate(pattern).search(text, sink);
+    }
+
+    private Compiled compileApproximate(String pattern) {
+        return mode == Mode.EDIT ? new Myers(pattern, maxDistance) : new ShiftAdd(pattern, maxDistance);
+    }
+
+    private abstract static class Compiled {
+        final String pattern;
+        final int k;
+        final CharIndexMap index = new CharIndexMap();
+
+        Compiled(String pattern, int k) {
+            this.pattern = pattern;
+            this.k = k;
+            for (int i = 0; i < pattern.length(); i++) {
+                index.add(pattern.charAt(i));
+            }
+        }
+
+        // Возвращает false, если sink попросил остановиться
+        abstract boolean search(String text, ApproximateMatchSink sink);
+    }
+
+    private static final class Myers extends Compiled {
+        private final int m;
+        private final int blocks;
+        // peq[(индекс символа + 1) * blocks + b]: биты строк блока b, где паттерн равен символу
+        private final long[] peq;
+
+        Myers(String pattern, int k) {
+            super(pattern, k);
+            m = pattern.length();
+            blocks = Math.max(1, (m + 63) >>> 6);
+            peq = new long[(index.size() + 1) * blocks];
+            for (int i = 0; i < m; i++) {
+                peq[(index.get(pattern.charAt(i)) + 1) * blocks + (i >>> 6)] |= 1L << i;
+            }
+        }
+
+        @Override
+        boolean search(String text, ApproximateMatchSink sink) {
+            if (m == 0) {
+                return true;
+            }
+            // Пустое окно уже в пределах k: не сообщаем, вхождение должно быть непустым
+            return blocks == 1 ? searchSingle(text, sink) : searchBlocks(text, sink);
+        }
+
+        private boolean searchSingle(String text, ApproximateMatchSink sink) {
+            int n = text.length();
+            long high = 1L << (m - 1);
+            long pv = ~0L;
+            long mv = 0;
+            int score = m;
+            for (int j = 0; j < n; j++) {
+                long eq = peq[index.get(text.charAt(j)) + 1];
+                long xv = eq | mv;
+                long xh = (((eq & pv) + pv) ^ pv) | eq;
+                long ph = mv | ~(xh | pv);
+                long mh = pv & xh;
+                if ((ph & high) != 0) {
+                    score++;
+                } else if ((mh & high) != 0) {
+                    score--;
+                }
+                // Начало вхождения свободно: в строку 0 приходит горизонтальная разность 0
+                ph <<= 1;
+                mh <<= 1;
+                pv = mh | ~(xv | ph);
+                mv = ph & xv;
+                if (score <= k) {
+                    sink.onMatch(j + 1, score);
+                    if (sink.isDone()) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private boolean searchBlocks(String text, ApproximateMatchSink sink) {
+            int n = text.length();
+            int last = blocks - 1;
+            long lastHigh = 1L << ((m - 1) & 63);
+            long[] pvs = new long[blocks];
+            long[] mvs = new long[blocks];
+            Arrays.fill(pvs, ~0L);
+            int score = m;
+            for (int j = 0; j < n; j++) {
+                int base = (index.get(text.charAt(j)) + 1) * blocks;
+                int hin = 0;
+                for (int b = 0; b < blocks; b++) {
+                    long pv = pvs[b];
+                    long mv = mvs[b];
+                    long eq = peq[base + b];
+                    long xv = eq | mv;
+                    if (hin < 0) {
+                        eq |= 1;
+                    }
+                    long xh = (((eq & pv) + pv) ^ pv) | eq;
+                    long ph = mv | ~(xh | pv);
+                    long mh = pv & xh;
+
+                    long high = b == last ? lastHigh : 1L << 63;
+                    int hout = (ph & high) != 0 ? 1 : (mh & high) != 0 ? -1 : 0;
+
+                    ph <<= 1;
+                    mh <<= 1;
+                    if (hin < 0) {
+                        mh |= 1;
+                    } else if (hin > 0) {
+                        ph |= 1;
+                    }
+                    pvs[b] = mh | ~(xv | ph);
+                    mvs[b] = ph & xv;
+                    hin = hout;
+                }
+                score += hin;
+                if (score <= k) {
+                    sink.onMatch(j + 1, score);
+                    if (sink.isDone()) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class ShiftAdd extends Compiled {
+        private final int m;
+        private final int bits;
+        private final int fieldsPerWord;
+        private final int words;
+        private final long fieldMask;
+        private final long usedMask;
+        private final long overflowMask;
+        private final int base;
+        // mismatch[(индекс символа + 1) * words + w]: 1 в полях позиций, где символ не равен паттерну
+        private final long[] mismatch;
+
+        ShiftAdd(String pattern, int k) {
+            super(pattern, k);
+            m = pattern.length();
+            // Значения счетчика 0..2^(B-1)-1, старший бит поля - переполнение (больше k ошибок)
+            bits = 65 - Long.numberOfLeadingZeros(k + 1);
+            fieldsPerWord = 64 / bits;
+            words = Math.max(1, (m + fieldsPerWord - 1) / fieldsPerWord);
+            fieldMask = (1L << bits) - 1;
+            usedMask = fieldsPerWord * bits == 64 ? ~0L : (1L << (fieldsPerWord * bits)) - 1;
+            long overflow = 0;
+            for (int f = 0; f < fieldsPerWord; f++) {
+                overflow |= 1L << (f * bits + bits - 1);
+            }
+            overflowMask = overflow;
+            base = (1 << (bits - 1)) - (k + 1);
+
+            mismatch = new long[(index.size() + 1) * words];
+            for (int c = 0; c <= index.size(); c++) {
+                for (int i = 0; i < m; i++) {
+                    boolean equal = c > 0 && index.get(pattern.charAt(i)) + 1 == c;
+                    if (!equal) {
+                        mismatch[c * words + i / fieldsPerWord] |= 1L << ((i % fieldsPerWord) * bits);
+                    }
+                }
+            }
+        }
+
+        @Override
+        boolean search(String text, ApproximateMatchSink sink) {
+            int n = text.length();
+            if (m == 0 || n < m) {
+                return true;
+            }
+            int lastWord = (m - 1) / fieldsPerWord;
+            int lastShift = ((m - 1) % fieldsPerWord) * bits;
+            int topShift = (fieldsPerWord - 1) * bits;
+            long[] counters = new long[words];
+            // Поля до первого полного окна помечены переполненными
+            long[] overflowed = new long[words];
+            Arrays.fill(overflowed, overflowMask);
+
+            for (int j = 0; j < n; j++) {
+                int row = (index.get(text.charAt(j)) + 1) * words;
+                long carry = base;
+                long carryOverflow = 0;
+                for (int w = 0; w < words; w++) {
+                    long value = counters[w];
+                    long over = overflowed[w];
+                    long nextCarry = (value >>> topShift) & fieldMask;
+                    long nextCarryOverflow = (over >>> topShift) & fieldMask;
+
+                    value = (((value << bits) & usedMask) | carry) + mismatch[row + w];
+                    over = ((over << bits) & usedMask) | carryOverflow | (value & overflowMask);
+                    counters[w] = value & ~overflowMask;
+                    overflowed[w] = over;
+
+                    carry = nextCarry;
+                    carryOverflow = nextCarryOverflow;
+                }
+
+                if (j >= m - 1 && ((overflowed[lastWord] >>> lastShift) & (1L << (bits - 1))) == 0) {
+                    int distance = (int) ((counters[lastWord] >>> lastShift) & fieldMask) - base;
+                    sink.onMatch(j - m + 1, distance);
+                    if (sink.isDone()) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+    // Геттеры
+    public Mode getMode() { return mode; }
+    public int getMaxDistance() { return maxDistance; }
+
+    @Override
+    public String getName() {
+        return "Приближенный поиск (" + mode.getTitle() + ", k=" + maxDistance + ")";
+    }
+}
@@ -0,0 +1,17 @@
+package com.search.benchmark.algorithms;
+
+import com.search.benchmark.stats.ApproximateStats;
+
+// Приближенный поиск. Не является StringSearchAlgorithm: в режиме редакционного
+// расстояния позиция - конец вхождения (начало неоднозначно), и соседние концы
+// одного вхождения сообщаются по отдельности, поэтому contains/indexOf/count
+// точного поиска здесь не имеют смысла
+public interface ApproximateSearchAlgorithm {
+    // Инструментированный режим: позиции и лучшие расстояния
+    ApproximateStats search(String text, String pattern);
+
+    // Быстрый режим; ранняя остановка через sink.isDone()
+    void search(String text, String pattern, ApproximateMatchSink sink);
+
+    String getName();
+}
@@ -1,16 +1,43 @@
 package com.search.benchmark.algorithms;
 
 import com.search.benchmark.stats.AlgorithmStats;
-import java.util.Arrays;
 
 public class BoyerMooreSearch implements StringSearchAlgorithm {
+    private final ShiftTable.Kind tableKind;
+    // Без учета регистра: паттерн и таблицы сдвигов строятся по свернутому паттерну
+    private final boolean ignoreCase;
+
+    public BoyerMooreSearch() {
+        this(ShiftTable.Kind.FULL);
+    }
+
+    public BoyerMooreSearch(ShiftTable.Kind tableKind) {
+        this(tableKind, false);
+    }
+
+    public BoyerMooreSearch(boolean ignoreCase) {
+        this(ShiftTable.Kind.FULL, ignoreCase);
+    }
+
+    public BoyerMooreSearch(ShiftTable.Kind tableKind, boolean ignoreCase) {
+        this.tableKind = tableKind;
+        this.ignoreCase = ignoreCase;
+    }
 
     @Override
     public AlgorithmStats search(String text, String pattern) {
+        return search(text, 0, text.length(), pattern);
+    }
+
+    @Override
+    public AlgorithmStats search(String text, int from, int to, String pattern) {
         AlgorithmStats stats = new AlgorithmStats(getName());
         long startTime = System.nanoTime();
 
-        int n = text.length();
+        if (ignoreCase) {
+            pattern = CaseFolding.fold(pattern);
+        }
+
         int m = pattern.length();
 
         if (m == 0) {
@@ -18,36 +45,29 @@ public class BoyerMooreSearch implements StringSearchAlgorithm {
             return stats;
         }
 
-        // Увеличиваем размер таблицы для поддержки Unicode
-        int[] badChar = new int[65536];  // Для поддержки UTF-16
-        Arrays.fill(badChar, -1);
+        // Таблица плохого символа и сдвиги хорошего суффикса
+        ShiftTable badChar = ShiftTable.build(pattern, m, tableKind);
+        int[] goodSuffix = computeGoodSuffixShifts(pattern);
 
-        // Заполняем таблицу плохого символа
-        for (int i = 0; i < m; i++) {
-            badChar[pattern.charAt(i)] = i;
-        }
-
-        int s = 0; // сдвиг паттерна относительно текста
-        while (s <= n - m) {
+        int s = from; // сдвиг паттерна относительно текста
+        while (s <= to - m) {
             int j = m - 1;
 
             // Сравниваем справа налево
-            while (j >= 0 && pattern.charAt(j) == text.charAt(s + j)) {
+            while (j >= 0 && pattern.charAt(j) == charAt(text, s + j)) {
                 stats.incrementCharChecks();
                 j--;
             }
 
             if (j < 0) {
-                // Найдено совпадение
+                // Найдено совпадение, сдвигаем на период паттерна
                 stats.addPosition(s);
-
-                // Сдвигаем паттерн для следующего поиска
-                s += (s + m < n) ? m - badChar[text.charAt(s + m)] : 1;
+                s += goodSuffix[0];
             } else {
                 stats.incrementCharChecks(); // за последнюю неудачную проверку
 
                 // Сдвигаем паттерн на максимальное из двух значений
-                int shift = Math.max(1, j - badChar[text.charAt(s + j)]);
+                int shift = Math.max(goodSuffix[j + 1], j - badChar.lastIndex(charAt(text, s + j)));
                 s += shift;
             }
         }
@@ -56,8 +76,174 @@ public class BoyerMooreSearch implements StringSearchAlgorithm {
         return stats;
     }
 
+    private char charAt(String text, int i) {
+        char c = text.charAt(i);
+        return ignoreCase ? CaseFolding.fold(c) : c;
+    }
+
+    /**
+     * Сдвиги по правилу хорошего суффикса (сильный вариант):
+     * shift[j + 1] - сдвиг при несовпадении в позиции j, shift[0] - после полного
+     * совпадения (период паттерна).
+     */
+    public static int[] computeGoodSuffixShifts(String pattern) {
+        int m = pattern.length();
+        int[] shift = new int[m + 1];
+        int[] border = new int[m + 1];
+
+        // border[i] - начало самой широкой границы суффикса pattern[i..m)
+        int i = m;
+        int j = m + 1;
+        border[i] = j;
+        while (i > 0) {
+            while (j <= m && pattern.charAt(i - 1) != pattern.charAt(j - 1)) {
+                if (shift[j] == 0) {
+                    shift[j] = j - i;
+                }
+                j = border[j];
+            }
+            i--;
+            j--;
+            border[i] = j;
+        }
+
+        // Суффиксы, которые встречаются в паттерне только как границы
+        j = border[0];
+        for (i = 0; i <= m; i++) {
+            if (shift[i] == 0) {
+                shift[i] = j;
+            }
+            if (i == j) {
+                j = border[j];
+            }
+        }
+
+        return shift;
+    }
+
+    @Override
+    public CompiledPattern compile(String pattern) {
+        if (ignoreCase) {
+            String folded = CaseFolding.fold(pattern);
+            return new FoldedCompiled(pattern, folded, ShiftTable.build(folded, folded.length(), tableKind),
+                    computeGoodSuffixShifts(folded));
+        }
+        return new Compiled(pattern, ShiftTable.build(pattern, pattern.length(), tableKind),
+                computeGoodSuffixShifts(pattern));
+    }
+
+    private static final class Compiled implements CompiledPattern {
+        private final String pattern;
+        private final ShiftTable badChar;
+        private final int[] goodSuffix;
+
+        Compiled(String pattern, ShiftTable badChar, int[] goodSuffix) {
+            this.pattern = pattern;
+            this.badChar = badChar;
+            this.goodSuffix = goodSuffix;
+        }
+
+        @Override
+        public String getPattern() {
+            return pattern;
+        }
+
+        @Override
+        public void search(String text, MatchSink sink) {
+            search(text, 0, text.length(), sink);
+        }
+
+        @Override
+        public void search(String text, int from, int to, MatchSink sink) {
+            int m = pattern.length();
+
+            if (m == 0) {
+                return;
+            }
+
+            int s = from;
+            while (s <= to - m) {
+                int j = m - 1;
+                while (j >= 0 && pattern.charAt(j) == text.charAt(s + j)) {
+                    j--;
+                }
+
+                if (j < 0) {
+                    sink.onMatch(s);
+                    if (sink.isDone()) {
+                        return;
+                    }
+                    s += goodSuffix[0];
+                } else {
+                    s += Math.max(goodSuffix[j + 1], j - badChar.lastIndex(text.charAt(s + j)));
+                }
+            }
+        }
+    }
+
+    // Отдельный класс, чтобы свертка не попадала в цикл обычного поиска
+    private static final class FoldedCompiled implements CompiledPattern {
+        private final String pattern;
+        private final String folded;
+        private final ShiftTable badChar;
+        private final int[] goodSuffix;
+
+        FoldedCompiled(String pattern, String folded, ShiftTable badChar, int[] goodSuffix) {
+            this.pattern = pattern;
+            this.folded = folded;
+            this.badChar = badChar;
+            this.goodSuffix = goodSuffix;
+        }
+
+        @Override
+        public String getPattern() {
+            return pattern;
+        }
+
+        @Override
+        public void search(String text, MatchSink sink) {
+            search(text, 0, text.length(), sink);
+        }
+
+        @Override
+        public void search(String text, int from, int to, MatchSink sink) {
+            int m = folded.length();
+
+            if (m == 0) {
+                return;
+            }
+
+            int s = from;
+            while (s <= to - m) {
+                int j = m - 1;
+                char c = CaseFolding.fold(text.charAt(s + j));
+                while (c == folded.charAt(j)) {
+                    if (--j < 0) {
+                        break;
+                    }
+                    c = CaseFolding.fold(text.charAt(s + j));
+                }
+
+                if (j < 0) {
+                    sink.onMatch(s);
+                    if (sink.isDone()) {
+                        return;
+                    }
+                    s += goodSuffix[0];
+                } else {
+                    s += Math.max(goodSuffix[j + 1], j - badChar.lastIndex(c));
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean isExact() {
+        return !ignoreCase;
+    }
+
     @Override
     public String getName() {
-        return "Бойер-Мур";
+        return "Бойер-Мур" + tableKind.getSuffix() + (ignoreCase ? " (без регистра)" : "");
     }
-}
\ No newline at end of file
+}
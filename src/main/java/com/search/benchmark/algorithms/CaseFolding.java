@@ -0,0 +1,65 @@
+package com.search.benchmark.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Простая посимвольная свертка регистра: toLowerCase(toUpperCase(c)) по таблице на весь UTF-16.
+ * Свертка не меняет длину строки, поэтому позиции в свернутом и исходном тексте совпадают.
+ * Сводит вместе варианты вроде 'Σ', 'σ', 'ς' и 'Ё', 'ё'; многосимвольные свертки ('ß' - "ss") не поддерживаются.
+ */
+public final class CaseFolding {
+    private static final char[] FOLD = new char[65536];
+
+    static {
+        for (int c = 0; c < FOLD.length; c++) {
+            FOLD[c] = Character.toLowerCase(Character.toUpperCase((char) c));
+        }
+    }
+
+    private CaseFolding() {
+    }
+
+    public static char fold(char c) {
+        return FOLD[c];
+    }
+
+    // Все символы с той же сверткой, что и c (включая сам c)
+    public static char[] variants(char c) {
+        return Variants.of(FOLD[c]);
+    }
+
+    // Обратная таблица свертки строится при первом обращении: списки символов по свернутому значению
+    private static final class Variants {
+        private static final int[] FIRST = new int[65536];
+        private static final int[] NEXT = new int[65536];
+
+        static {
+            Arrays.fill(FIRST, -1);
+            for (int c = FOLD.length - 1; c >= 0; c--) {
+                NEXT[c] = FIRST[FOLD[c]];
+                FIRST[FOLD[c]] = c;
+            }
+        }
+
+        static char[] of(char folded) {
+            int count = 0;
+            for (int c = FIRST[folded]; c >= 0; c = NEXT[c]) {
+                count++;
+            }
+            char[] result = new char[count];
+            int i = 0;
+            for (int c = FIRST[folded]; c >= 0; c = NEXT[c]) {
+                result[i++] = (char) c;
+            }
+            return result;
+        }
+    }
+
+    public static String fold(String s) {
+        char[] chars = s.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = FOLD[chars[i]];
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,110 @@
+package com.search.benchmark.algorithms;
+
+import java.util.Arrays;
+
+// Компактное отображение char -> плотный индекс 0..size-1 (открытая адресация).
+// Используется вместо таблиц на 65536 элементов, когда различных символов немного.
+public class CharIndexMap {
+    private static final char EMPTY = Character.MAX_VALUE;
+
+    // Прямая таблица для символов < 256 (латиница, цифры, пунктуация) - без пробирования
+    private final int[] latin = new int[256];
+    private char[] keys;
+    private int[] values;
+    private int size;
+    private int mask;
+    // Отдельно храним индекс для самого Character.MAX_VALUE, т.к. он обозначает пустую ячейку
+    private int emptyKeyIndex = -1;
+
+    public CharIndexMap() {
+        this(16);
+    }
+
+    public CharIndexMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        allocate(capacity);
+        Arrays.fill(latin, -1);
+    }
+
+    private void allocate(int capacity) {
+        keys = new char[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+    }
+
+    // Возвращает индекс символа, добавляя его при необходимости
+    public int add(char c) {
+        if (c < 256) {
+            if (latin[c] < 0) {
+                latin[c] = size++;
+            }
+            return latin[c];
+        }
+        if (c == EMPTY) {
+            if (emptyKeyIndex < 0) {
+                emptyKeyIndex = size++;
+            }
+            return emptyKeyIndex;
+        }
+        int slot = slot(c);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == c) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = c;
+        values[slot] = size;
+        if ((size + 1) * 2 > keys.length) {
+            int index = size++;
+            rehash();
+            return index;
+        }
+        return size++;
+    }
+
+    // Индекс символа или -1, если символа нет
+    public int get(char c) {
+        if (c < 256) {
+            return latin[c];
+        }
+        if (c == EMPTY) {
+            return emptyKeyIndex;
+        }
+        int slot = slot(c);
+        char key;
+        while ((key = keys[slot]) != EMPTY) {
+            if (key == c) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int slot(char c) {
+        // Перемешиваем биты, чтобы соседние коды (кириллица, латиница) не слипались
+        return (c * 0x9E3779B1 >>> 16) & mask;
+    }
+
+    private void rehash() {
+        char[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slot(oldKeys[i]);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.search.benchmark.algorithms;
+
+// Паттерн с заранее выполненной предобработкой (LPS, таблица сдвигов, хеш).
+// Реализации неизменяемы, поэтому один объект можно использовать из многих потоков.
+public interface CompiledPattern {
+    String getPattern();
+
+    void search(String text, MatchSink sink);
+
+    // Поиск на участке text[from, to): только вхождения, целиком лежащие в участке,
+    // позиции - относительно всего текста. По умолчанию участок копируется,
+    // движки со сканирующим циклом ищут на месте
+    default void search(String text, int from, int to, MatchSink sink) {
+        search(text.substring(from, to), new MatchSink() {
+            @Override
+            public void onMatch(int position) {
+                sink.onMatch(from + position);
+            }
+
+            @Override
+            public boolean isDone() {
+                return sink.isDone();
+            }
+        });
+    }
+
+    // Режимы запроса: поиск останавливается, как только ответ известен
+
+    default boolean contains(String text) {
+        return indexOf(text) >= 0;
+    }
+
+    // Позиция первого вхождения или -1
+    default int indexOf(String text) {
+        int[] first = firstN(text, 1);
+        return first.length == 0 ? -1 : first[0];
+    }
+
+    // Первые limit вхождений по возрастанию позиций
+    default int[] firstN(String text, int limit) {
+        PositionCollector collector = new PositionCollector(Math.min(limit, 16), limit);
+        search(text, collector);
+        return collector.toArray();
+    }
+
+    // Число вхождений без сохранения позиций
+    default int count(String text) {
+        MatchCounter counter = new MatchCounter();
+        search(text, counter);
+        return counter.getCount();
+    }
+}
@@ -0,0 +1,78 @@
+package com.search.benchmark.algorithms;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// LRU-кеш скомпилированных паттернов, ключ - (экземпляр алгоритма, паттерн).
+// Алгоритм сравнивается по ссылке: движки с разной настройкой могут иметь одно имя.
+// Компиляция выполняется вне блокировки, чтобы не задерживать другие потоки.
+public class CompiledPatternCache {
+    private final int maxSize;
+    private final LinkedHashMap<Key, CompiledPattern> entries;
+    private long hits;
+    private long misses;
+
+    public CompiledPatternCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Размер кеша должен быть положительным: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CompiledPattern> eldest) {
+                return size() > CompiledPatternCache.this.maxSize;
+            }
+        };
+    }
+
+    public CompiledPattern get(StringSearchAlgorithm algorithm, String pattern) {
+        Key key = new Key(algorithm, pattern);
+        synchronized (this) {
+            CompiledPattern cached = entries.get(key);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+        }
+
+        CompiledPattern compiled = algorithm.compile(pattern);
+        synchronized (this) {
+            CompiledPattern existing = entries.putIfAbsent(key, compiled);
+            return existing != null ? existing : compiled;
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    // Геттеры
+    public int getMaxSize() { return maxSize; }
+    public synchronized int size() { return entries.size(); }
+    public synchronized long getHits() { return hits; }
+    public synchronized long getMisses() { return misses; }
+
+    private static final class Key {
+        private final StringSearchAlgorithm algorithm;
+        private final String pattern;
+
+        Key(StringSearchAlgorithm algorithm, String pattern) {
+            this.algorithm = algorithm;
+            this.pattern = pattern;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return algorithm == other.algorithm && pattern.equals(other.pattern);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(algorithm) + pattern.hashCode();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.search.benchmark.algorithms;
+
+// Набор паттернов после предобработки. Номер паттерна - его индекс в исходном списке.
+public interface CompiledPatternSet {
+    int size();
+
+    String getPattern(int patternId);
+
+    void search(String text, MultiMatchSink sink);
+}
@@ -0,0 +1,35 @@
+package com.search.benchmark.algorithms;
+
+// Фильтр кандидатов по первому и последнему символу паттерна с проверкой середины.
+// Векторная реализация загружается только при наличии модуля jdk.incubator.vector.
+abstract class FirstLastScanner {
+
+    // Проверяет окна, начинающиеся в buffer[0..windows); позиции сдвигаются на base
+    abstract void scan(char[] buffer, int windows, char[] pattern, int base, MatchSink sink);
+
+    static boolean middleMatches(char[] buffer, int start, char[] pattern) {
+        for (int j = 1; j < pattern.length - 1; j++) {
+            if (buffer[start + j] != pattern[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static final class Scalar extends FirstLastScanner {
+        @Override
+        void scan(char[] buffer, int windows, char[] pattern, int base, MatchSink sink) {
+            char first = pattern[0];
+            char last = pattern[pattern.length - 1];
+            int lastOffset = pattern.length - 1;
+            for (int i = 0; i < windows; i++) {
+                if (buffer[i] == first && buffer[i + lastOffset] == last && middleMatches(buffer, i, pattern)) {
+                    sink.onMatch(base + i);
+                    if (sink.isDone()) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.search.benchmark.algorithms;
+
+import com.search.benchmark.stats.AlgorithmStats;
+
+/**
+ * Бойер-Мур с правилом Галиля. После полного совпадения паттерн сдвигается на период p,
+ * и первые m-p символов нового окна уже известны - сравнение останавливается на них.
+ * Это делает поиск линейным в худшем случае даже для периодических текстов.
+ */
+public class GalilBoyerMooreSearch implements StringSearchAlgorithm {
+    private final ShiftTable.Kind tableKind;
+
+    public GalilBoyerMooreSearch() {
+        this(ShiftTable.Kind.FULL);
+    }
+
+    public GalilBoyerMooreSearch(ShiftTable.Kind tableKind) {
+        this.tableKind = tableKind;
+    }
+
+    @Override
+    public AlgorithmStats search(String text, String pattern) {
+        return search(text, 0, text.length(), pattern);
+    }
+
+    @Override
+    public AlgorithmStats search(String text, int from, int to, String pattern) {
+        AlgorithmStats stats = new AlgorithmStats(getName());
+        long startTime = System.nanoTime();
+
+        int m = pattern.length();
+
+        if (m == 0) {
+            stats.setTimeNanos(System.nanoTime() - startTime);
+            return stats;
+        }
+
+        ShiftTable badChar = ShiftTable.build(pattern, m, tableKind);
+        int[] goodSuffix = BoyerMooreSearch.computeGoodSuffixShifts(pattern);
+        int period = goodSuffix[0];
+
+        int s = from;
+        int known = 0; // сколько первых символов окна заведомо совпадают
+        while (s <= to - m) {
+            int j = m - 1;
+            while (j >= known && pattern.charAt(j) == text.charAt(s + j)) {
+                stats.incrementCharChecks();
+                j--;
+            }
+
+            if (j < known) {
+                stats.addPosition(s);
+                s += period;
+                known = m - period;
+            } else {
+                stats.incrementCharChecks();
+                s += Math.max(goodSuffix[j + 1], j - badChar.lastIndex(text.charAt(s + j)));
+                known = 0;
+            }
+        }
+
+        stats.setTimeNanos(System.nanoTime() - startTime);
+        return stats;
+    }
+
+    @Override
+    public CompiledPattern compile(String pattern) {
+        return new Compiled(pattern, ShiftTable.build(pattern, pattern.length(), tableKind),
+                BoyerMooreSearch.computeGoodSuffixShifts(pattern));
+    }
+
+    private static final class Compiled implements CompiledPattern {
+        private final String pattern;
+        private final ShiftTable badChar;
+        private final int[] goodSuffix;
+
+        Compiled(String pattern, ShiftTable badChar, int[] goodSuffix) {
+            this.pattern = pattern;
+            this.badChar = badChar;
+            this.goodSuffix = goodSuffix;
+        }
+
+        @Override
+        public String getPattern() {
+            return pattern;
+        }
+
+        @Override
+        public void search(String text, MatchSink sink) {
+            search(text, 0, text.length(), sink);
+        }
+
+        @Override
+        public void search(String text, int from, int to, MatchSink sink) {
+            int m = pattern.length();
+
+            if (m == 0) {
+                return;
+            }
+
+            int period = goodSuffix[0];
+            int s = from;
+            int known = 0;
+            while (s <= to - m) {
+                int j = m - 1;
+                while (j >= known && pattern.charAt(j) == text.charAt(s + j)) {
+                    j--;
+                }
+
+                if (j < known) {
+                    sink.onMatch(s);
+                    if (sink.isDone()) {
+                        return;
+                    }
+                    s += period;
+                    known = m - period;
+                } else {
+                    s += Math.max(goodSuffix[j + 1], j - badChar.lastIndex(text.charAt(s + j)));
+                    known = 0;
+                }
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Бойер-Мур (правило Галиля)" + tableKind.getSuffix();
+    }
+}
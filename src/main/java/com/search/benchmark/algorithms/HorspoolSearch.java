@@ -0,0 +1,116 @@
+package com.search.benchmark.algorithms;
+
+import com.search.benchmark.stats.AlgorithmStats;
+
+// Бойер-Мур-Хорспул: сдвиг определяется только символом текста под последним символом окна
+public class HorspoolSearch implements StringSearchAlgorithm {
+    private final ShiftTable.Kind tableKind;
+
+    public HorspoolSearch() {
+        this(ShiftTable.Kind.FULL);
+    }
+
+    public HorspoolSearch(ShiftTable.Kind tableKind) {
+        this.tableKind = tableKind;
+    }
+
+    @Override
+    public AlgorithmStats search(String text, String pattern) {
+        return search(text, 0, text.length(), pattern);
+    }
+
+    @Override
+    public AlgorithmStats search(String text, int from, int to, String pattern) {
+        AlgorithmStats stats = new AlgorithmStats(getName());
+        long startTime = System.nanoTime();
+
+        int m = pattern.length();
+
+        if (m == 0) {
+            stats.setTimeNanos(System.nanoTime() - startTime);
+            return stats;
+        }
+
+        // Последний символ паттерна в таблицу не входит, иначе сдвиг мог бы быть нулевым
+        ShiftTable table = ShiftTable.build(pattern, m - 1, tableKind);
+
+        int s = from;
+        while (s <= to - m) {
+            int j = m - 1;
+            while (j >= 0) {
+                stats.incrementCharChecks();
+                if (pattern.charAt(j) != text.charAt(s + j)) {
+                    break;
+                }
+                j--;
+            }
+
+            if (j < 0) {
+                stats.addPosition(s);
+            }
+            s += m - 1 - table.lastIndex(text.charAt(s + m - 1));
+        }
+
+        stats.setTimeNanos(System.nanoTime() - startTime);
+        return stats;
+    }
+
+    @Override
+    public CompiledPattern compile(String pattern) {
+        int m = pattern.length();
+        return new Compiled(pattern, ShiftTable.build(pattern, Math.max(0, m - 1), tableKind));
+    }
+
+    private static final class Compiled implements CompiledPattern {
+        private final String pattern;
+        private final ShiftTable table;
+
+        Compiled(String pattern, ShiftTable table) {
+            this.pattern = pattern;
+            this.table = table;
+        }
+
+        @Override
+        public String getPattern() {
+            return pattern;
+        }
+
+        @Override
+        public void search(String text, MatchSink sink) {
+            search(text, 0, text.length(), sink);
+        }
+
+        @Override
+        public void search(String text, int from, int to, MatchSink sink) {
+            int m = pattern.length();
+
+            if (m == 0) {
+                return;
+            }
+
+            char last = pattern.charAt(m - 1);
+            int s = from;
+            while (s <= to - m) {
+                char c = text.charAt(s + m - 1);
+                if (c == last) {
+                    int j = m - 2;
+                    while (j >= 0 && pattern.charAt(j) == text.charAt(s + j)) {
+                        j--;
+                    }
+                    if (j < 0) {
+                        sink.onMatch(s);
+                        if (sink.isDone()) {
+                            return;
+                        }
+                    }
+                }
+                s += m - 1 - table.lastIndex(c);
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Бойер-Мур-Хорспул" + tableKind.getSuffix();
+    }
+}
@@ -3,13 +3,31 @@ package com.search.benchmark.algorithms;
 import com.search.benchmark.stats.AlgorithmStats;
 
 public class KMPSearch implements StringSearchAlgorithm {
+    // Без учета регистра: паттерн сворачивается при компиляции, текст - посимвольно при сравнении
+    private final boolean ignoreCase;
+
+    public KMPSearch() {
+        this(false);
+    }
+
+    public KMPSearch(boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+    }
 
     @Override
     public AlgorithmStats search(String text, String pattern) {
+        return search(text, 0, text.length(), pattern);
+    }
+
+    @Override
+    public AlgorithmStats search(String text, int from, int to, String pattern) {
         AlgorithmStats stats = new AlgorithmStats(getName());
         long startTime = System.nanoTime();
 
-        int n = text.length();
+        if (ignoreCase) {
+            pattern = CaseFolding.fold(pattern);
+        }
+
         int m = pattern.length();
 
         if (m == 0) {
@@ -19,13 +37,13 @@ public class KMPSearch implements StringSearchAlgorithm {
 
         int[] lps = computeLPSArray(pattern);
 
-        int i = 0;
+        int i = from;
         int j = 0;
 
-        while (i < n) {
+        while (i < to) {
             stats.incrementCharChecks();
 
-            if (text.charAt(i) == pattern.charAt(j)) {
+            if (charAt(text, i) == pattern.charAt(j)) {
                 i++;
                 j++;
             }
@@ -33,7 +51,7 @@ public class KMPSearch implements StringSearchAlgorithm {
             if (j == m) {
                 stats.addPosition(i - j);
                 j = lps[j - 1];
-            } else if (i < n && text.charAt(i) != pattern.charAt(j)) {
+            } else if (i < to && charAt(text, i) != pattern.charAt(j)) {
                 if (j != 0) {
                     j = lps[j - 1];
                 } else {
@@ -46,7 +64,12 @@ public class KMPSearch implements StringSearchAlgorithm {
         return stats;
     }
 
-    private int[] computeLPSArray(String pattern) {
+    private char charAt(String text, int i) {
+        char c = text.charAt(i);
+        return ignoreCase ? CaseFolding.fold(c) : c;
+    }
+
+    public static int[] computeLPSArray(String pattern) {
         int m = pattern.length();
         int[] lps = new int[m];
         int len = 0;
@@ -70,8 +93,119 @@ public class KMPSearch implements StringSearchAlgorithm {
         return lps;
     }
 
+    @Override
+    public CompiledPattern compile(String pattern) {
+        if (ignoreCase) {
+            String folded = CaseFolding.fold(pattern);
+            return new FoldedCompiled(pattern, folded, folded.isEmpty() ? new int[0] : computeLPSArray(folded));
+        }
+        return new Compiled(pattern, pattern.isEmpty() ? new int[0] : computeLPSArray(pattern));
+    }
+
+    private static final class Compiled implements CompiledPattern {
+        private final String pattern;
+        private final int[] lps;
+
+        Compiled(String pattern, int[] lps) {
+            this.pattern = pattern;
+            this.lps = lps;
+        }
+
+        @Override
+        public String getPattern() {
+            return pattern;
+        }
+
+        @Override
+        public void search(String text, MatchSink sink) {
+            search(text, 0, text.length(), sink);
+        }
+
+        @Override
+        public void search(String text, int from, int to, MatchSink sink) {
+            int m = pattern.length();
+
+            if (m == 0) {
+                return;
+            }
+
+            int j = 0;
+            for (int i = from; i < to; i++) {
+                char c = text.charAt(i);
+                while (j > 0 && c != pattern.charAt(j)) {
+                    j = lps[j - 1];
+                }
+                if (c == pattern.charAt(j)) {
+                    j++;
+                }
+                if (j == m) {
+                    sink.onMatch(i - m + 1);
+                    if (sink.isDone()) {
+                        return;
+                    }
+                    j = lps[j - 1];
+                }
+            }
+        }
+    }
+
+    // Отдельный класс, чтобы проверка регистра не попадала в цикл обычного поиска
+    private static final class FoldedCompiled implements CompiledPattern {
+        private final String pattern;
+        private final String folded;
+        private final int[] lps;
+
+        FoldedCompiled(String pattern, String folded, int[] lps) {
+            this.pattern = pattern;
+            this.folded = folded;
+            this.lps = lps;
+        }
+
+        @Override
+        public String getPattern() {
+            return pattern;
+        }
+
+        @Override
+        public void search(String text, MatchSink sink) {
+            search(text, 0, text.length(), sink);
+        }
+
+        @Override
+        public void search(String text, int from, int to, MatchSink sink) {
+            int m = folded.length();
+
+            if (m == 0) {
+                return;
+            }
+
+            int j = 0;
+            for (int i = from; i < to; i++) {
+                char c = CaseFolding.fold(text.charAt(i));
+                while (j > 0 && c != folded.charAt(j)) {
+                    j = lps[j - 1];
+                }
+                if (c == folded.charAt(j)) {
+                    j++;
+                }
+                if (j == m) {
+                    sink.onMatch(i - m + 1);
+                    if (sink.isDone()) {
+                        return;
+                    }
+                    j = lps[j - 1];
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean isExact() {
+        return !ignoreCase;
+    }
+
     @Override
     public String getName() {
-        return "Кнут-Моррис-Пратт";
+        return "Кнут-Моррис-Пратт" + (ignoreCase ? " (без регистра)" : "");
     }
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.search.benchmark.algorithms;
+
+import java.util.Arrays;
+
+// Отображение long -> int с открытой адресацией, без упаковки ключей.
+// Значения должны быть неотрицательными: -1 обозначает пустую ячейку и отсутствие ключа.
+public class LongIntHashMap {
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private int mask;
+
+    public LongIntHashMap() {
+        this(16);
+    }
+
+    public LongIntHashMap(int expectedSize) {
+        allocate(Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, -1);
+        mask = capacity - 1;
+    }
+
+    public int get(long key) {
+        int slot = slot(key);
+        int value;
+        while ((value = values[slot]) >= 0) {
+            if (keys[slot] == key) {
+                return value;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    // Возвращает предыдущее значение или -1
+    public int put(long key, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Значение должно быть неотрицательным: " + value);
+        }
+        int slot = slot(key);
+        while (values[slot] >= 0) {
+            if (keys[slot] == key) {
+                int previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size * 2 > keys.length) {
+            rehash();
+        }
+        return -1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int slot(long key) {
+        // Финализатор из SplitMix64: слабые хеши (XOR, маленькие модули) не должны слипаться
+        long h = key * 0xBF58476D1CE4E5B9L;
+        h ^= h >>> 31;
+        return (int) h & mask;
+    }
+
+    private void rehash() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] >= 0) {
+                int slot = slot(oldKeys[i]);
+                while (values[slot] >= 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
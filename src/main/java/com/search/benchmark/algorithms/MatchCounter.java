@@ -0,0 +1,18 @@
+package com.search.benchmark.algorithms;
+
+// Считает вхождения, не сохраняя позиции
+public class MatchCounter implements MatchSink {
+    private int count;
+
+    @Override
+    public void onMatch(int position) {
+        count++;
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    // Геттеры
+    public int getCount() { return count; }
+}
@@ -0,0 +1,14 @@
+package com.search.benchmark.algorithms;
+
+// Получатель найденных позиций в быстром (неинструментированном) режиме.
+// Позиции передаются как int, без упаковки в Integer.
+@FunctionalInterface
+public interface MatchSink {
+    void onMatch(int position);
+
+    // true - результат уже известен и поиск можно прекратить.
+    // Движки проверяют флаг только после вхождения, поэтому полный проход ничего не теряет
+    default boolean isDone() {
+        return false;
+    }
+}
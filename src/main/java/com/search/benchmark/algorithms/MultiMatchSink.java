@@ -0,0 +1,7 @@
+package com.search.benchmark.algorithms;
+
+// Получатель вхождений при поиске набора паттернов: номер паттерна и позиция начала
+@FunctionalInterface
+public interface MultiMatchSink {
+    void onMatch(int patternId, int position);
+}
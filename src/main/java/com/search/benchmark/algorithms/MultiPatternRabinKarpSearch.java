@@ -0,0 +1,155 @@
+package com.search.benchmark.algorithms;
+
+import com.search.benchmark.hash.HashFunction;
+import com.search.benchmark.hash.RollingHasher;
+import com.search.benchmark.stats.MultiPatternStats;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Рабин-Карп для набора паттернов. Паттерны группируются по длине; для каждой группы
+ * скользящий хеш окна ищется в таблице хеш -> первый паттерн с таким хешем,
+ * остальные паттерны с тем же хешем связаны цепочкой. Кандидаты проверяются
+ * посимвольно, несовпадения считаются коллизиями.
+ * Хеши без rolling (DJB2) пересчитываются по окну целиком.
+ * Вхождения выдаются по группам длин, внутри группы - по возрастанию позиции.
+ */
+public class MultiPatternRabinKarpSearch implements MultiPatternSearchAlgorithm {
+    private final HashFunction hashFunction;
+    private final String name;
+
+    public MultiPatternRabinKarpSearch(HashFunction hashFunction) {
+        this.hashFunction = hashFunction;
+        this.name = "Рабин-Карп, набор (" + hashFunction.getName() + ")";
+    }
+
+    @Override
+    public MultiPatternStats search(String text, List<String> patterns) {
+        MultiPatternStats stats = new MultiPatternStats(name, patterns.size());
+        long startTime = System.nanoTime();
+
+        Compiled compiled = new Compiled(patterns, hashFunction);
+        compiled.search(text, stats::addMatch, stats);
+
+        stats.setTimeNanos(System.nanoTime() - startTime);
+        return stats;
+    }
+
+    @Override
+    public CompiledPatternSet compile(List<String> patterns) {
+        return new Compiled(patterns, hashFunction);
+    }
+
+    private static final class LengthGroup {
+        final int length;
+        final LongIntHashMap table;
+        final RollingHasher roller;
+
+        LengthGroup(int length, int patternCount, HashFunction hashFunction) {
+            this.length = length;
+            this.table = new LongIntHashMap(patternCount);
+            this.roller = hashFunction.rolling(length);
+        }
+    }
+
+    private static final class Compiled implements CompiledPatternSet {
+        private final String[] patterns;
+        private final HashFunction hashFunction;
+        private final LengthGroup[] groups;
+        private final int[] nextWithSameHash;
+
+        Compiled(List<String> patternList, HashFunction hashFunction) {
+            this.patterns = patternList.toArray(new String[0]);
+            this.hashFunction = hashFunction;
+            this.nextWithSameHash = new int[patterns.length];
+            Arrays.fill(nextWithSameHash, -1);
+
+            TreeMap<Integer, List<Integer>> byLength = new TreeMap<>();
+            for (int id = 0; id < patterns.length; id++) {
+                if (!patterns[id].isEmpty()) {
+                    byLength.computeIfAbsent(patterns[id].length(), k -> new ArrayList<>()).add(id);
+                }
+            }
+
+            groups = new LengthGroup[byLength.size()];
+            int g = 0;
+            for (Map.Entry<Integer, List<Integer>> entry : byLength.entrySet()) {
+                LengthGroup group = new LengthGroup(entry.getKey(), entry.getValue().size(), hashFunction);
+                for (int id : entry.getValue()) {
+                    int previous = group.table.put(hashFunction.hash(patterns[id]), id);
+                    nextWithSameHash[id] = previous;
+                }
+                groups[g++] = group;
+            }
+        }
+
+        @Override
+        public int size() {
+            return patterns.length;
+        }
+
+        @Override
+        public String getPattern(int patternId) {
+            return patterns[patternId];
+        }
+
+        @Override
+        public void search(String text, MultiMatchSink sink) {
+            search(text, sink, null);
+        }
+
+        void search(String text, MultiMatchSink sink, MultiPatternStats stats) {
+            int n = text.length();
+
+            for (LengthGroup group : groups) {
+                int m = group.length;
+                if (n < m) {
+                    break;
+                }
+
+                RollingHasher roller = group.roller;
+                long textHash = hashFunction.hash(text, 0, m);
+                for (int i = 0; i <= n - m; i++) {
+                    if (stats != null) {
+                        stats.incrementCharChecks();
+                    }
+
+                    for (int id = group.table.get(textHash); id >= 0; id = nextWithSameHash[id]) {
+                        if (verify(text, i, patterns[id], stats)) {
+                            sink.onMatch(id, i);
+                        } else if (stats != null) {
+                            stats.incrementCollisions();
+                        }
+                    }
+
+                    if (i < n - m) {
+                        textHash = roller != null
+                                ? roller.roll(textHash, text.charAt(i), text.charAt(i + m))
+                                : hashFunction.hash(text, i + 1, i + 1 + m);
+                    }
+                }
+            }
+        }
+
+        private static boolean verify(String text, int start, String pattern, MultiPatternStats stats) {
+            int m = pattern.length();
+            for (int j = 0; j < m; j++) {
+                if (stats != null) {
+                    stats.incrementCharChecks();
+                }
+                if (text.charAt(start + j) != pattern.charAt(j)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+}
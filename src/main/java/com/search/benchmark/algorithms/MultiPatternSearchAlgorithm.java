@@ -0,0 +1,18 @@
+package com.search.benchmark.algorithms;
+
+import com.search.benchmark.stats.MultiPatternStats;
+import java.util.List;
+
+public interface MultiPatternSearchAlgorithm {
+    // Инструментированный режим
+    MultiPatternStats search(String text, List<String> patterns);
+
+    CompiledPatternSet compile(List<String> patterns);
+
+    // Быстрый режим
+    default void search(String text, List<String> patterns, MultiMatchSink sink) {
+        compile(patterns).search(text, sink);
+    }
+
+    String getName();
+}
@@ -6,13 +6,17 @@ public class NaiveSearch implements StringSearchAlgorithm {
 
     @Override
     public AlgorithmStats search(String text, String pattern) {
+        return search(text, 0, text.length(), pattern);
+    }
+
+    @Override
+    public AlgorithmStats search(String text, int from, int to, String pattern) {
         AlgorithmStats stats = new AlgorithmStats(getName());
         long startTime = System.nanoTime();
 
-        int n = text.length();
         int m = pattern.length();
 
-        for (int i = 0; i <= n - m; i++) {
+        for (int i = from; i <= to - m; i++) {
             boolean match = true;
             for (int j = 0; j < m; j++) {
                 stats.incrementCharChecks();
@@ -30,6 +34,47 @@ public class NaiveSearch implements StringSearchAlgorithm {
         return stats;
     }
 
+    @Override
+    public CompiledPattern compile(String pattern) {
+        return new Compiled(pattern);
+    }
+
+    private static final class Compiled implements CompiledPattern {
+        private final String pattern;
+
+        Compiled(String pattern) {
+            this.pattern = pattern;
+        }
+
+        @Override
+        public String getPattern() {
+            return pattern;
+        }
+
+        @Override
+        public void search(String text, MatchSink sink) {
+            search(text, 0, text.length(), sink);
+        }
+
+        @Override
+        public void search(String text, int from, int to, MatchSink sink) {
+            int m = pattern.length();
+
+            for (int i = from; i <= to - m; i++) {
+                int j = 0;
+                while (j < m && text.charAt(i + j) == pattern.charAt(j)) {
+                    j++;
+                }
+                if (j == m) {
+                    sink.onMatch(i);
+                    if (sink.isDone()) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
     @Override
     public String getName() {
         return "Наивный алгоритм";
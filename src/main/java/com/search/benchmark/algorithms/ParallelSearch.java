@@ -0,0 +1,183 @@
+package com.search.benchmark.algorithms;
+
+import com.search.benchmark.stats.AlgorithmStats;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Параллельный поиск любым алгоритмом: текст делится на части, соседние части
+ * перекрываются на m-1 символ. Каждой части принадлежат только вхождения,
+ * начинающиеся в ее собственном диапазоне, поэтому на стыках дублей не бывает.
+ * Части ищутся на месте через search(text, from, to, ...), без копирования текста;
+ * копирует участок только движок без такого поиска (реализация по умолчанию).
+ * Результаты частей объединяются по порядку; в быстром режиме части отдаются
+ * в sink по мере готовности, и после isDone() оставшиеся части отменяются.
+ */
+public class ParallelSearch implements StringSearchAlgorithm {
+    // Меньшие части не окупают накладные расходы fork/join
+    private static final int MIN_CHUNK_SIZE = 64 * 1024;
+    // Частей в несколько раз больше, чем потоков, - для балансировки нагрузки
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final StringSearchAlgorithm delegate;
+    private final ForkJoinPool pool;
+    private final String name;
+
+    public ParallelSearch(StringSearchAlgorithm delegate) {
+        this(delegate, ForkJoinPool.commonPool());
+    }
+
+    public ParallelSearch(StringSearchAlgorithm delegate, ForkJoinPool pool) {
+        this.delegate = delegate;
+        this.pool = pool;
+        this.name = delegate.getName() + " (параллельно, " + pool.getParallelism() + ")";
+    }
+
+    private int chunkSize(int n, int m) {
+        int chunks = pool.getParallelism() * CHUNKS_PER_THREAD;
+        int size = (int) Math.min(Integer.MAX_VALUE, ((long) n + chunks - 1) / chunks);
+        return Math.max(Math.max(size, MIN_CHUNK_SIZE), m);
+    }
+
+    @Override
+    public AlgorithmStats search(String text, String pattern) {
+        long startTime = System.nanoTime();
+        int n = text.length();
+        int m = pattern.length();
+        int chunkSize = chunkSize(n, m);
+
+        AlgorithmStats stats = new AlgorithmStats(name);
+        if (m == 0 || n <= chunkSize) {
+            AlgorithmStats single = delegate.search(text, pattern);
+            merge(stats, single, Integer.MAX_VALUE);
+            stats.setTimeNanos(System.nanoTime() - startTime);
+            return stats;
+        }
+
+        int chunks = (n + chunkSize - 1) / chunkSize;
+        AlgorithmStats[] results = new AlgorithmStats[chunks];
+        pool.invoke(new ChunkTask(chunk -> {
+            int start = chunk * chunkSize;
+            int end = Math.min(n, start + chunkSize + m - 1);
+            results[chunk] = delegate.search(text, start, end, pattern);
+        }, 0, chunks));
+
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            merge(stats, results[chunk], chunk * chunkSize + chunkSize);
+        }
+        stats.setTimeNanos(System.nanoTime() - startTime);
+        return stats;
+    }
+
+    // Части принадлежат вхождения, начинающиеся до ownedEnd (позиции абсолютные)
+    private static void merge(AlgorithmStats target, AlgorithmStats chunk, int ownedEnd) {
+        target.addCharChecks(chunk.getCharChecks());
+        target.addCollisions(chunk.getCollisions());
+        int[] positions = chunk.getPositionArray();
+        for (int position : positions) {
+            if (position < ownedEnd) {
+                target.addPosition(position);
+            }
+        }
+    }
+
+    @Override
+    public CompiledPattern compile(String pattern) {
+        return new Compiled(delegate.compile(pattern));
+    }
+
+    private final class Compiled implements CompiledPattern {
+        private final CompiledPattern compiled;
+
+        Compiled(CompiledPattern compiled) {
+            this.compiled = compiled;
+        }
+
+        @Override
+        public String getPattern() {
+            return compiled.getPattern();
+        }
+
+        @Override
+        public void search(String text, MatchSink sink) {
+            int n = text.length();
+            int m = compiled.getPattern().length();
+            int chunkSize = chunkSize(n, m);
+
+            if (m == 0 || n <= chunkSize) {
+                compiled.search(text, sink);
+                return;
+            }
+
+            int chunks = (n + chunkSize - 1) / chunkSize;
+            List<ForkJoinTask<PositionCollector>> tasks = new ArrayList<>(chunks);
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int start = chunk * chunkSize;
+                int end = Math.min(n, start + chunkSize + m - 1);
+                int ownedEnd = start + chunkSize;
+                tasks.add(pool.submit(() -> {
+                    PositionCollector collector = new PositionCollector();
+                    compiled.search(text, start, end, position -> {
+                        if (position < ownedEnd) {
+                            collector.onMatch(position);
+                        }
+                    });
+                    return collector;
+                }));
+            }
+
+            // Части отдаются по порядку; как только sink получил ответ, остальные отменяются
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                PositionCollector collector = tasks.get(chunk).join();
+                for (int i = 0; i < collector.size(); i++) {
+                    sink.onMatch(collector.get(i));
+                    if (sink.isDone()) {
+                        for (int rest = chunk + 1; rest < chunks; rest++) {
+                            tasks.get(rest).cancel(false);
+                        }
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    // Делит диапазон частей [from, to) пополам, пока не останется одна часть
+    private static final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient IntConsumer searchChunk;
+        private final int from;
+        private final int to;
+
+        ChunkTask(IntConsumer searchChunk, int from, int to) {
+            this.searchChunk = searchChunk;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                searchChunk.accept(from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ChunkTask(searchChunk, from, mid), new ChunkTask(searchChunk, mid, to));
+        }
+    }
+
+    @Override
+    public boolean isExact() {
+        return delegate.isExact();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+}
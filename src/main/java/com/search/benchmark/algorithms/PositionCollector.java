@@ -0,0 +1,50 @@
+package com.search.benchmark.algorithms;
+
+import java.util.Arrays;
+
+// Растущий массив int для сбора позиций без упаковки.
+// С лимитом поиск останавливается, как только собрано limit позиций
+public class PositionCollector implements MatchSink {
+    private final int limit;
+    private int[] positions;
+    private int size;
+
+    public PositionCollector() {
+        this(16);
+    }
+
+    public PositionCollector(int initialCapacity) {
+        this(initialCapacity, Integer.MAX_VALUE);
+    }
+
+    public PositionCollector(int initialCapacity, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Лимит должен быть положительным: " + limit);
+        }
+        this.positions = new int[Math.max(1, Math.min(initialCapacity, limit))];
+        this.limit = limit;
+    }
+
+    @Override
+    public void onMatch(int position) {
+        if (size == positions.length) {
+            positions = Arrays.copyOf(positions, size * 2);
+        }
+        positions[size++] = position;
+    }
+
+    @Override
+    public boolean isDone() {
+        return size >= limit;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    // Геттеры
+    public int size() { return size; }
+    public int getLimit() { return limit; }
+    public int get(int index) { return positions[index]; }
+    public int[] toArray() { return Arrays.copyOf(positions, size); }
+}
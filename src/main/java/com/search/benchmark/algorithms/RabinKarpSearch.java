@@ -1,41 +1,65 @@
 package com.search.benchmark.algorithms;
 
 import com.search.benchmark.hash.HashFunction;
+import com.search.benchmark.hash.RollingHasher;
 import com.search.benchmark.stats.AlgorithmStats;
 
 public class RabinKarpSearch implements StringSearchAlgorithm {
     private final HashFunction hashFunction;
+    // Без учета регистра: хешируются свернутые символы, нужен хеш с rolling update
+    private final boolean ignoreCase;
     private final String name;
 
     public RabinKarpSearch(HashFunction hashFunction) {
+        this(hashFunction, false);
+    }
+
+    public RabinKarpSearch(HashFunction hashFunction, boolean ignoreCase) {
+        if (ignoreCase && hashFunction.rolling(1) == null) {
+            throw new IllegalArgumentException(hashFunction.getName()
+                    + " не поддерживает rolling update, поиск без регистра невозможен");
+        }
         this.hashFunction = hashFunction;
-        this.name = "Рабин-Карп (" + hashFunction.getName() + ")";
+        this.ignoreCase = ignoreCase;
+        this.name = "Рабин-Карп (" + hashFunction.getName() + (ignoreCase ? ", без регистра" : "") + ")";
     }
 
     @Override
     public AlgorithmStats search(String text, String pattern) {
+        return search(text, 0, text.length(), pattern);
+    }
+
+    @Override
+    public AlgorithmStats search(String text, int from, int to, String pattern) {
         AlgorithmStats stats = new AlgorithmStats(name);
         long startTime = System.nanoTime();
 
-        int n = text.length();
+        if (ignoreCase) {
+            pattern = CaseFolding.fold(pattern);
+        }
+
         int m = pattern.length();
 
-        if (n < m) {
+        if (to - from < m) {
             stats.setTimeNanos(System.nanoTime() - startTime);
             return stats;
         }
 
         long patternHash = hashFunction.hash(pattern);
-        long textHash = hashFunction.hash(text.substring(0, m));
+        long textHash = ignoreCase
+                ? foldedHash(hashFunction, text, from, m)
+                : hashFunction.hash(text, from, from + m);
+        // null - хеш без rolling (DJB2), тогда окно пересчитывается целиком
+        RollingHasher roller = hashFunction.rolling(m);
 
-        for (int i = 0; i <= n - m; i++) {
+        for (int i = from; i <= to - m; i++) {
             stats.incrementCharChecks();
 
             if (textHash == patternHash) {
                 boolean match = true;
                 for (int j = 0; j < m; j++) {
                     stats.incrementCharChecks();
-                    if (text.charAt(i + j) != pattern.charAt(j)) {
+                    if (charAt(text, i + j) != pattern.charAt(j)) {
                         stats.incrementCollisions();
                         match = false;
                         break;
@@ -46,13 +70,10 @@ public class RabinKarpSearch implements StringSearchAlgorithm {
                 }
             }
 
-            if (i < n - m) {
-                textHash = hashFunction.update(
-                        textHash,
-                        text.charAt(i),
-                        text.charAt(i + m),
-                        m
-                );
+            if (i < to - m) {
+                textHash = roller != null
+                        ? roller.roll(textHash, charAt(text, i), charAt(text, i + m))
+                        : hashFunction.hash(text, i + 1, i + 1 + m);
             }
         }
 
@@ -60,6 +81,143 @@ public class RabinKarpSearch implements StringSearchAlgorithm {
         return stats;
     }
 
+    private char charAt(String text, int i) {
+        char c = text.charAt(i);
+        return ignoreCase ? CaseFolding.fold(c) : c;
+    }
+
+    // Хеш свернутого первого окна: копия длины m, а не всего текста
+    private static long foldedHash(HashFunction hashFunction, String text, int from, int m) {
+        return hashFunction.hash(CaseFolding.fold(text.substring(from, from + m)));
+    }
+
+    @Override
+    public CompiledPattern compile(String pattern) {
+        if (ignoreCase) {
+            return new FoldedCompiled(pattern, hashFunction);
+        }
+        return new Compiled(pattern, hashFunction);
+    }
+
+    private static final class Compiled implements CompiledPattern {
+        private final String pattern;
+        private final HashFunction hashFunction;
+        private final RollingHasher roller;
+        private final long patternHash;
+
+        Compiled(String pattern, HashFunction hashFunction) {
+            this.pattern = pattern;
+            this.hashFunction = hashFunction;
+            this.roller = hashFunction.rolling(pattern.length());
+            this.patternHash = hashFunction.hash(pattern);
+        }
+
+        @Override
+        public String getPattern() {
+            return pattern;
+        }
+
+        @Override
+        public void search(String text, MatchSink sink) {
+            search(text, 0, text.length(), sink);
+        }
+
+        @Override
+        public void search(String text, int from, int to, MatchSink sink) {
+            int m = pattern.length();
+
+            if (to - from < m) {
+                return;
+            }
+
+            long textHash = hashFunction.hash(text, from, from + m);
+
+            for (int i = from; i <= to - m; i++) {
+                if (textHash == patternHash) {
+                    int j = 0;
+                    while (j < m && text.charAt(i + j) == pattern.charAt(j)) {
+                        j++;
+                    }
+                    if (j == m) {
+                        sink.onMatch(i);
+                        if (sink.isDone()) {
+                            return;
+                        }
+                    }
+                }
+
+                if (i < to - m) {
+                    textHash = roller != null
+                            ? roller.roll(textHash, text.charAt(i), text.charAt(i + m))
+                            : hashFunction.hash(text, i + 1, i + 1 + m);
+                }
+            }
+        }
+    }
+
+    // Отдельный класс, чтобы свертка не попадала в цикл обычного поиска
+    private static final class FoldedCompiled implements CompiledPattern {
+        private final String pattern;
+        private final String folded;
+        private final HashFunction hashFunction;
+        private final RollingHasher roller;
+        private final long patternHash;
+
+        FoldedCompiled(String pattern, HashFunction hashFunction) {
+            this.pattern = pattern;
+            this.folded = CaseFolding.fold(pattern);
+            this.hashFunction = hashFunction;
+            this.roller = hashFunction.rolling(pattern.length());
+            this.patternHash = hashFunction.hash(folded);
+        }
+
+        @Override
+        public String getPattern() {
+            return pattern;
+        }
+
+        @Override
+        public void search(String text, MatchSink sink) {
+            search(text, 0, text.length(), sink);
+        }
+
+        @Override
+        public void search(String text, int from, int to, MatchSink sink) {
+            int m = folded.length();
+
+            if (to - from < m) {
+                return;
+            }
+
+            long textHash = foldedHash(hashFunction, text, from, m);
+
+            for (int i = from; i <= to - m; i++) {
+                if (textHash == patternHash) {
+                    int j = 0;
+                    while (j < m && CaseFolding.fold(text.charAt(i + j)) == folded.charAt(j)) {
+                        j++;
+                    }
+                    if (j == m) {
+                        sink.onMatch(i);
+                        if (sink.isDone()) {
+                            return;
+                        }
+                    }
+                }
+
+                if (i < to - m) {
+                    textHash = roller.roll(textHash,
+                            CaseFolding.fold(text.charAt(i)), CaseFolding.fold(text.charAt(i + m)));
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean isExact() {
+        return !ignoreCase;
+    }
+
     @Override
     public String getName() {
         return name;
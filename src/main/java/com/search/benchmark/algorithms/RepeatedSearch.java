@@ -0,0 +1,68 @@
+package com.search.benchmark.algorithms;
+
+import com.search.benchmark.stats.AlgorithmStats;
+import com.search.benchmark.stats.MultiPatternStats;
+import java.util.ArrayList;
+import java.util.List;
+
+// Базовый вариант поиска набора паттернов: отдельный проход по тексту для каждого паттерна.
+// Вхождения выдаются по паттернам, а не по позиции в тексте.
+public class RepeatedSearch implements MultiPatternSearchAlgorithm {
+    private final StringSearchAlgorithm algorithm;
+    private final String name;
+
+    public RepeatedSearch(StringSearchAlgorithm algorithm) {
+        this.algorithm = algorithm;
+        this.name = algorithm.getName() + " × N";
+    }
+
+    @Override
+    public MultiPatternStats search(String text, List<String> patterns) {
+        MultiPatternStats stats = new MultiPatternStats(name, patterns.size());
+        long startTime = System.nanoTime();
+
+        for (int id = 0; id < patterns.size(); id++) {
+            AlgorithmStats single = algorithm.search(text, patterns.get(id));
+            stats.addCharChecks(single.getCharChecks());
+            stats.addCollisions(single.getCollisions());
+            for (int position : single.getPositionArray()) {
+                stats.addMatch(id, position);
+            }
+        }
+
+        stats.setTimeNanos(System.nanoTime() - startTime);
+        return stats;
+    }
+
+    @Override
+    public CompiledPatternSet compile(List<String> patterns) {
+        List<CompiledPattern> compiled = new ArrayList<>(patterns.size());
+        for (String pattern : patterns) {
+            compiled.add(algorithm.compile(pattern));
+        }
+        return new CompiledPatternSet() {
+            @Override
+            public int size() {
+                return compiled.size();
+            }
+
+            @Override
+            public String getPattern(int patternId) {
+                return compiled.get(patternId).getPattern();
+            }
+
+            @Override
+            public void search(String text, MultiMatchSink sink) {
+                for (int id = 0; id < compiled.size(); id++) {
+                    int patternId = id;
+                    compiled.get(id).search(text, position -> sink.onMatch(patternId, position));
+                }
+            }
+        };
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+}
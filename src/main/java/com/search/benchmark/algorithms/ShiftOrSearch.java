@@ -0,0 +1,263 @@
+package com.search.benchmark.algorithms;
+
+import com.search.benchmark.stats.AlgorithmStats;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Shift-Or (bitap): состояние автомата - битовый вектор, на каждый символ текста
+ * одна выборка маски, сдвиг и OR. Паттерн до 64 позиций помещается в один long,
+ * длиннее - в массив слов с переносом старшего бита.
+ * Синтаксис паттерна: '?' - любой символ, [abc], [a-z], [^abc] - классы, '\' экранирует.
+ * Классы и игнорирование регистра раскладываются в маски при компиляции,
+ * поэтому цена символа текста от них не зависит.
+ */
+public class ShiftOrSearch implements StringSearchAlgorithm {
+    private final boolean patternSyntax;
+    private final boolean ignoreCase;
+
+    public ShiftOrSearch() {
+        this(true, false);
+    }
+
+    // patternSyntax = false - паттерн сравнивается буквально, без '?', '[' и '\'
+    public ShiftOrSearch(boolean patternSyntax, boolean ignoreCase) {
+        this.patternSyntax = patternSyntax;
+        this.ignoreCase = ignoreCase;
+    }
+
+    @Override
+    public AlgorithmStats search(String text, String pattern) {
+        return search(text, 0, text.length(), pattern);
+    }
+
+    @Override
+    public AlgorithmStats search(String text, int from, int to, String pattern) {
+        AlgorithmStats stats = new AlgorithmStats(getName());
+        long startTime = System.nanoTime();
+
+        compile(pattern).search(text, from, to, stats::addPosition);
+        // Ровно одна операция с маской на символ участка
+        stats.addCharChecks(to - from);
+
+        stats.setTimeNanos(System.nanoTime() - startTime);
+        return stats;
+    }
+
+    @Override
+    public CompiledPattern compile(String pattern) {
+        List<Element> elements = patternSyntax ? parse(pattern) : literal(pattern);
+        if (ignoreCase) {
+            for (Element element : elements) {
+                element.expandCase();
+            }
+        }
+        return new Compiled(pattern, elements);
+    }
+
+    // Одна позиция паттерна: любой символ, набор символов или его дополнение
+    private static final class Element {
+        final boolean any;
+        final boolean negated;
+        char[] chars;
+
+        Element(boolean any, boolean negated, char[] chars) {
+            this.any = any;
+            this.negated = negated;
+            this.chars = chars;
+        }
+
+        void expandCase() {
+            StringBuilder sb = new StringBuilder();
+            for (char c : chars) {
+                sb.append(CaseFolding.variants(c));
+            }
+            chars = sb.toString().toCharArray();
+        }
+    }
+
+    private static List<Element> literal(String pattern) {
+        List<Element> elements = new ArrayList<>(pattern.length());
+        for (int i = 0; i < pattern.length(); i++) {
+            elements.add(new Element(false, false, new char[]{pattern.charAt(i)}));
+        }
+        return elements;
+    }
+
+    private static List<Element> parse(String pattern) {
+        List<Element> elements = new ArrayList<>();
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i++);
+            if (c == '?') {
+                elements.add(new Element(true, false, new char[0]));
+            } else if (c == '\\') {
+                if (i == pattern.length()) {
+                    throw new IllegalArgumentException("Паттерн заканчивается на '\\': " + pattern);
+                }
+                elements.add(new Element(false, false, new char[]{pattern.charAt(i++)}));
+            } else if (c == '[') {
+                boolean negated = i < pattern.length() && pattern.charAt(i) == '^';
+                if (negated) {
+                    i++;
+                }
+                StringBuilder chars = new StringBuilder();
+                boolean closed = false;
+                // ']' сразу после '[' или '[^' - обычный символ
+                boolean first = true;
+                while (i < pattern.length()) {
+                    char from = pattern.charAt(i++);
+                    if (from == ']' && !first) {
+                        closed = true;
+                        break;
+                    }
+                    first = false;
+                    if (from == '\\' && i < pattern.length()) {
+                        from = pattern.charAt(i++);
+                    }
+                    if (i + 1 < pattern.length() && pattern.charAt(i) == '-' && pattern.charAt(i + 1) != ']') {
+                        char to = pattern.charAt(i + 1);
+                        i += 2;
+                        if (to == '\\' && i < pattern.length()) {
+                            to = pattern.charAt(i++);
+                        }
+                        if (to < from) {
+                            throw new IllegalArgumentException("Неверный диапазон " + from + "-" + to + ": " + pattern);
+                        }
+                        for (int ch = from; ch <= to; ch++) {
+                            chars.append((char) ch);
+                        }
+                    } else {
+                        chars.append(from);
+                    }
+                }
+                if (!closed) {
+                    throw new IllegalArgumentException("Незакрытый класс символов: " + pattern);
+                }
+                elements.add(new Element(false, negated, chars.toString().toCharArray()));
+            } else {
+                elements.add(new Element(false, false, new char[]{c}));
+            }
+        }
+        return elements;
+    }
+
+    private static final class Compiled implements CompiledPattern {
+        private final String pattern;
+        private final int m;
+        private final int words;
+        private final CharIndexMap index;
+        // Инвертированные маски (0 - символ допустим), по words слов на символ.
+        // Маска 0 - для символов, которых нет в паттерне: допускают только '?' и [^...]
+        private final long[] masks;
+
+        Compiled(String pattern, List<Element> elements) {
+            this.pattern = pattern;
+            this.m = elements.size();
+            this.words = Math.max(1, (m + 63) >>> 6);
+            this.index = new CharIndexMap();
+
+            long[] fallback = new long[words];
+            for (int i = 0; i < m; i++) {
+                Element element = elements.get(i);
+                if (element.any || element.negated) {
+                    fallback[i >>> 6] |= 1L << i;
+                }
+                for (char c : element.chars) {
+                    index.add(c);
+                }
+            }
+
+            // Прямые маски: бит i установлен, если символ допустим в позиции i
+            long[] allowed = new long[(index.size() + 1) * words];
+            for (int k = 0; k <= index.size(); k++) {
+                System.arraycopy(fallback, 0, allowed, k * words, words);
+            }
+            for (int i = 0; i < m; i++) {
+                Element element = elements.get(i);
+                for (char c : element.chars) {
+                    int at = (index.get(c) + 1) * words + (i >>> 6);
+                    if (element.negated) {
+                        allowed[at] &= ~(1L << i);
+                    } else {
+                        allowed[at] |= 1L << i;
+                    }
+                }
+            }
+            for (int j = 0; j < allowed.length; j++) {
+                allowed[j] = ~allowed[j];
+            }
+            this.masks = allowed;
+        }
+
+        @Override
+        public String getPattern() {
+            return pattern;
+        }
+
+        @Override
+        public void search(String text, MatchSink sink) {
+            search(text, 0, text.length(), sink);
+        }
+
+        @Override
+        public void search(String text, int from, int to, MatchSink sink) {
+            if (m == 0) {
+                return;
+            }
+            if (words == 1) {
+                searchSingleWord(text, from, to, sink);
+            } else {
+                searchMultiWord(text, from, to, sink);
+            }
+        }
+
+        private void searchSingleWord(String text, int from, int to, MatchSink sink) {
+            long matchBit = 1L << (m - 1);
+            long state = ~0L;
+            for (int i = from; i < to; i++) {
+                state = (state << 1) | masks[index.get(text.charAt(i)) + 1];
+                if ((state & matchBit) == 0) {
+                    sink.onMatch(i - m + 1);
+                    if (sink.isDone()) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        private void searchMultiWord(String text, int from, int to, MatchSink sink) {
+            int last = words - 1;
+            long matchBit = 1L << ((m - 1) & 63);
+            long[] state = new long[words];
+            Arrays.fill(state, ~0L);
+            for (int i = from; i < to; i++) {
+                int base = (index.get(text.charAt(i)) + 1) * words;
+                long carry = 0;
+                for (int w = 0; w < words; w++) {
+                    long value = state[w];
+                    state[w] = (value << 1) | carry | masks[base + w];
+                    carry = value >>> 63;
+                }
+                if ((state[last] & matchBit) == 0) {
+                    sink.onMatch(i - m + 1);
+                    if (sink.isDone()) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean isExact() {
+        return !patternSyntax && !ignoreCase;
+    }
+
+    @Override
+    public String getName() {
+        return "Shift-Or" + (patternSyntax ? "" : " (буквально)") + (ignoreCase ? " (без регистра)" : "");
+    }
+}
@@ -0,0 +1,96 @@
+package com.search.benchmark.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Таблица последних вхождений символов паттерна для эвристики плохого символа.
+ * FULL - массив на весь UTF-16 (256 КБ), LOW_BYTE - 256 элементов по младшему байту,
+ * HASHED - открытая адресация только по различным символам паттерна.
+ * В LOW_BYTE символы с одинаковым младшим байтом делят ячейку и хранится
+ * наибольший индекс - сдвиг получается меньше, но никогда не пропускает вхождение.
+ */
+public abstract class ShiftTable {
+
+    public enum Kind {
+        FULL(""),
+        LOW_BYTE(" [256]"),
+        HASHED(" [хеш]");
+
+        private final String suffix;
+
+        Kind(String suffix) {
+            this.suffix = suffix;
+        }
+
+        public String getSuffix() {
+            return suffix;
+        }
+    }
+
+    // Индекс последнего вхождения символа или -1
+    public abstract int lastIndex(char c);
+
+    // Таблица по первым length символам паттерна
+    public static ShiftTable build(String pattern, int length, Kind kind) {
+        switch (kind) {
+            case LOW_BYTE:
+                return new LowByte(pattern, length);
+            case HASHED:
+                return new Hashed(pattern, length);
+            default:
+                return new Full(pattern, length);
+        }
+    }
+
+    private static final class Full extends ShiftTable {
+        private final int[] last = new int[65536];
+
+        Full(String pattern, int length) {
+            Arrays.fill(last, -1);
+            for (int i = 0; i < length; i++) {
+                last[pattern.charAt(i)] = i;
+            }
+        }
+
+        @Override
+        public int lastIndex(char c) {
+            return last[c];
+        }
+    }
+
+    private static final class LowByte extends ShiftTable {
+        private final int[] last = new int[256];
+
+        LowByte(String pattern, int length) {
+            Arrays.fill(last, -1);
+            for (int i = 0; i < length; i++) {
+                last[pattern.charAt(i) & 0xFF] = i;
+            }
+        }
+
+        @Override
+        public int lastIndex(char c) {
+            return last[c & 0xFF];
+        }
+    }
+
+    private static final class Hashed extends ShiftTable {
+        private final CharIndexMap index;
+        private final int[] last;
+
+        Hashed(String pattern, int length) {
+            index = new CharIndexMap(length);
+            int[] values = new int[Math.max(1, length)];
+            for (int i = 0; i < length; i++) {
+                values[index.add(pattern.charAt(i))] = i;
+            }
+            last = Arrays.copyOf(values, Math.max(1, index.size()));
+        }
+
+        @Override
+        public int lastIndex(char c) {
+            int i = index.get(c);
+            return i < 0 ? -1 : last[i];
+        }
+    }
+}
@@ -3,6 +3,54 @@ package com.search.benchmark.algorithms;
 import com.search.benchmark.stats.AlgorithmStats;
 
 public interface StringSearchAlgorithm {
+    // Инструментированный режим: время, проверки символов, коллизии и позиции
     AlgorithmStats search(String text, String pattern);
+
+    // То же на участке text[from, to): только вхождения, целиком лежащие в участке,
+    // позиции - относительно всего текста. По умолчанию участок копируется,
+    // движки со сканирующим циклом ищут на месте
+    default AlgorithmStats search(String text, int from, int to, String pattern) {
+        AlgorithmStats region = search(text.substring(from, to), pattern);
+        AlgorithmStats stats = new AlgorithmStats(region.getAlgorithmName());
+        stats.addCharChecks(region.getCharChecks());
+        stats.addCollisions(region.getCollisions());
+        for (int position : region.getPositionArray()) {
+            stats.addPosition(from + position);
+        }
+        stats.setTimeNanos(region.getTimeNanos());
+        return stats;
+    }
+
+    // Предобработка паттерна один раз для многократного поиска
+    CompiledPattern compile(String pattern);
+
+    // Быстрый режим: без подсчета проверок, позиции передаются в sink
+    default void search(String text, String pattern, MatchSink sink) {
+        compile(pattern).search(text, sink);
+    }
+
+    // Режимы запроса с ранней остановкой, см. CompiledPattern
+    default boolean contains(String text, String pattern) {
+        return compile(pattern).contains(text);
+    }
+
+    default int indexOf(String text, String pattern) {
+        return compile(pattern).indexOf(text);
+    }
+
+    default int[] firstN(String text, String pattern, int limit) {
+        return compile(pattern).firstN(text, limit);
+    }
+
+    default int count(String text, String pattern) {
+        return compile(pattern).count(text);
+    }
+
+    // true - точное совпадение с учетом регистра, без шаблонов и ошибок.
+    // На это полагаются индексы, отбирающие кандидатов по подстрокам паттерна (TrigramIndex)
+    default boolean isExact() {
+        return true;
+    }
+
     String getName();
-}
\ No newline at end of file
+}
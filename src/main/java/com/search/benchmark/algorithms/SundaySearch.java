@@ -0,0 +1,116 @@
+package com.search.benchmark.algorithms;
+
+import com.search.benchmark.stats.AlgorithmStats;
+
+// Санди (Quick Search): сдвиг по символу текста сразу за окном, сравнение слева направо
+public class SundaySearch implements StringSearchAlgorithm {
+    private final ShiftTable.Kind tableKind;
+
+    public SundaySearch() {
+        this(ShiftTable.Kind.FULL);
+    }
+
+    public SundaySearch(ShiftTable.Kind tableKind) {
+        this.tableKind = tableKind;
+    }
+
+    @Override
+    public AlgorithmStats search(String text, String pattern) {
+        return search(text, 0, text.length(), pattern);
+    }
+
+    @Override
+    public AlgorithmStats search(String text, int from, int to, String pattern) {
+        AlgorithmStats stats = new AlgorithmStats(getName());
+        long startTime = System.nanoTime();
+
+        int m = pattern.length();
+
+        if (m == 0) {
+            stats.setTimeNanos(System.nanoTime() - startTime);
+            return stats;
+        }
+
+        ShiftTable table = ShiftTable.build(pattern, m, tableKind);
+
+        int s = from;
+        while (s <= to - m) {
+            int j = 0;
+            while (j < m) {
+                stats.incrementCharChecks();
+                if (pattern.charAt(j) != text.charAt(s + j)) {
+                    break;
+                }
+                j++;
+            }
+
+            if (j == m) {
+                stats.addPosition(s);
+            }
+            if (s + m >= to) {
+                break;
+            }
+            s += m - table.lastIndex(text.charAt(s + m));
+        }
+
+        stats.setTimeNanos(System.nanoTime() - startTime);
+        return stats;
+    }
+
+    @Override
+    public CompiledPattern compile(String pattern) {
+        return new Compiled(pattern, ShiftTable.build(pattern, pattern.length(), tableKind));
+    }
+
+    private static final class Compiled implements CompiledPattern {
+        private final String pattern;
+        private final ShiftTable table;
+
+        Compiled(String pattern, ShiftTable table) {
+            this.pattern = pattern;
+            this.table = table;
+        }
+
+        @Override
+        public String getPattern() {
+            return pattern;
+        }
+
+        @Override
+        public void search(String text, MatchSink sink) {
+            search(text, 0, text.length(), sink);
+        }
+
+        @Override
+        public void search(String text, int from, int to, MatchSink sink) {
+            int m = pattern.length();
+
+            if (m == 0) {
+                return;
+            }
+
+            int s = from;
+            while (s <= to - m) {
+                int j = 0;
+                while (j < m && pattern.charAt(j) == text.charAt(s + j)) {
+                    j++;
+                }
+                if (j == m) {
+                    sink.onMatch(s);
+                    if (sink.isDone()) {
+                        return;
+                    }
+                }
+                if (s + m >= to) {
+                    break;
+                }
+                s += m - table.lastIndex(text.charAt(s + m));
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Санди (Quick Search)" + tableKind.getSuffix();
+    }
+}
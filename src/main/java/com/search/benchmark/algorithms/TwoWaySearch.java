@@ -0,0 +1,231 @@
+package com.search.benchmark.algorithms;
+
+import com.search.benchmark.stats.AlgorithmStats;
+
+/**
+ * Two-Way (Крошмор-Перрен), как в memmem из glibc. Паттерн делится критической
+ * факторизацией x = u·v: v сравнивается слева направо, затем u справа налево.
+ * Для периодического паттерна после совпадения запоминается уже проверенный префикс.
+ * Время O(n) в худшем случае, дополнительная память O(1): факторизация
+ * и таблица плохого символа на 256 ячеек (по младшему байту) не зависят от m.
+ */
+public class TwoWaySearch implements StringSearchAlgorithm {
+
+    @Override
+    public AlgorithmStats search(String text, String pattern) {
+        return search(text, 0, text.length(), pattern);
+    }
+
+    @Override
+    public AlgorithmStats search(String text, int from, int to, String pattern) {
+        AlgorithmStats stats = new AlgorithmStats(getName());
+        long startTime = System.nanoTime();
+
+        int m = pattern.length();
+
+        if (m == 0) {
+            stats.setTimeNanos(System.nanoTime() - startTime);
+            return stats;
+        }
+
+        Factorization f = new Factorization(pattern);
+        ShiftTable skip = ShiftTable.build(pattern, m, ShiftTable.Kind.LOW_BYTE);
+        int ell = f.ell;
+        int period = f.period;
+
+        int s = from;
+        int memory = -1; // индекс последнего символа уже совпавшего префикса окна
+        while (s <= to - m) {
+            // Быстрый пропуск по последнему символу окна
+            stats.incrementCharChecks();
+            int shift = m - 1 - skip.lastIndex(text.charAt(s + m - 1));
+            if (shift > 0) {
+                if (f.periodic && memory >= 0 && shift < period) {
+                    shift = m - period;
+                }
+                s += shift;
+                memory = -1;
+                continue;
+            }
+
+            // Правая часть v - слева направо
+            int i = Math.max(ell, memory) + 1;
+            while (i < m && pattern.charAt(i) == text.charAt(s + i)) {
+                stats.incrementCharChecks();
+                i++;
+            }
+            if (i < m) {
+                stats.incrementCharChecks();
+                s += i - ell;
+                memory = -1;
+                continue;
+            }
+
+            // Левая часть u - справа налево, до уже известного префикса
+            i = ell;
+            while (i > memory && pattern.charAt(i) == text.charAt(s + i)) {
+                stats.incrementCharChecks();
+                i--;
+            }
+            if (i <= memory) {
+                stats.addPosition(s);
+            } else {
+                stats.incrementCharChecks();
+            }
+            s += period;
+            memory = f.periodic ? m - period - 1 : -1;
+        }
+
+        stats.setTimeNanos(System.nanoTime() - startTime);
+        return stats;
+    }
+
+    /**
+     * Критическая факторизация: из двух максимальных суффиксов (для прямого
+     * и обратного порядка символов) берется более длинная левая часть.
+     * ell - последний индекс u, period - период паттерна, если он периодический
+     * относительно факторизации, иначе безопасный сдвиг max(|u|, |v|) + 1.
+     */
+    static final class Factorization {
+        final int ell;
+        final int period;
+        final boolean periodic;
+
+        Factorization(String pattern) {
+            int m = pattern.length();
+            int[] direct = maxSuffix(pattern, false);
+            int[] reversed = maxSuffix(pattern, true);
+            int[] chosen = direct[0] > reversed[0] ? direct : reversed;
+            ell = chosen[0];
+            int p = chosen[1];
+
+            // Периодичен, если u является суффиксом префикса длины p
+            boolean matches = p + ell + 1 <= m;
+            for (int i = 0; matches && i <= ell; i++) {
+                matches = pattern.charAt(i) == pattern.charAt(i + p);
+            }
+            periodic = matches;
+            period = periodic ? p : Math.max(ell + 1, m - ell - 1) + 1;
+        }
+
+        // {начало максимального суффикса - 1, его период}
+        private static int[] maxSuffix(String x, boolean reversedOrder) {
+            int m = x.length();
+            int ms = -1;
+            int j = 0;
+            int k = 1;
+            int p = 1;
+            while (j + k < m) {
+                char a = x.charAt(j + k);
+                char b = x.charAt(ms + k);
+                if (reversedOrder ? a > b : a < b) {
+                    j += k;
+                    k = 1;
+                    p = j - ms;
+                } else if (a == b) {
+                    if (k != p) {
+                        k++;
+                    } else {
+                        j += p;
+                        k = 1;
+                    }
+                } else {
+                    ms = j;
+                    j = ms + 1;
+                    k = 1;
+                    p = 1;
+                }
+            }
+            return new int[]{ms, p};
+        }
+    }
+
+    @Override
+    public CompiledPattern compile(String pattern) {
+        return new Compiled(pattern);
+    }
+
+    private static final class Compiled implements CompiledPattern {
+        private final String pattern;
+        private final ShiftTable skip;
+        private final int ell;
+        private final int period;
+        private final boolean periodic;
+
+        Compiled(String pattern) {
+            this.pattern = pattern;
+            this.skip = ShiftTable.build(pattern, pattern.length(), ShiftTable.Kind.LOW_BYTE);
+            if (pattern.isEmpty()) {
+                this.ell = -1;
+                this.period = 1;
+                this.periodic = false;
+            } else {
+                Factorization f = new Factorization(pattern);
+                this.ell = f.ell;
+                this.period = f.period;
+                this.periodic = f.periodic;
+            }
+        }
+
+        @Override
+        public String getPattern() {
+            return pattern;
+        }
+
+        @Override
+        public void search(String text, MatchSink sink) {
+            search(text, 0, text.length(), sink);
+        }
+
+        @Override
+        public void search(String text, int from, int to, MatchSink sink) {
+            int m = pattern.length();
+
+            if (m == 0) {
+                return;
+            }
+
+            int s = from;
+            int memory = -1;
+            while (s <= to - m) {
+                int shift = m - 1 - skip.lastIndex(text.charAt(s + m - 1));
+                if (shift > 0) {
+                    if (periodic && memory >= 0 && shift < period) {
+                        shift = m - period;
+                    }
+                    s += shift;
+                    memory = -1;
+                    continue;
+                }
+
+                int i = Math.max(ell, memory) + 1;
+                while (i < m && pattern.charAt(i) == text.charAt(s + i)) {
+                    i++;
+                }
+                if (i < m) {
+                    s += i - ell;
+                    memory = -1;
+                    continue;
+                }
+
+                i = ell;
+                while (i > memory && pattern.charAt(i) == text.charAt(s + i)) {
+                    i--;
+                }
+                if (i <= memory) {
+                    sink.onMatch(s);
+                    if (sink.isDone()) {
+                        return;
+                    }
+                }
+                s += period;
+                memory = periodic ? m - period - 1 : -1;
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Two-Way (Крошмор-Перрен)";
+    }
+}
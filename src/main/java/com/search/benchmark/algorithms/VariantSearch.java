@@ -0,0 +1,129 @@
+package com.search.benchmark.algorithms;
+
+import com.search.benchmark.stats.AlgorithmStats;
+import com.search.benchmark.stats.ApproximateStats;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Базовый вариант для сравнения с ApproximateSearch: перебирает все строки на расстоянии
+ * не больше k от паттерна (замены, а для EDIT еще вставки и удаления символов алфавита текста)
+ * и ищет каждую точным алгоритмом. Число вариантов растет как (m·σ)^k.
+ * Позиции и расстояния совпадают с ApproximateSearch того же режима.
+ */
+public class VariantSearch implements ApproximateSearchAlgorithm {
+    private final StringSearchAlgorithm exact;
+    private final ApproximateSearch.Mode mode;
+    private final int maxDistance;
+
+    public VariantSearch(StringSearchAlgorithm exact, ApproximateSearch.Mode mode, int maxDistance) {
+        this.exact = exact;
+        this.mode = mode;
+        this.maxDistance = maxDistance;
+    }
+
+    @Override
+    public ApproximateStats search(String text, String pattern) {
+        ApproximateStats stats = new ApproximateStats(getName(), maxDistance);
+        long startTime = System.nanoTime();
+
+        // Лучшее расстояние для каждой позиции
+        int[] best = new int[text.length() + 1];
+        Arrays.fill(best, Integer.MAX_VALUE);
+        for (Map.Entry<String, Integer> variant : variants(pattern, alphabet(text)).entrySet()) {
+            String candidate = variant.getKey();
+            int distance = variant.getValue();
+            AlgorithmStats found = exact.search(text, candidate);
+            stats.addCharChecks(found.getCharChecks());
+            for (int start : found.getPositionArray()) {
+                int position = mode == ApproximateSearch.Mode.EDIT ? start + candidate.length() : start;
+                best[position] = Math.min(best[position], distance);
+            }
+        }
+        for (int position = 0; position < best.length; position++) {
+            if (best[position] != Integer.MAX_VALUE) {
+                stats.addMatch(position, best[position]);
+            }
+        }
+
+        stats.setTimeNanos(System.nanoTime() - startTime);
+        return stats;
+    }
+
+    // Варианты по уровням: каждый вариант получает минимальное число правок
+    private Map<String, Integer> variants(String pattern, char[] alphabet) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        result.put(pattern, 0);
+        List<String> level = List.of(pattern);
+        for (int d = 1; d <= maxDistance; d++) {
+            List<String> next = new ArrayList<>();
+            for (String s : level) {
+                for (String edited : edits(s, alphabet)) {
+                    if (!edited.isEmpty() && result.putIfAbsent(edited, d) == null) {
+                        next.add(edited);
+                    }
+                }
+            }
+            level = next;
+        }
+        return result;
+    }
+
+    private List<String> edits(String s, char[] alphabet) {
+        List<String> edits = new ArrayList<>();
+        for (int i = 0; i < s.length(); i++) {
+            for (char c : alphabet) {
+                if (c != s.charAt(i)) {
+                    edits.add(s.substring(0, i) + c + s.substring(i + 1));
+                }
+            }
+        }
+        if (mode == ApproximateSearch.Mode.EDIT) {
+            for (int i = 0; i < s.length(); i++) {
+                edits.add(s.substring(0, i) + s.substring(i + 1));
+            }
+            for (int i = 0; i <= s.length(); i++) {
+                for (char c : alphabet) {
+                    edits.add(s.substring(0, i) + c + s.substring(i));
+                }
+            }
+        }
+        return edits;
+    }
+
+    private static char[] alphabet(String text) {
+        CharIndexMap seen = new CharIndexMap();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (seen.get(c) < 0) {
+                seen.add(c);
+                sb.append(c);
+            }
+        }
+        return sb.toString().toCharArray();
+    }
+
+    // Варианты зависят от алфавита текста, поэтому перебор выполняется при каждом поиске
+    @Override
+    public void search(String text, String pattern, ApproximateMatchSink sink) {
+        ApproximateStats stats = search(text, pattern);
+        int[] positions = stats.getPositionArray();
+        int[] distances = stats.getDistanceArray();
+        for (int i = 0; i < positions.length; i++) {
+            sink.onMatch(positions[i], distances[i]);
+            if (sink.isDone()) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Перебор вариантов (" + mode.getTitle() + ", k=" + maxDistance + ", " + exact.getName() + ")";
+    }
+}
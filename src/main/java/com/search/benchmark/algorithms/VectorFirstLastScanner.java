@@ -0,0 +1,53 @@
+package com.search.benchmark.algorithms;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+// Сравнение первого и последнего символа паттерна сразу для 8-32 позиций (в зависимости от ширины SIMD)
+final class VectorFirstLastScanner extends FirstLastScanner {
+    private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+
+    @Override
+    void scan(char[] buffer, int windows, char[] pattern, int base, MatchSink sink) {
+        int lastOffset = pattern.length - 1;
+        ShortVector first = ShortVector.broadcast(SPECIES, (short) pattern[0]);
+        ShortVector last = ShortVector.broadcast(SPECIES, (short) pattern[lastOffset]);
+
+        int i = 0;
+        int bound = SPECIES.loopBound(windows);
+        for (; i < bound; i += SPECIES.length()) {
+            ShortVector head = ShortVector.fromCharArray(SPECIES, buffer, i);
+            ShortVector tail = ShortVector.fromCharArray(SPECIES, buffer, i + lastOffset);
+            VectorMask<Short> candidates = head.eq(first).and(tail.eq(last));
+
+            long bits = candidates.toLong();
+            while (bits != 0) {
+                int start = i + Long.numberOfTrailingZeros(bits);
+                if (middleMatches(buffer, start, pattern)) {
+                    sink.onMatch(base + start);
+                    if (sink.isDone()) {
+                        return;
+                    }
+                }
+                bits &= bits - 1;
+            }
+        }
+
+        // Хвост, не кратный ширине вектора
+        char firstChar = pattern[0];
+        char lastChar = pattern[lastOffset];
+        for (; i < windows; i++) {
+            if (buffer[i] == firstChar && buffer[i + lastOffset] == lastChar && middleMatches(buffer, i, pattern)) {
+                sink.onMatch(base + i);
+                if (sink.isDone()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    static int lanes() {
+        return SPECIES.length();
+    }
+}
@@ -0,0 +1,128 @@
+package com.search.benchmark.algorithms;
+
+import com.search.benchmark.stats.AlgorithmStats;
+
+/**
+ * SIMD-поиск (Java Vector API): первый и последний символ паттерна сравниваются
+ * сразу с несколькими позициями текста, посимвольно проверяются только кандидаты.
+ * Текст копируется блоками в буфер char[], т.к. Vector API не читает из String.
+ * Без модуля jdk.incubator.vector (--add-modules) используется скалярный фильтр.
+ */
+public class VectorSearch implements StringSearchAlgorithm {
+    private static final int BLOCK_SIZE = 8192;
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final FirstLastScanner SCANNER = loadScanner();
+
+    private static FirstLastScanner loadScanner() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            try {
+                return (FirstLastScanner) Class.forName("com.search.benchmark.algorithms.VectorFirstLastScanner")
+                        .getDeclaredConstructor()
+                        .newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                System.err.println("Vector API недоступен, используется скалярный поиск: " + e);
+            }
+        }
+        return new FirstLastScanner.Scalar();
+    }
+
+    public static boolean isVectorized() {
+        return !(SCANNER instanceof FirstLastScanner.Scalar);
+    }
+
+    @Override
+    public AlgorithmStats search(String text, String pattern) {
+        return search(text, 0, text.length(), pattern);
+    }
+
+    @Override
+    public AlgorithmStats search(String text, int from, int to, String pattern) {
+        AlgorithmStats stats = new AlgorithmStats(getName());
+        long startTime = System.nanoTime();
+
+        int m = pattern.length();
+
+        if (m == 0) {
+            stats.setTimeNanos(System.nanoTime() - startTime);
+            return stats;
+        }
+
+        // Инструментированный вариант: тот же фильтр по первому/последнему символу, по одной позиции
+        char first = pattern.charAt(0);
+        char last = pattern.charAt(m - 1);
+        for (int i = from; i <= to - m; i++) {
+            stats.incrementCharChecks();
+            if (text.charAt(i) != first) {
+                continue;
+            }
+            stats.incrementCharChecks();
+            if (text.charAt(i + m - 1) != last) {
+                continue;
+            }
+            int j = 1;
+            while (j < m - 1) {
+                stats.incrementCharChecks();
+                if (text.charAt(i + j) != pattern.charAt(j)) {
+                    break;
+                }
+                j++;
+            }
+            if (j >= m - 1) {
+                stats.addPosition(i);
+            }
+        }
+
+        stats.setTimeNanos(System.nanoTime() - startTime);
+        return stats;
+    }
+
+    @Override
+    public CompiledPattern compile(String pattern) {
+        return new Compiled(pattern);
+    }
+
+    private static final class Compiled implements CompiledPattern {
+        private final String pattern;
+        private final char[] chars;
+
+        Compiled(String pattern) {
+            this.pattern = pattern;
+            this.chars = pattern.toCharArray();
+        }
+
+        @Override
+        public String getPattern() {
+            return pattern;
+        }
+
+        @Override
+        public void search(String text, MatchSink sink) {
+            search(text, 0, text.length(), sink);
+        }
+
+        @Override
+        public void search(String text, int from, int to, MatchSink sink) {
+            int m = chars.length;
+
+            if (m == 0 || to - from < m) {
+                return;
+            }
+
+            // Блоки перекрываются на m-1 символ, чтобы не терять вхождения на стыках
+            char[] buffer = new char[Math.min(to - from, BLOCK_SIZE + m - 1)];
+            for (int start = from; start <= to - m; start += BLOCK_SIZE) {
+                int end = Math.min(to, start + BLOCK_SIZE + m - 1);
+                text.getChars(start, end, buffer, 0);
+                SCANNER.scan(buffer, end - start - m + 1, chars, start, sink);
+                if (sink.isDone()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return isVectorized() ? "SIMD (Vector API)" : "SIMD (скалярный фильтр)";
+    }
+}
@@ -0,0 +1,155 @@
+package com.search.benchmark.auto;
+
+import com.search.benchmark.algorithms.CompiledPattern;
+import com.search.benchmark.algorithms.MatchSink;
+import com.search.benchmark.algorithms.StringSearchAlgorithm;
+import com.search.benchmark.stats.AlgorithmStats;
+
+/**
+ * Выбирает алгоритм под запрос по профилю калибровки: длина паттерна,
+ * оценка алфавита по выборке из текста и длина текста.
+ * Выбор стоит O(1): выборка ограничена SAMPLE символами.
+ */
+public class AutoSearch implements StringSearchAlgorithm {
+    private static final int SAMPLE = 64;
+
+    private final CalibrationProfile profile;
+    private final StringSearchAlgorithm[] engines;
+
+    // Профиль из calibration.properties, загружается один раз
+    private static final class DefaultProfile {
+        static final CalibrationProfile INSTANCE = CalibrationProfile.loadOrDefault(CalibrationProfile.DEFAULT_PATH);
+    }
+
+    public AutoSearch() {
+        this(DefaultProfile.INSTANCE);
+    }
+
+    public AutoSearch(CalibrationProfile profile) {
+        this.profile = profile;
+        CalibrationProfile.Engine[] values = CalibrationProfile.Engine.values();
+        this.engines = new StringSearchAlgorithm[values.length];
+        for (CalibrationProfile.Engine engine : values) {
+            engines[engine.ordinal()] = engine.create();
+        }
+    }
+
+    public CalibrationProfile.Engine choose(String text, String pattern) {
+        return choose(text, 0, text.length(), pattern);
+    }
+
+    // Выбор для участка text[from, to): выборка и длина берутся по участку
+    private CalibrationProfile.Engine choose(String text, int from, int to, String pattern) {
+        return profile.choose(pattern.length(), estimateAlphabet(text, from, to), to - from);
+    }
+
+    // Число различных символов в равномерной выборке из не более чем SAMPLE позиций.
+    // Латиница-1 учитывается битовой маской, остальные символы - коротким списком
+    static int estimateAlphabet(String text) {
+        return estimateAlphabet(text, 0, text.length());
+    }
+
+    private static int estimateAlphabet(String text, int from, int to) {
+        int n = to - from;
+        int count = Math.min(n, SAMPLE);
+        long[] latin = new long[4];
+        char[] other = null;
+        int distinct = 0;
+        int others = 0;
+        long step = count == 0 ? 0 : ((long) n << 16) / count;
+        for (int i = 0; i < count; i++) {
+            char c = text.charAt(from + (int) ((i * step) >>> 16));
+            if (c < 256) {
+                long bit = 1L << c;
+                if ((latin[c >>> 6] & bit) == 0) {
+                    latin[c >>> 6] |= bit;
+                    distinct++;
+                }
+            } else {
+                if (other == null) {
+                    other = new char[SAMPLE];
+                }
+                int j = 0;
+                while (j < others && other[j] != c) {
+                    j++;
+                }
+                if (j == others) {
+                    other[others++] = c;
+                    distinct++;
+                }
+            }
+        }
+        return distinct;
+    }
+
+    @Override
+    public AlgorithmStats search(String text, String pattern) {
+        return search(text, 0, text.length(), pattern);
+    }
+
+    @Override
+    public AlgorithmStats search(String text, int from, int to, String pattern) {
+        long startTime = System.nanoTime();
+        StringSearchAlgorithm engine = engines[choose(text, from, to, pattern).ordinal()];
+        AlgorithmStats chosen = engine.search(text, from, to, pattern);
+
+        // Переносим результат под своим именем, время включает выбор
+        AlgorithmStats stats = new AlgorithmStats(getName());
+        for (int position : chosen.getPositionArray()) {
+            stats.addPosition(position);
+        }
+        stats.addCharChecks(chosen.getCharChecks());
+        stats.addCollisions(chosen.getCollisions());
+        stats.setTimeNanos(System.nanoTime() - startTime);
+        return stats;
+    }
+
+    @Override
+    public void search(String text, String pattern, MatchSink sink) {
+        engines[choose(text, pattern).ordinal()].search(text, pattern, sink);
+    }
+
+    @Override
+    public CompiledPattern compile(String pattern) {
+        return new Compiled(pattern);
+    }
+
+    // Паттерн компилируется выбранным алгоритмом при первом тексте, для которого тот выбран
+    private final class Compiled implements CompiledPattern {
+        private final String pattern;
+        private final CompiledPattern[] compiled = new CompiledPattern[engines.length];
+
+        Compiled(String pattern) {
+            this.pattern = pattern;
+        }
+
+        @Override
+        public String getPattern() {
+            return pattern;
+        }
+
+        @Override
+        public void search(String text, MatchSink sink) {
+            search(text, 0, text.length(), sink);
+        }
+
+        @Override
+        public void search(String text, int from, int to, MatchSink sink) {
+            int engine = choose(text, from, to, pattern).ordinal();
+            CompiledPattern target = compiled[engine];
+            if (target == null) {
+                target = engines[engine].compile(pattern);
+                compiled[engine] = target;
+            }
+            target.search(text, from, to, sink);
+        }
+    }
+
+    // Геттеры
+    public CalibrationProfile getProfile() { return profile; }
+
+    @Override
+    public String getName() {
+        return "Автовыбор";
+    }
+}
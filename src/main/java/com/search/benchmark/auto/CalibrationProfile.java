@@ -0,0 +1,188 @@
+package com.search.benchmark.auto;
+
+import com.search.benchmark.algorithms.BoyerMooreSearch;
+import com.search.benchmark.algorithms.KMPSearch;
+import com.search.benchmark.algorithms.NaiveSearch;
+import com.search.benchmark.algorithms.RabinKarpSearch;
+import com.search.benchmark.algorithms.StringSearchAlgorithm;
+import com.search.benchmark.hash.HornerHash;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * Таблица решений для AutoSearch. Признаки запроса (длина паттерна, оценка алфавита,
+ * длина текста) раскладываются по корзинам границами, для каждой ячейки хранится
+ * самый быстрый на этой машине алгоритм. Сохраняется в файл .properties.
+ */
+public class CalibrationProfile {
+    public static final Path DEFAULT_PATH = Paths.get("calibration.properties");
+
+    public enum Engine {
+        NAIVE, KMP, BOYER_MOORE, RABIN_KARP;
+
+        public StringSearchAlgorithm create() {
+            switch (this) {
+                case NAIVE:
+                    return new NaiveSearch();
+                case KMP:
+                    return new KMPSearch();
+                case BOYER_MOORE:
+                    return new BoyerMooreSearch();
+                default:
+                    return new RabinKarpSearch(new HornerHash());
+            }
+        }
+    }
+
+    // Верхние границы корзин включительно; последняя корзина открыта
+    private final int[] patternBounds;
+    private final int[] alphabetBounds;
+    private final int[] textBounds;
+    private final Engine[] cells;
+
+    public CalibrationProfile(int[] patternBounds, int[] alphabetBounds, int[] textBounds) {
+        this.patternBounds = patternBounds.clone();
+        this.alphabetBounds = alphabetBounds.clone();
+        this.textBounds = textBounds.clone();
+        this.cells = new Engine[(patternBounds.length + 1) * (alphabetBounds.length + 1) * (textBounds.length + 1)];
+        Arrays.fill(cells, Engine.BOYER_MOORE);
+    }
+
+    // Профиль без калибровки: правила по результатам Main.printOverallSummary
+    public static CalibrationProfile defaults() {
+        CalibrationProfile profile = new CalibrationProfile(new int[]{2, 8, 32}, new int[]{4, 40}, new int[]{1024});
+        for (int p = 0; p <= 3; p++) {
+            for (int a = 0; a <= 2; a++) {
+                Engine engine;
+                if (p == 0) {
+                    engine = Engine.NAIVE;
+                } else if (a == 0 && p < 3) {
+                    engine = Engine.KMP;
+                } else {
+                    engine = Engine.BOYER_MOORE;
+                }
+                profile.set(p, a, 0, p == 0 || p == 1 ? Engine.NAIVE : engine);
+                profile.set(p, a, 1, engine);
+            }
+        }
+        return profile;
+    }
+
+    // Профиль с диска, а если его нет или он повреждён - профиль по умолчанию
+    public static CalibrationProfile loadOrDefault(Path path) {
+        if (Files.exists(path)) {
+            try {
+                return load(path);
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("Профиль калибровки не загружен (" + path + "): " + e.getMessage());
+            }
+        }
+        return defaults();
+    }
+
+    public static CalibrationProfile load(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        CalibrationProfile profile = new CalibrationProfile(
+                parseBounds(properties, "pattern.bounds"),
+                parseBounds(properties, "alphabet.bounds"),
+                parseBounds(properties, "text.bounds"));
+        for (int p = 0; p <= profile.patternBounds.length; p++) {
+            for (int a = 0; a <= profile.alphabetBounds.length; a++) {
+                for (int t = 0; t <= profile.textBounds.length; t++) {
+                    String value = properties.getProperty(cellKey(p, a, t));
+                    if (value == null) {
+                        throw new IllegalArgumentException("Нет ячейки " + cellKey(p, a, t));
+                    }
+                    profile.set(p, a, t, Engine.valueOf(value.trim()));
+                }
+            }
+        }
+        return profile;
+    }
+
+    public void save(Path path) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("pattern.bounds", formatBounds(patternBounds));
+        properties.setProperty("alphabet.bounds", formatBounds(alphabetBounds));
+        properties.setProperty("text.bounds", formatBounds(textBounds));
+        for (int p = 0; p <= patternBounds.length; p++) {
+            for (int a = 0; a <= alphabetBounds.length; a++) {
+                for (int t = 0; t <= textBounds.length; t++) {
+                    properties.setProperty(cellKey(p, a, t), get(p, a, t).name());
+                }
+            }
+        }
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            properties.store(writer, "Калибровка AutoSearch");
+        }
+    }
+
+    public Engine choose(int patternLength, int alphabetSize, int textLength) {
+        return get(bucket(patternBounds, patternLength),
+                bucket(alphabetBounds, alphabetSize),
+                bucket(textBounds, textLength));
+    }
+
+    public Engine get(int patternBucket, int alphabetBucket, int textBucket) {
+        return cells[index(patternBucket, alphabetBucket, textBucket)];
+    }
+
+    public void set(int patternBucket, int alphabetBucket, int textBucket, Engine engine) {
+        cells[index(patternBucket, alphabetBucket, textBucket)] = engine;
+    }
+
+    private int index(int p, int a, int t) {
+        return (p * (alphabetBounds.length + 1) + a) * (textBounds.length + 1) + t;
+    }
+
+    private static int bucket(int[] bounds, int value) {
+        int i = 0;
+        while (i < bounds.length && value > bounds[i]) {
+            i++;
+        }
+        return i;
+    }
+
+    private static String cellKey(int p, int a, int t) {
+        return "cell." + p + "." + a + "." + t;
+    }
+
+    private static int[] parseBounds(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Нет ключа " + key);
+        }
+        value = value.trim();
+        if (value.isEmpty()) {
+            return new int[0];
+        }
+        return Arrays.stream(value.split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+    }
+
+    private static String formatBounds(int[] bounds) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < bounds.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(bounds[i]);
+        }
+        return sb.toString();
+    }
+
+    // Геттеры
+    public int[] getPatternBounds() { return patternBounds.clone(); }
+    public int[] getAlphabetBounds() { return alphabetBounds.clone(); }
+    public int[] getTextBounds() { return textBounds.clone(); }
+}
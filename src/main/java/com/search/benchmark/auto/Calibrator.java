@@ -0,0 +1,137 @@
+package com.search.benchmark.auto;
+
+import com.search.benchmark.algorithms.PositionCollector;
+import com.search.benchmark.algorithms.StringSearchAlgorithm;
+import com.search.benchmark.generators.TextGenerator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Калибровка AutoSearch на текущей машине: для каждой ячейки профиля генерирует
+ * текст с представительным алфавитом и длиной, замеряет все алгоритмы
+ * (с компиляцией паттерна, как при разовом вызове) и записывает самый быстрый.
+ */
+public class Calibrator {
+    private static final int[] PATTERN_BOUNDS = {2, 8, 32};
+    private static final int[] ALPHABET_BOUNDS = {4, 40};
+    private static final int[] TEXT_BOUNDS = {1024};
+
+    // Представители корзин: длины паттернов, алфавиты и длины текстов
+    private static final int[] PATTERN_SAMPLES = {2, 6, 16, 64};
+    private static final String[] ALPHABET_SAMPLES = {
+            "ACGT",
+            TextGenerator.getEnglishAlphabet() + " ",
+            TextGenerator.getEnglishAlphabet() + TextGenerator.getRussianAlphabet()
+                    + TextGenerator.getEnglishAlphabet().toUpperCase() + " .,"
+    };
+    private static final int[] TEXT_SAMPLES = {512, 200_000};
+
+    // Сколько миллисекунд замерять каждый алгоритм в каждой ячейке
+    private final long budgetNanos;
+
+    public Calibrator() {
+        this(20);
+    }
+
+    public Calibrator(long budgetMillis) {
+        this.budgetNanos = budgetMillis * 1_000_000L;
+    }
+
+    public CalibrationProfile calibrate() {
+        CalibrationProfile profile = new CalibrationProfile(PATTERN_BOUNDS, ALPHABET_BOUNDS, TEXT_BOUNDS);
+        CalibrationProfile.Engine[] engines = CalibrationProfile.Engine.values();
+        StringSearchAlgorithm[] algorithms = new StringSearchAlgorithm[engines.length];
+        for (CalibrationProfile.Engine engine : engines) {
+            algorithms[engine.ordinal()] = engine.create();
+        }
+
+        for (int t = 0; t < TEXT_SAMPLES.length; t++) {
+            for (int a = 0; a < ALPHABET_SAMPLES.length; a++) {
+                String text = TextGenerator.generateRandomText(TEXT_SAMPLES[t], ALPHABET_SAMPLES[a]);
+                for (int p = 0; p < PATTERN_SAMPLES.length; p++) {
+                    // Паттерн из середины текста, чтобы было хотя бы одно вхождение
+                    int start = (text.length() - PATTERN_SAMPLES[p]) / 2;
+                    String pattern = text.substring(start, start + PATTERN_SAMPLES[p]);
+
+                    CalibrationProfile.Engine best = null;
+                    double bestTime = Double.MAX_VALUE;
+                    for (CalibrationProfile.Engine engine : engines) {
+                        double time = measure(algorithms[engine.ordinal()], text, pattern);
+                        if (time < bestTime) {
+                            bestTime = time;
+                            best = engine;
+                        }
+                    }
+                    profile.set(p, a, t, best);
+                }
+            }
+        }
+        return profile;
+    }
+
+    // Медиана времени одного вызова по сериям, после прогрева
+    private double measure(StringSearchAlgorithm algorithm, String text, String pattern) {
+        PositionCollector collector = new PositionCollector();
+        int batch = 1;
+        long elapsed;
+        do {
+            batch *= 2;
+            elapsed = runBatch(algorithm, text, pattern, collector, batch);
+        } while (elapsed < budgetNanos / 20);
+
+        double[] samples = new double[9];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = (double) runBatch(algorithm, text, pattern, collector, batch) / batch;
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2];
+    }
+
+    private static long runBatch(StringSearchAlgorithm algorithm, String text, String pattern,
+                                 PositionCollector collector, int batch) {
+        long start = System.nanoTime();
+        for (int i = 0; i < batch; i++) {
+            collector.clear();
+            algorithm.search(text, pattern, collector);
+        }
+        return System.nanoTime() - start;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path path = args.length > 0 ? Paths.get(args[0]) : CalibrationProfile.DEFAULT_PATH;
+        System.out.println("Калибровка AutoSearch...");
+        CalibrationProfile profile = new Calibrator().calibrate();
+        profile.save(path);
+        System.out.println("Профиль сохранен: " + path.toAbsolutePath());
+        print(profile);
+    }
+
+    public static void print(CalibrationProfile profile) {
+        int[] patternBounds = profile.getPatternBounds();
+        int[] alphabetBounds = profile.getAlphabetBounds();
+        int[] textBounds = profile.getTextBounds();
+        System.out.printf("%-10s %-10s %-10s %s\n", "Паттерн", "Алфавит", "Текст", "Алгоритм");
+        for (int t = 0; t <= textBounds.length; t++) {
+            for (int a = 0; a <= alphabetBounds.length; a++) {
+                for (int p = 0; p <= patternBounds.length; p++) {
+                    System.out.printf("%-10s %-10s %-10s %s\n",
+                            range(patternBounds, p), range(alphabetBounds, a), range(textBounds, t),
+                            profile.get(p, a, t));
+                }
+            }
+        }
+    }
+
+    private static String range(int[] bounds, int bucket) {
+        if (bounds.length == 0) {
+            return "любой";
+        }
+        if (bucket == bounds.length) {
+            return ">" + bounds[bucket - 1];
+        }
+        return "<=" + bounds[bucket];
+    }
+}
@@ -0,0 +1,51 @@
+package com.search.benchmark.batch;
+
+// Метрики пакетного запуска: пропускная способность, задержки и глубина очереди
+public class BatchReport {
+    private final String description;
+    private final int jobs;
+    private final int completed;
+    private final long elapsedNanos;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final int queueDepth;
+    private final int maxQueueDepth;
+    private final int unreadResults;
+
+    BatchReport(String description, int jobs, int completed, long elapsedNanos, long p50Nanos,
+                long p99Nanos, int queueDepth, int maxQueueDepth, int unreadResults) {
+        this.description = description;
+        this.jobs = jobs;
+        this.completed = completed;
+        this.elapsedNanos = elapsedNanos;
+        this.p50Nanos = p50Nanos;
+        this.p99Nanos = p99Nanos;
+        this.queueDepth = queueDepth;
+        this.maxQueueDepth = maxQueueDepth;
+        this.unreadResults = unreadResults;
+    }
+
+    public double getJobsPerSecond() {
+        return elapsedNanos == 0 ? 0 : completed * 1e9 / elapsedNanos;
+    }
+
+    public void print() {
+        System.out.printf("\n=== Пакет: %s ===\n", description);
+        System.out.printf("Заданий: %,d из %,d за %.3f мс\n", completed, jobs, elapsedNanos / 1e6);
+        System.out.printf("Пропускная способность: %,.0f заданий/с\n", getJobsPerSecond());
+        System.out.printf("Задержка p50: %.3f мс, p99: %.3f мс\n", p50Nanos / 1e6, p99Nanos / 1e6);
+        System.out.printf("Глубина очереди: %d (максимум %d), непрочитанных результатов: %d\n",
+                queueDepth, maxQueueDepth, unreadResults);
+    }
+
+    // Геттеры
+    public String getDescription() { return description; }
+    public int getJobs() { return jobs; }
+    public int getCompleted() { return completed; }
+    public long getElapsedNanos() { return elapsedNanos; }
+    public long getP50Nanos() { return p50Nanos; }
+    public long getP99Nanos() { return p99Nanos; }
+    public int getQueueDepth() { return queueDepth; }
+    public int getMaxQueueDepth() { return maxQueueDepth; }
+    public int getUnreadResults() { return unreadResults; }
+}
@@ -0,0 +1,207 @@
+package com.search.benchmark.batch;
+
+import com.search.benchmark.algorithms.CompiledPattern;
+import com.search.benchmark.algorithms.PositionCollector;
+import com.search.benchmark.algorithms.StringSearchAlgorithm;
+import com.search.benchmark.generators.TestCase;
+import com.search.benchmark.stats.JobStats;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Один запуск пакета. Задания ставит в очередь отдельный поток, результаты
+ * складываются в очередь в порядке завершения и читаются через results().
+ * Разрешение семафора возвращается, когда потребитель забрал результат.
+ * Каждое задание дает ровно один элемент очереди - результат или ошибку,
+ * иначе потребитель ждал бы недостающий результат вечно.
+ */
+public class BatchRun {
+    private final StringSearchAlgorithm algorithm;
+    private final List<TestCase> jobs;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final String description;
+    private final LinkedBlockingQueue<Object> completed = new LinkedBlockingQueue<>();
+
+    // Задачи, отправленные исполнителю, но еще не начатые
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+
+    private final long[] latencies;
+    private int latencyCount;
+
+    private Thread submitter;
+    private volatile boolean cancelled;
+    private volatile long startNanos;
+    private volatile long endNanos;
+    private int delivered;
+    private boolean consumed;
+
+    BatchRun(StringSearchAlgorithm algorithm, List<TestCase> jobs, ExecutorService executor,
+             int capacity, String description) {
+        this.algorithm = algorithm;
+        this.jobs = jobs;
+        this.executor = executor;
+        this.permits = new Semaphore(capacity);
+        this.description = description;
+        this.latencies = new long[jobs.size()];
+    }
+
+    void start(List<int[]> groups) {
+        startNanos = System.nanoTime();
+        if (jobs.isEmpty()) {
+            endNanos = startNanos;
+        }
+        submitter = new Thread(() -> {
+            try {
+                for (int g = 0; g < groups.size(); g++) {
+                    int[] group = groups.get(g);
+                    permits.acquire(group.length);
+                    if (cancelled) {
+                        break;
+                    }
+                    long enqueued = System.nanoTime();
+                    maxQueueDepth.accumulateAndGet(queueDepth.incrementAndGet(), Math::max);
+                    try {
+                        executor.execute(() -> runGroup(group, enqueued));
+                    } catch (RejectedExecutionException e) {
+                        // После cancel() исполнитель закрыт - просто прекращаем постановку.
+                        // Иначе оставшиеся задания завершаются ошибкой, чтобы потребитель не ждал
+                        queueDepth.decrementAndGet();
+                        if (!cancelled) {
+                            for (int[] rest : groups.subList(g, groups.size())) {
+                                fail(rest, 0, e);
+                            }
+                        }
+                        break;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                executor.shutdown();
+            }
+        }, "batch-submitter");
+        submitter.setDaemon(true);
+        submitter.start();
+    }
+
+    private void runGroup(int[] group, long enqueued) {
+        queueDepth.decrementAndGet();
+        int done = 0;
+        try {
+            // Все задания группы имеют один паттерн - компилируем его один раз
+            CompiledPattern compiled = algorithm.compile(jobs.get(group[0]).getPattern());
+            PositionCollector collector = new PositionCollector();
+            for (int index : group) {
+                long jobStart = System.nanoTime();
+                collector.clear();
+                compiled.search(jobs.get(index).getText(), collector);
+                long jobEnd = System.nanoTime();
+
+                JobStats stats = new JobStats(algorithm.getName(), index, jobEnd - enqueued);
+                for (int i = 0; i < collector.size(); i++) {
+                    stats.addPosition(collector.get(i));
+                }
+                stats.setTimeNanos(jobEnd - jobStart);
+                recordLatency(jobEnd - enqueued);
+                completed.add(stats);
+                done++;
+            }
+        } catch (Throwable e) {
+            // Включая Error (StackOverflowError на патологическом задании, OutOfMemoryError):
+            // ошибка доходит до потребителя, а разрешение возвращается, когда он ее заберет
+            fail(group, done, e);
+        }
+    }
+
+    // Каждое невыполненное задание получает свою ошибку, чтобы счет результатов сошелся
+    private void fail(int[] group, int from, Throwable cause) {
+        for (int i = from; i < group.length; i++) {
+            completed.add(new CompletionException("Задание " + group[i] + " завершилось ошибкой", cause));
+        }
+    }
+
+    private synchronized void recordLatency(long latency) {
+        latencies[latencyCount++] = latency;
+    }
+
+    // Результаты в порядке завершения; поток можно получить один раз.
+    // Закрытие потока до конца чтения отменяет оставшиеся задания
+    public synchronized Stream<JobStats> results() {
+        if (consumed) {
+            throw new IllegalStateException("Результаты уже прочитаны");
+        }
+        consumed = true;
+        Spliterator<JobStats> spliterator = new Spliterators.AbstractSpliterator<>(
+                jobs.size(), Spliterator.SIZED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super JobStats> action) {
+                if (delivered == jobs.size() || cancelled) {
+                    return false;
+                }
+                Object next;
+                try {
+                    next = completed.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    cancel();
+                    throw new CompletionException(e);
+                }
+                permits.release();
+                if (++delivered == jobs.size()) {
+                    endNanos = System.nanoTime();
+                }
+                if (next instanceof CompletionException) {
+                    throw (CompletionException) next;
+                }
+                action.accept((JobStats) next);
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(this::cancel);
+    }
+
+    public void cancel() {
+        if (endNanos != 0) {
+            return;
+        }
+        cancelled = true;
+        submitter.interrupt();
+        executor.shutdownNow();
+    }
+
+    // Снимок метрик: можно вызывать во время чтения результатов
+    public synchronized BatchReport getReport() {
+        long end = endNanos != 0 ? endNanos : System.nanoTime();
+        long[] sorted = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(sorted);
+        return new BatchReport(description, jobs.size(), latencyCount, end - startNanos,
+                percentile(sorted, 0.50), percentile(sorted, 0.99),
+                queueDepth.get(), maxQueueDepth.get(), completed.size());
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    // Геттеры
+    public int getQueueDepth() { return queueDepth.get(); }
+    public int getJobCount() { return jobs.size(); }
+}
@@ -0,0 +1,131 @@
+package com.search.benchmark.batch;
+
+import com.search.benchmark.algorithms.StringSearchAlgorithm;
+import com.search.benchmark.generators.TestCase;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Пакетное выполнение заданий (текст, паттерн) одним алгоритмом.
+ * Число заданий в работе и в очереди результатов ограничено семафором:
+ * если потребитель не успевает читать результаты, постановка новых заданий ждет.
+ * При группировке задания с одинаковым паттерном выполняются одной задачей
+ * с одним скомпилированным паттерном.
+ */
+public class BatchSearchExecutor {
+
+    public enum ThreadMode {
+        // Виртуальные потоки (JDK 21+); на более старых JDK - пул платформенных потоков
+        VIRTUAL("виртуальные"),
+        PLATFORM("платформенные");
+
+        private final String title;
+
+        ThreadMode(String title) {
+            this.title = title;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+    }
+
+    private static final Method VIRTUAL_FACTORY = findVirtualFactory();
+
+    private final StringSearchAlgorithm algorithm;
+    private final ThreadMode mode;
+    private final int workers;
+    private final int capacity;
+    private final boolean groupByPattern;
+
+    public BatchSearchExecutor(StringSearchAlgorithm algorithm, int workers) {
+        this(algorithm, ThreadMode.PLATFORM, workers, workers * 16, true);
+    }
+
+    // capacity - сколько заданий может быть одновременно в очереди, в работе и в непрочитанных результатах
+    public BatchSearchExecutor(StringSearchAlgorithm algorithm, ThreadMode mode, int workers,
+                               int capacity, boolean groupByPattern) {
+        if (workers <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("workers и capacity должны быть положительными");
+        }
+        this.algorithm = algorithm;
+        this.mode = mode == ThreadMode.VIRTUAL && VIRTUAL_FACTORY == null ? ThreadMode.PLATFORM : mode;
+        this.workers = workers;
+        this.capacity = capacity;
+        this.groupByPattern = groupByPattern;
+    }
+
+    // Запускает выполнение в фоне; результаты читаются из BatchRun.results()
+    public BatchRun submit(List<TestCase> jobs) {
+        ExecutorService executor = mode == ThreadMode.VIRTUAL
+                ? createVirtualExecutor()
+                : Executors.newFixedThreadPool(workers, runnable -> {
+                    Thread thread = new Thread(runnable, "batch-search");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        BatchRun run = new BatchRun(algorithm, jobs, executor, capacity, describe());
+        run.start(groups(jobs));
+        return run;
+    }
+
+    // Группы индексов заданий; каждая группа выполняется одной задачей и не больше capacity
+    private List<int[]> groups(List<TestCase> jobs) {
+        List<int[]> groups = new ArrayList<>();
+        if (!groupByPattern) {
+            for (int i = 0; i < jobs.size(); i++) {
+                groups.add(new int[]{i});
+            }
+            return groups;
+        }
+
+        Map<String, List<Integer>> byPattern = new LinkedHashMap<>();
+        for (int i = 0; i < jobs.size(); i++) {
+            byPattern.computeIfAbsent(jobs.get(i).getPattern(), p -> new ArrayList<>()).add(i);
+        }
+        // Крупные группы режем, чтобы они не занимали всю емкость и распределялись по потокам
+        int maxGroup = Math.max(1, Math.min(capacity, (jobs.size() + workers - 1) / workers));
+        for (List<Integer> indices : byPattern.values()) {
+            for (int from = 0; from < indices.size(); from += maxGroup) {
+                int to = Math.min(indices.size(), from + maxGroup);
+                groups.add(indices.subList(from, to).stream().mapToInt(Integer::intValue).toArray());
+            }
+        }
+        return groups;
+    }
+
+    private String describe() {
+        return String.format("%s, %s потоки: %d, емкость: %d%s", algorithm.getName(), mode.getTitle(),
+                workers, capacity, groupByPattern ? ", группировка по паттерну" : "");
+    }
+
+    private static ExecutorService createVirtualExecutor() {
+        try {
+            return (ExecutorService) VIRTUAL_FACTORY.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Не удалось создать исполнитель на виртуальных потоках", e);
+        }
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor через рефлексию: проект собирается под Java 17
+    private static Method findVirtualFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    // Геттеры
+    public StringSearchAlgorithm getAlgorithm() { return algorithm; }
+    public ThreadMode getMode() { return mode; }
+    public int getWorkers() { return workers; }
+    public int getCapacity() { return capacity; }
+    public boolean isGroupByPattern() { return groupByPattern; }
+}
@@ -0,0 +1,62 @@
+package com.search.benchmark.bytes;
+
+import com.search.benchmark.algorithms.MatchSink;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+public class ByteBoyerMooreSearch implements ByteSearchAlgorithm {
+
+    @Override
+    public ByteMatcher compile(byte[] pattern) {
+        // Для байтов достаточно таблицы на 256 элементов (1 КБ)
+        int[] badChar = new int[256];
+        Arrays.fill(badChar, -1);
+        for (int i = 0; i < pattern.length; i++) {
+            badChar[pattern[i] & 0xFF] = i;
+        }
+        return new Compiled(pattern.clone(), badChar);
+    }
+
+    private static final class Compiled implements ByteMatcher {
+        private final byte[] pattern;
+        private final int[] badChar;
+
+        Compiled(byte[] pattern, int[] badChar) {
+            this.pattern = pattern;
+            this.badChar = badChar;
+        }
+
+        @Override
+        public int getPatternLength() {
+            return pattern.length;
+        }
+
+        @Override
+        public void search(ByteBuffer buffer, int from, int to, MatchSink sink) {
+            int m = pattern.length;
+            if (m == 0) {
+                return;
+            }
+
+            int s = from;
+            while (s <= to - m) {
+                int j = m - 1;
+                while (j >= 0 && pattern[j] == buffer.get(s + j)) {
+                    j--;
+                }
+
+                if (j < 0) {
+                    sink.onMatch(s);
+                    s += (s + m < to) ? m - badChar[buffer.get(s + m) & 0xFF] : 1;
+                } else {
+                    s += Math.max(1, j - badChar[buffer.get(s + j) & 0xFF]);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Бойер-Мур (байты)";
+    }
+}
@@ -0,0 +1,78 @@
+package com.search.benchmark.bytes;
+
+import com.search.benchmark.algorithms.MatchSink;
+import java.nio.ByteBuffer;
+
+public class ByteKMPSearch implements ByteSearchAlgorithm {
+
+    @Override
+    public ByteMatcher compile(byte[] pattern) {
+        byte[] copy = pattern.clone();
+        return new Compiled(copy, computeLPSArray(copy));
+    }
+
+    private static int[] computeLPSArray(byte[] pattern) {
+        int m = pattern.length;
+        int[] lps = new int[m];
+        int len = 0;
+        int i = 1;
+
+        while (i < m) {
+            if (pattern[i] == pattern[len]) {
+                len++;
+                lps[i] = len;
+                i++;
+            } else if (len != 0) {
+                len = lps[len - 1];
+            } else {
+                lps[i] = 0;
+                i++;
+            }
+        }
+
+        return lps;
+    }
+
+    private static final class Compiled implements ByteMatcher {
+        private final byte[] pattern;
+        private final int[] lps;
+
+        Compiled(byte[] pattern, int[] lps) {
+            this.pattern = pattern;
+            this.lps = lps;
+        }
+
+        @Override
+        public int getPatternLength() {
+            return pattern.length;
+        }
+
+        @Override
+        public void search(ByteBuffer buffer, int from, int to, MatchSink sink) {
+            int m = pattern.length;
+            if (m == 0) {
+                return;
+            }
+
+            int j = 0;
+            for (int i = from; i < to; i++) {
+                byte b = buffer.get(i);
+                while (j > 0 && b != pattern[j]) {
+                    j = lps[j - 1];
+                }
+                if (b == pattern[j]) {
+                    j++;
+                }
+                if (j == m) {
+                    sink.onMatch(i - m + 1);
+                    j = lps[j - 1];
+                }
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Кнут-Моррис-Пратт (байты)";
+    }
+}
@@ -0,0 +1,12 @@
+package com.search.benchmark.bytes;
+
+import com.search.benchmark.algorithms.MatchSink;
+import java.nio.ByteBuffer;
+
+// Скомпилированный байтовый паттерн. Неизменяем, безопасен для многопоточного использования.
+public interface ByteMatcher {
+    int getPatternLength();
+
+    // Ищет вхождения целиком внутри [from, to); позиции - абсолютные индексы в buffer
+    void search(ByteBuffer buffer, int from, int to, MatchSink sink);
+}
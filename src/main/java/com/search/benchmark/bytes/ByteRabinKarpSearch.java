@@ -0,0 +1,75 @@
+package com.search.benchmark.bytes;
+
+import com.search.benchmark.algorithms.MatchSink;
+import java.nio.ByteBuffer;
+
+// Полиномиальный хеш по модулю 2^64 (естественное переполнение long),
+// степень base^(m-1) вычисляется один раз при компиляции
+public class ByteRabinKarpSearch implements ByteSearchAlgorithm {
+    private static final long BASE = 257;
+
+    @Override
+    public ByteMatcher compile(byte[] pattern) {
+        return new Compiled(pattern.clone());
+    }
+
+    private static final class Compiled implements ByteMatcher {
+        private final byte[] pattern;
+        private final long patternHash;
+        private final long highPower;
+
+        Compiled(byte[] pattern) {
+            this.pattern = pattern;
+            long h = 0;
+            long power = 1;
+            for (int i = 0; i < pattern.length; i++) {
+                h = h * BASE + (pattern[i] & 0xFF);
+                if (i > 0) {
+                    power *= BASE;
+                }
+            }
+            this.patternHash = h;
+            this.highPower = power;
+        }
+
+        @Override
+        public int getPatternLength() {
+            return pattern.length;
+        }
+
+        @Override
+        public void search(ByteBuffer buffer, int from, int to, MatchSink sink) {
+            int m = pattern.length;
+            if (m == 0 || to - from < m) {
+                return;
+            }
+
+            long textHash = 0;
+            for (int i = 0; i < m; i++) {
+                textHash = textHash * BASE + (buffer.get(from + i) & 0xFF);
+            }
+
+            for (int i = from; i <= to - m; i++) {
+                if (textHash == patternHash) {
+                    int j = 0;
+                    while (j < m && buffer.get(i + j) == pattern[j]) {
+                        j++;
+                    }
+                    if (j == m) {
+                        sink.onMatch(i);
+                    }
+                }
+
+                if (i < to - m) {
+                    textHash = (textHash - (buffer.get(i) & 0xFF) * highPower) * BASE
+                            + (buffer.get(i + m) & 0xFF);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Рабин-Карп (байты)";
+    }
+}
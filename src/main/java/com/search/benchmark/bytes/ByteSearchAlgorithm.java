@@ -0,0 +1,8 @@
+package com.search.benchmark.bytes;
+
+// Поиск по байтам (UTF-8) без декодирования текста в String
+public interface ByteSearchAlgorithm {
+    ByteMatcher compile(byte[] pattern);
+
+    String getName();
+}
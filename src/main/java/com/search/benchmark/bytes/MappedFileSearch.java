@@ -0,0 +1,125 @@
+package com.search.benchmark.bytes;
+
+import com.search.benchmark.algorithms.MatchSink;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Поиск в файле через FileChannel.map без чтения в кучу и декодирования в String.
+ * Файл отображается окнами (перекрытие m-1 байт), поэтому размер файла не ограничен 2 ГБ.
+ *
+ * Паттерн кодируется в UTF-8. Первый байт корректной UTF-8 последовательности никогда
+ * не является байтом продолжения (10xxxxxx), поэтому совпадение всегда начинается
+ * на границе символа. Смещение в символах считается инкрементально между вхождениями.
+ */
+public class MappedFileSearch {
+    public static final int DEFAULT_WINDOW_SIZE = 256 << 20;
+
+    private final ByteSearchAlgorithm algorithm;
+    private final int windowSize;
+
+    public MappedFileSearch(ByteSearchAlgorithm algorithm) {
+        this(algorithm, DEFAULT_WINDOW_SIZE);
+    }
+
+    public MappedFileSearch(ByteSearchAlgorithm algorithm, int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Размер окна должен быть положительным: " + windowSize);
+        }
+        this.algorithm = algorithm;
+        this.windowSize = windowSize;
+    }
+
+    // Возвращает количество найденных вхождений
+    public long search(Path file, String pattern, MappedMatchSink sink) throws IOException {
+        byte[] encoded = pattern.getBytes(StandardCharsets.UTF_8);
+        int m = encoded.length;
+        if (m == 0) {
+            return 0;
+        }
+        if ((long) windowSize + m - 1 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Окно с перекрытием не помещается в MappedByteBuffer");
+        }
+
+        ByteMatcher matcher = algorithm.compile(encoded);
+        Utf8Cursor cursor = new Utf8Cursor();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long base = 0;
+
+            while (base < size) {
+                // Окну принадлежат вхождения, начинающиеся в [base, base + owned)
+                int owned = (int) Math.min(windowSize, size - base);
+                int mapped = (int) Math.min((long) owned + m - 1, size - base);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, base, mapped);
+
+                WindowSink windowSink = new WindowSink(buffer, base, owned, cursor, sink);
+                matcher.search(buffer, 0, mapped, windowSink);
+                cursor.advanceTo(buffer, base, base + owned);
+
+                base += owned;
+            }
+        }
+
+        return cursor.matches;
+    }
+
+    public String getName() {
+        return algorithm.getName() + " (mmap)";
+    }
+
+    private static final class WindowSink implements MatchSink {
+        private final ByteBuffer buffer;
+        private final long base;
+        private final int owned;
+        private final Utf8Cursor cursor;
+        private final MappedMatchSink sink;
+
+        WindowSink(ByteBuffer buffer, long base, int owned, Utf8Cursor cursor, MappedMatchSink sink) {
+            this.buffer = buffer;
+            this.base = base;
+            this.owned = owned;
+            this.cursor = cursor;
+            this.sink = sink;
+        }
+
+        @Override
+        public void onMatch(int position) {
+            // Вхождения в зоне перекрытия найдет следующее окно
+            if (position >= owned) {
+                return;
+            }
+            long byteOffset = base + position;
+            cursor.advanceTo(buffer, base, byteOffset);
+            cursor.matches++;
+            sink.onMatch(byteOffset, cursor.charOffset);
+        }
+    }
+
+    // Пересчет смещения в байтах в смещение в символах UTF-16
+    private static final class Utf8Cursor {
+        private long byteOffset;
+        private long charOffset;
+        private long matches;
+
+        void advanceTo(ByteBuffer buffer, long base, long target) {
+            for (long i = byteOffset; i < target; i++) {
+                int b = buffer.get((int) (i - base));
+                if ((b & 0xC0) != 0x80) {
+                    charOffset++;
+                    // 4-байтовая последовательность - суррогатная пара в UTF-16
+                    if ((b & 0xF8) == 0xF0) {
+                        charOffset++;
+                    }
+                }
+            }
+            byteOffset = target;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.search.benchmark.bytes;
+
+// Получатель вхождений в файле: смещение в байтах и в символах (UTF-16) от начала файла
+@FunctionalInterface
+public interface MappedMatchSink {
+    void onMatch(long byteOffset, long charOffset);
+}
@@ -0,0 +1,79 @@
+package com.search.benchmark.editor;
+
+import com.search.benchmark.algorithms.StringSearchAlgorithm;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Редактируемый документ с живыми результатами поиска. Для каждого
+ * зарегистрированного паттерна вхождения поддерживаются инкрементально:
+ * правка перепроверяет окно ±(m - 1) символов вокруг себя тем же движком,
+ * вместо полного поиска по документу после каждого нажатия клавиши.
+ */
+public class EditableDocument {
+    private final PieceTable text;
+    private final List<LiveMatches> registered = new ArrayList<>();
+
+    public EditableDocument(String initialText) {
+        this.text = new PieceTable(initialText);
+    }
+
+    // Полный поиск выполняется один раз - при регистрации
+    public LiveMatches register(String pattern, StringSearchAlgorithm engine) {
+        if (pattern.isEmpty()) {
+            throw new IllegalArgumentException("Пустой паттерн");
+        }
+        LiveMatches matches = new LiveMatches(engine.compile(pattern), text);
+        registered.add(matches);
+        return matches;
+    }
+
+    public void unregister(LiveMatches matches) {
+        registered.remove(matches);
+    }
+
+    public void insert(int position, String inserted) {
+        replace(position, 0, inserted);
+    }
+
+    public void delete(int position, int count) {
+        replace(position, count, "");
+    }
+
+    // Замена count символов с позиции position на replacement - одна правка
+    public void replace(int position, int count, String replacement) {
+        if (position < 0 || count < 0 || position + count > text.length()) {
+            throw new IndexOutOfBoundsException("Правка [" + position + ", " + (position + count)
+                    + ") за пределами документа длины " + text.length());
+        }
+        if (count == 0 && replacement.isEmpty()) {
+            return;
+        }
+        int oldLength = text.length();
+        for (LiveMatches matches : registered) {
+            matches.beforeEdit(position, count, oldLength);
+        }
+        text.delete(position, count);
+        text.insert(position, replacement);
+        for (LiveMatches matches : registered) {
+            matches.afterEdit(position, replacement.length());
+        }
+    }
+
+    public int length() {
+        return text.length();
+    }
+
+    public String substring(int start, int end) {
+        return text.substring(start, end);
+    }
+
+    // Геттеры
+    public PieceTable getText() { return text; }
+
+    @Override
+    public String toString() {
+        return text.toString();
+    }
+}
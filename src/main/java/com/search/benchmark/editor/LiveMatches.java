@@ -0,0 +1,53 @@
+package com.search.benchmark.editor;
+
+import com.search.benchmark.algorithms.CompiledPattern;
+
+/**
+ * Актуальное множество вхождений одного паттерна в EditableDocument.
+ * После правки в позиции p перепроверяется только окно
+ * [p - (m - 1), p + вставлено + (m - 1)): вхождения вне него правку не задели.
+ */
+public class LiveMatches {
+    private final CompiledPattern compiled;
+    private final PieceTable document;
+    private final int patternLength;
+    private final MatchGapBuffer matches = new MatchGapBuffer();
+    private long rescannedChars;
+
+    LiveMatches(CompiledPattern compiled, PieceTable document) {
+        this.compiled = compiled;
+        this.document = document;
+        this.patternLength = compiled.getPattern().length();
+        compiled.search(document.toString(), matches::insert);
+    }
+
+    // Вызывается документом до изменения текста (старая длина)
+    void beforeEdit(int position, int removed, int oldLength) {
+        int windowStart = Math.max(0, position - (patternLength - 1));
+        matches.moveGapTo(windowStart, oldLength);
+        // Вхождения, начинающиеся в окне до конца удаленного участка, правка разрушила
+        matches.removeBefore(position + removed, oldLength);
+    }
+
+    // Вызывается после изменения: ищем вхождения, начинающиеся в [windowStart, position + inserted)
+    void afterEdit(int position, int inserted) {
+        int windowStart = Math.max(0, position - (patternLength - 1));
+        int windowEnd = Math.min(document.length(), position + inserted + patternLength - 1);
+        if (windowEnd - windowStart < patternLength) {
+            return;
+        }
+        String window = document.substring(windowStart, windowEnd);
+        rescannedChars += window.length();
+        compiled.search(window, offset -> matches.insert(windowStart + offset));
+    }
+
+    // Геттеры
+    public String getPattern() { return compiled.getPattern(); }
+    public int count() { return matches.size(); }
+    public long getRescannedChars() { return rescannedChars; }
+
+    // Позиции вхождений по возрастанию
+    public int[] positions() {
+        return matches.toArray(document.length());
+    }
+}
@@ -0,0 +1,62 @@
+package com.search.benchmark.editor;
+
+import java.util.Arrays;
+
+/**
+ * Отсортированные позиции вхождений с разрывом (gap) в месте последней правки.
+ * Позиции до разрыва хранятся от начала документа, после разрыва - как
+ * расстояние до конца документа. Правка меняет только позиции после себя,
+ * а они записаны относительно конца и сдвигаются сами; цена правки -
+ * перенос разрыва (число вхождений между прошлой и новой правкой).
+ */
+final class MatchGapBuffer {
+    private int[] data = new int[16];
+    private int gapStart;
+    private int gapEnd = data.length;
+
+    int size() {
+        return gapStart + data.length - gapEnd;
+    }
+
+    // Переносит разрыв так, чтобы до него были ровно позиции < position
+    void moveGapTo(int position, int documentLength) {
+        while (gapStart > 0 && data[gapStart - 1] >= position) {
+            data[--gapEnd] = documentLength - data[--gapStart];
+        }
+        while (gapEnd < data.length && documentLength - data[gapEnd] < position) {
+            data[gapStart++] = documentLength - data[gapEnd++];
+        }
+    }
+
+    // Удаляет позиции из [gap, limit); разрыв уже стоит перед ними
+    void removeBefore(int limit, int documentLength) {
+        while (gapEnd < data.length && documentLength - data[gapEnd] < limit) {
+            gapEnd++;
+        }
+    }
+
+    // Вставка в разрыв; позиции должны идти по возрастанию и быть меньше следующих за разрывом
+    void insert(int position) {
+        if (gapStart == gapEnd) {
+            grow();
+        }
+        data[gapStart++] = position;
+    }
+
+    private void grow() {
+        int[] bigger = new int[data.length * 2];
+        int tail = data.length - gapEnd;
+        System.arraycopy(data, 0, bigger, 0, gapStart);
+        System.arraycopy(data, gapEnd, bigger, bigger.length - tail, tail);
+        gapEnd = bigger.length - tail;
+        data = bigger;
+    }
+
+    int[] toArray(int documentLength) {
+        int[] result = Arrays.copyOf(data, size());
+        for (int i = gapEnd; i < data.length; i++) {
+            result[gapStart + i - gapEnd] = documentLength - data[i];
+        }
+        return result;
+    }
+}
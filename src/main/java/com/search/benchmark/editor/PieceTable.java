@@ -0,0 +1,175 @@
+package com.search.benchmark.editor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Таблица фрагментов (piece table): исходный текст не копируется, вставки
+ * дописываются в буфер добавлений, а документ - последовательность ссылок
+ * на куски двух буферов. Правка разрезает не больше одного куска, поэтому ее
+ * цена зависит от числа кусков (правок), а не от длины документа. Последний
+ * найденный кусок кэшируется: правки в редакторе обычно идут рядом.
+ */
+public class PieceTable {
+    private final String original;
+    private final StringBuilder added = new StringBuilder();
+    private final List<Piece> pieces = new ArrayList<>();
+    private int length;
+
+    // Кэш поиска: кусок cachedIndex начинается в позиции cachedStart
+    private int cachedIndex;
+    private int cachedStart;
+
+    public PieceTable(String original) {
+        this.original = original;
+        this.length = original.length();
+        if (!original.isEmpty()) {
+            pieces.add(new Piece(false, 0, original.length()));
+        }
+    }
+
+    public void insert(int position, String text) {
+        checkPosition(position, length);
+        if (text.isEmpty()) {
+            return;
+        }
+        int addStart = added.length();
+        added.append(text);
+        int index = split(position);
+        // Набор подряд: продолжаем последний кусок буфера добавлений, а не создаем новый
+        if (index > 0) {
+            Piece previous = pieces.get(index - 1);
+            if (previous.added && previous.start + previous.length == addStart) {
+                cachedIndex = index - 1;
+                cachedStart = position - previous.length;
+                previous.length += text.length();
+                length += text.length();
+                return;
+            }
+        }
+        pieces.add(index, new Piece(true, addStart, text.length()));
+        length += text.length();
+    }
+
+    public void delete(int position, int count) {
+        checkPosition(position, length);
+        if (count < 0 || position + count > length) {
+            throw new IndexOutOfBoundsException("Удаление [" + position + ", " + (position + count)
+                    + ") за пределами документа длины " + length);
+        }
+        if (count == 0) {
+            return;
+        }
+        int from = split(position);
+        int to = split(position + count);
+        pieces.subList(from, to).clear();
+        length -= count;
+        // Кусок from теперь начинается в position
+        cachedIndex = from;
+        cachedStart = position;
+        // Соседи, снова ставшие смежными в одном буфере, склеиваются - вставка и удаление
+        // одного символа не оставляют после себя лишних кусков
+        if (from > 0 && from < pieces.size()) {
+            Piece left = pieces.get(from - 1);
+            Piece right = pieces.get(from);
+            if (left.added == right.added && left.start + left.length == right.start) {
+                left.length += right.length;
+                pieces.remove(from);
+                cachedIndex = from - 1;
+                cachedStart = position - (left.length - right.length);
+            }
+        }
+    }
+
+    // Текст [start, end) - копируются только затронутые куски
+    public String substring(int start, int end) {
+        checkPosition(start, length);
+        checkPosition(end, length);
+        if (start >= end) {
+            return "";
+        }
+        StringBuilder out = new StringBuilder(end - start);
+        int index = find(start);
+        int pieceStart = cachedStart;
+        while (pieceStart < end) {
+            Piece piece = pieces.get(index);
+            int from = Math.max(start, pieceStart) - pieceStart;
+            int to = Math.min(end, pieceStart + piece.length) - pieceStart;
+            CharSequence buffer = piece.added ? added : original;
+            out.append(buffer, piece.start + from, piece.start + to);
+            pieceStart += piece.length;
+            index++;
+        }
+        return out.toString();
+    }
+
+    public char charAt(int position) {
+        if (position < 0 || position >= length) {
+            throw new IndexOutOfBoundsException("Позиция " + position + ", длина " + length);
+        }
+        int index = find(position);
+        Piece piece = pieces.get(index);
+        int offset = piece.start + position - cachedStart;
+        return piece.added ? added.charAt(offset) : original.charAt(offset);
+    }
+
+    @Override
+    public String toString() {
+        return substring(0, length);
+    }
+
+    // Номер куска, содержащего position (position < length); выставляет cachedIndex/cachedStart
+    private int find(int position) {
+        int index = cachedIndex;
+        int start = cachedStart;
+        if (index >= pieces.size() || position < start) {
+            index = 0;
+            start = 0;
+        }
+        while (start + pieces.get(index).length <= position) {
+            start += pieces.get(index).length;
+            index++;
+        }
+        cachedIndex = index;
+        cachedStart = start;
+        return index;
+    }
+
+    // Разрезает кусок так, чтобы position была границей; возвращает номер куска, начинающегося в position
+    private int split(int position) {
+        if (position == length) {
+            return pieces.size();
+        }
+        int index = find(position);
+        int offset = position - cachedStart;
+        if (offset == 0) {
+            return index;
+        }
+        Piece piece = pieces.get(index);
+        pieces.add(index + 1, new Piece(piece.added, piece.start + offset, piece.length - offset));
+        piece.length = offset;
+        return index + 1;
+    }
+
+    private static void checkPosition(int position, int length) {
+        if (position < 0 || position > length) {
+            throw new IndexOutOfBoundsException("Позиция " + position + ", длина " + length);
+        }
+    }
+
+    // Геттеры
+    public int length() { return length; }
+    public int getPieceCount() { return pieces.size(); }
+
+    private static final class Piece {
+        final boolean added;
+        final int start;
+        int length;
+
+        Piece(boolean added, int start, int length) {
+            this.added = added;
+            this.start = start;
+            this.length = length;
+        }
+    }
+}
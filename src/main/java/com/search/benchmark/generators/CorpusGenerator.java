@@ -0,0 +1,254 @@
+package com.search.benchmark.generators;
+
+import com.search.benchmark.Main;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Параллельный детерминированный генератор корпусов. Текст делится на фрагменты
+ * по chunkSize символов; фрагмент i заполняется моделью со своим SplittableRandom,
+ * выведенным из seed и i, поэтому результат не зависит от числа потоков и порядка
+ * их работы. В файл фрагменты пишутся по порядку, в памяти одновременно не больше
+ * 2 * parallelism фрагментов - так можно получать корпуса в несколько ГБ.
+ *
+ * Плотность паттерна: в каждый фрагмент вставляется в среднем
+ * occurrencesPerMillion вхождений на миллион символов (не перекрываясь
+ * и не пересекая границу фрагмента). Модель может дать и случайные вхождения.
+ */
+public class CorpusGenerator {
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+    private final TextModel model;
+    private final long seed;
+    private final String pattern;
+    private final double occurrencesPerMillion;
+    private final int chunkSize;
+    private final int parallelism;
+
+    public CorpusGenerator(TextModel model, long seed) {
+        this(model, seed, null, 0, DEFAULT_CHUNK_SIZE, Runtime.getRuntime().availableProcessors());
+    }
+
+    public CorpusGenerator(TextModel model, long seed, String pattern, double occurrencesPerMillion) {
+        this(model, seed, pattern, occurrencesPerMillion, DEFAULT_CHUNK_SIZE,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    public CorpusGenerator(TextModel model, long seed, String pattern, double occurrencesPerMillion,
+                           int chunkSize, int parallelism) {
+        if (chunkSize <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("Размер фрагмента и число потоков должны быть положительными");
+        }
+        if (pattern != null && (pattern.isEmpty() || pattern.length() > chunkSize)) {
+            throw new IllegalArgumentException("Паттерн пуст или длиннее фрагмента");
+        }
+        this.model = model;
+        this.seed = seed;
+        this.pattern = pattern;
+        this.occurrencesPerMillion = occurrencesPerMillion;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    // Корпус в памяти (до Integer.MAX_VALUE символов)
+    public String generate(int length) {
+        char[] text = new char[length];
+        int chunks = chunkCount(length);
+        if (parallelism == 1 || chunks == 1) {
+            for (int i = 0; i < chunks; i++) {
+                fillChunk(text, i, length);
+            }
+            return new String(text);
+        }
+        ExecutorService executor = newExecutor();
+        try {
+            AtomicInteger nextChunk = new AtomicInteger();
+            Future<?>[] workers = new Future<?>[Math.min(parallelism, chunks)];
+            for (int w = 0; w < workers.length; w++) {
+                workers[w] = executor.submit(() -> {
+                    int i;
+                    while ((i = nextChunk.getAndIncrement()) < chunks) {
+                        fillChunk(text, i, length);
+                    }
+                });
+            }
+            for (Future<?> worker : workers) {
+                await(worker);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return new String(text);
+    }
+
+    // Корпус в файл UTF-8; возвращает число вставленных вхождений паттерна
+    public long write(Path path, long length) throws IOException {
+        long chunks = (length + chunkSize - 1) / chunkSize;
+        long planted = 0;
+        ExecutorService executor = newExecutor();
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            Deque<Future<Chunk>> inFlight = new ArrayDeque<>();
+            long submitted = 0;
+            while (submitted < chunks || !inFlight.isEmpty()) {
+                while (submitted < chunks && inFlight.size() < 2 * parallelism) {
+                    long index = submitted++;
+                    inFlight.addLast(executor.submit(() -> chunk(index, length)));
+                }
+                Chunk chunk = await(inFlight.removeFirst());
+                writer.write(chunk.text, 0, chunk.text.length);
+                planted += chunk.planted;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return planted;
+    }
+
+    private void fillChunk(char[] text, int index, int length) {
+        int start = index * chunkSize;
+        int size = Math.min(chunkSize, length - start);
+        fill(text, start, size, start, random(index));
+    }
+
+    private Chunk chunk(long index, long length) {
+        long start = index * chunkSize;
+        char[] text = new char[(int) Math.min(chunkSize, length - start)];
+        int planted = fill(text, 0, text.length, start, random(index));
+        return new Chunk(text, planted);
+    }
+
+    private int fill(char[] buffer, int offset, int size, long position, SplittableRandom random) {
+        model.fill(buffer, offset, size, position, random);
+        if (pattern == null || occurrencesPerMillion <= 0 || size < pattern.length()) {
+            return 0;
+        }
+        // Число вставок во фрагменте - округление ожидаемого значения с вероятностью дробной части
+        double expected = occurrencesPerMillion * size / 1e6;
+        int count = (int) expected + (random.nextDouble() < expected - (int) expected ? 1 : 0);
+        int m = pattern.length();
+        // Делим фрагмент на count равных отрезков и ставим паттерн в случайную позицию каждого
+        int slots = Math.min(count, size / m);
+        for (int k = 0; k < slots; k++) {
+            long from = (long) size * k / slots;
+            long to = (long) size * (k + 1) / slots - m;
+            if (to < from) {
+                continue;
+            }
+            int at = (int) (from + random.nextLong(to - from + 1));
+            pattern.getChars(0, m, buffer, offset + at);
+        }
+        return slots;
+    }
+
+    // Генератор фрагмента зависит только от seed и номера фрагмента
+    private SplittableRandom random(long index) {
+        return new SplittableRandom(mix(seed ^ mix(index + 0x9E3779B97F4A7C15L)));
+    }
+
+    // Финализатор SplitMix64
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private int chunkCount(long length) {
+        return (int) ((length + chunkSize - 1) / chunkSize);
+    }
+
+    private ExecutorService newExecutor() {
+        return Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "corpus-generator");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Генерация прервана", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Ошибка генерации фрагмента", e.getCause());
+        }
+    }
+
+    private static final class Chunk {
+        final char[] text;
+        final int planted;
+
+        Chunk(char[] text, int planted) {
+            this.text = text;
+            this.planted = planted;
+        }
+    }
+
+    // Модель, обученная на корпусах из texts/
+    public static String trainingText() {
+        StringBuilder text = new StringBuilder();
+        for (String file : List.of("programming.txt", "lotr_two_towers.txt", "java_algorithms.txt", "shawshank.txt")) {
+            text.append(Main.readTextFromFile(file)).append('\n');
+        }
+        return text.toString();
+    }
+
+    // Геттеры
+    public TextModel getModel() { return model; }
+    public long getSeed() { return seed; }
+    public String getPattern() { return pattern; }
+    public double getOccurrencesPerMillion() { return occurrencesPerMillion; }
+    public int getChunkSize() { return chunkSize; }
+    public int getParallelism() { return parallelism; }
+
+    // Использование: CorpusGenerator <zipf|markov|uniform|periodic> <длина> <файл> [паттерн на_миллион]
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("Использование: CorpusGenerator <zipf|markov|uniform|periodic> <длина> <файл> "
+                    + "[паттерн вхождений_на_миллион]");
+            System.exit(2);
+        }
+        TextModel model;
+        switch (args[0]) {
+            case "zipf":
+                model = new ZipfWordModel(ZipfWordModel.vocabulary(trainingText(), 20_000), 1.0);
+                break;
+            case "markov":
+                model = MarkovTextModel.train(trainingText(), 3);
+                break;
+            case "uniform":
+                model = new UniformTextModel(TextGenerator.getEnglishAlphabet());
+                break;
+            case "periodic":
+                model = new PeriodicTextModel("aab", 0.0001, "ab");
+                break;
+            default:
+                throw new IllegalArgumentException("Неизвестная модель: " + args[0]);
+        }
+        long length = Long.parseLong(args[1]);
+        String pattern = args.length > 3 ? args[3] : null;
+        double density = args.length > 4 ? Double.parseDouble(args[4]) : 0;
+        CorpusGenerator generator = new CorpusGenerator(model, 42, pattern, density);
+
+        long start = System.nanoTime();
+        long planted = generator.write(Paths.get(args[2]), length);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%s: %,d символов за %.2f с (%.1f М символов/с), вставлено вхождений: %,d\n",
+                model.getName(), length, seconds, length / seconds / 1e6, planted);
+    }
+}
@@ -0,0 +1,137 @@
+package com.search.benchmark.generators;
+
+import com.search.benchmark.algorithms.LongIntHashMap;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Символьная марковская цепь порядка order (1..3), обученная на тексте.
+ * Контекст из order символов упакован в long; для каждого контекста
+ * хранятся возможные следующие символы и накопленные частоты. Тупиковый
+ * контекст (встретился только в конце обучающего текста) начинает цепь заново.
+ */
+public class MarkovTextModel implements TextModel {
+    private final int order;
+    private final String source;
+    private final LongIntHashMap contextIndex;
+    // Для контекста с номером c: символы next[c] и накопленные частоты cumulative[c]
+    private final char[][] next;
+    private final int[][] cumulative;
+
+    private MarkovTextModel(int order, String source, LongIntHashMap contextIndex,
+                            char[][] next, int[][] cumulative) {
+        this.order = order;
+        this.source = source;
+        this.contextIndex = contextIndex;
+        this.next = next;
+        this.cumulative = cumulative;
+    }
+
+    public static MarkovTextModel train(String text, int order) {
+        if (order < 1 || order > 3) {
+            throw new IllegalArgumentException("Порядок цепи должен быть от 1 до 3: " + order);
+        }
+        if (text.length() <= order) {
+            throw new IllegalArgumentException("Обучающий текст короче порядка цепи");
+        }
+        // Первый проход: номера контекстов и число переходов из каждого
+        LongIntHashMap contextIndex = new LongIntHashMap(1024);
+        int[] transitions = new int[1024];
+        int contexts = 0;
+        for (int i = order; i < text.length(); i++) {
+            long context = context(text, i - order, order);
+            int id = contextIndex.get(context);
+            if (id < 0) {
+                id = contexts++;
+                contextIndex.put(context, id);
+                if (id == transitions.length) {
+                    transitions = Arrays.copyOf(transitions, id * 2);
+                }
+            }
+            transitions[id]++;
+        }
+
+        // Второй проход: переходы контекста, затем сортировка и свертка одинаковых символов
+        char[][] raw = new char[contexts][];
+        int[] filled = new int[contexts];
+        for (int id = 0; id < contexts; id++) {
+            raw[id] = new char[transitions[id]];
+        }
+        for (int i = order; i < text.length(); i++) {
+            int id = contextIndex.get(context(text, i - order, order));
+            raw[id][filled[id]++] = text.charAt(i);
+        }
+        char[][] next = new char[contexts][];
+        int[][] cumulative = new int[contexts][];
+        for (int id = 0; id < contexts; id++) {
+            char[] chars = raw[id];
+            Arrays.sort(chars);
+            int distinct = 0;
+            char[] symbols = new char[chars.length];
+            int[] sums = new int[chars.length];
+            for (int j = 0; j < chars.length; j++) {
+                if (distinct == 0 || symbols[distinct - 1] != chars[j]) {
+                    symbols[distinct] = chars[j];
+                    sums[distinct] = distinct == 0 ? 0 : sums[distinct - 1];
+                    distinct++;
+                }
+                sums[distinct - 1]++;
+            }
+            next[id] = Arrays.copyOf(symbols, distinct);
+            cumulative[id] = Arrays.copyOf(sums, distinct);
+        }
+        return new MarkovTextModel(order, text, contextIndex, next, cumulative);
+    }
+
+    private static long context(CharSequence text, int start, int order) {
+        long context = 0;
+        for (int i = 0; i < order; i++) {
+            context = context << 16 | text.charAt(start + i);
+        }
+        return context;
+    }
+
+    @Override
+    public void fill(char[] buffer, int offset, int length, long position, SplittableRandom random) {
+        int end = offset + length;
+        int i = offset;
+        long mask = (1L << (16 * order)) - 1;
+        long context = 0;
+        int known = 0;
+        while (i < end) {
+            if (known < order) {
+                // Начало цепи: контекст из случайного места обучающего текста
+                int start = random.nextInt(source.length() - order);
+                int count = Math.min(order, end - i);
+                source.getChars(start, start + count, buffer, i);
+                i += count;
+                context = context(source, start, order);
+                known = order;
+                continue;
+            }
+            int id = contextIndex.get(context);
+            if (id < 0) {
+                known = 0;
+                continue;
+            }
+            int[] sums = cumulative[id];
+            int pick = random.nextInt(sums[sums.length - 1]);
+            // Суммы строго возрастают: первый символ с суммой больше pick
+            int index = Arrays.binarySearch(sums, pick + 1);
+            index = index >= 0 ? index : -index - 1;
+            char c = next[id][index];
+            buffer[i++] = c;
+            context = (context << 16 | c) & mask;
+        }
+    }
+
+    // Геттеры
+    public int getOrder() { return order; }
+    public int getContextCount() { return next.length; }
+
+    @Override
+    public String getName() {
+        return "Марков (порядок " + order + ", контекстов " + next.length + ")";
+    }
+}
@@ -0,0 +1,74 @@
+package com.search.benchmark.generators;
+
+import java.util.SplittableRandom;
+
+/**
+ * Неблагоприятные периодические входы: повторение unit с редкими мутациями.
+ * Период выровнен по позиции в корпусе, а не во фрагменте, поэтому
+ * параллельная генерация дает ту же периодичность. При mutationRate = 0 -
+ * строгая периодичность ("aaaa...", "abab..."), на которой наивный поиск
+ * и Бойер-Мур без правила Галиля деградируют на паттернах вида a^(m-1)b.
+ */
+public class PeriodicTextModel implements TextModel {
+    private final String unit;
+    private final double mutationRate;
+    private final char[] alphabet;
+
+    public PeriodicTextModel(String unit) {
+        this(unit, 0, unit);
+    }
+
+    public PeriodicTextModel(String unit, double mutationRate, String alphabet) {
+        if (unit.isEmpty()) {
+            throw new IllegalArgumentException("Пустой период");
+        }
+        this.unit = unit;
+        this.mutationRate = mutationRate;
+        this.alphabet = alphabet.toCharArray();
+    }
+
+    // Худший случай для наивного поиска: паттерн почти совпадает в каждой позиции периода
+    public String adversarialPattern(int length) {
+        StringBuilder pattern = new StringBuilder(length);
+        for (int i = 0; i < length - 1; i++) {
+            pattern.append(unit.charAt(i % unit.length()));
+        }
+        char last = unit.charAt((length - 1) % unit.length());
+        char other = last;
+        for (char c : alphabet) {
+            if (c != last) {
+                other = c;
+                break;
+            }
+        }
+        return pattern.append(other == last ? (char) (last + 1) : other).toString();
+    }
+
+    @Override
+    public void fill(char[] buffer, int offset, int length, long position, SplittableRandom random) {
+        int phase = (int) (position % unit.length());
+        for (int i = offset; i < offset + length; i++) {
+            buffer[i] = unit.charAt(phase);
+            if (++phase == unit.length()) {
+                phase = 0;
+            }
+        }
+        if (mutationRate > 0) {
+            // Мутации по геометрическим промежуткам, без броска монеты на каждый символ
+            double logKeep = Math.log1p(-mutationRate);
+            long i = offset - 1;
+            while (true) {
+                i += 1 + (long) (Math.log(1 - random.nextDouble()) / logKeep);
+                if (i >= offset + length) {
+                    break;
+                }
+                buffer[(int) i] = alphabet[random.nextInt(alphabet.length)];
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return String.format("Периодический (период %d, мутации %.4f)", unit.length(), mutationRate);
+    }
+}
@@ -0,0 +1,16 @@
+package com.search.benchmark.generators;
+
+import java.util.SplittableRandom;
+
+/**
+ * Модель синтетического текста для CorpusGenerator. Каждый фрагмент
+ * заполняется независимо своим генератором, поэтому модель не должна
+ * хранить изменяемое состояние между вызовами.
+ */
+public interface TextModel {
+
+    // position - смещение фрагмента во всем корпусе (нужно периодическим моделям)
+    void fill(char[] buffer, int offset, int length, long position, SplittableRandom random);
+
+    String getName();
+}
@@ -0,0 +1,27 @@
+package com.search.benchmark.generators;
+
+import java.util.SplittableRandom;
+
+// Независимые равновероятные символы алфавита
+public class UniformTextModel implements TextModel {
+    private final char[] alphabet;
+
+    public UniformTextModel(String alphabet) {
+        if (alphabet.isEmpty()) {
+            throw new IllegalArgumentException("Пустой алфавит");
+        }
+        this.alphabet = alphabet.toCharArray();
+    }
+
+    @Override
+    public void fill(char[] buffer, int offset, int length, long position, SplittableRandom random) {
+        for (int i = offset; i < offset + length; i++) {
+            buffer[i] = alphabet[random.nextInt(alphabet.length)];
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Равномерный (" + alphabet.length + " символов)";
+    }
+}
@@ -0,0 +1,93 @@
+package com.search.benchmark.generators;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Слова словаря с частотами по закону Ципфа: вероятность слова ранга k
+ * пропорциональна 1 / k^exponent. Словарь можно взять из реального корпуса
+ * (по убыванию частоты) - тогда частые короткие слова ведут себя как в тексте.
+ */
+public class ZipfWordModel implements TextModel {
+    private final String[] words;
+    private final double exponent;
+    // cumulative[k] - вероятность выбрать слово ранга не больше k
+    private final double[] cumulative;
+
+    public ZipfWordModel(List<String> vocabulary, double exponent) {
+        if (vocabulary.isEmpty()) {
+            throw new IllegalArgumentException("Пустой словарь");
+        }
+        this.words = vocabulary.toArray(new String[0]);
+        this.exponent = exponent;
+        this.cumulative = new double[words.length];
+        double sum = 0;
+        for (int k = 0; k < words.length; k++) {
+            sum += 1 / Math.pow(k + 1, exponent);
+            cumulative[k] = sum;
+        }
+        for (int k = 0; k < words.length; k++) {
+            cumulative[k] /= sum;
+        }
+    }
+
+    // Словарь корпуса по убыванию частоты (слова - буквы и цифры, в нижнем регистре)
+    public static List<String> vocabulary(String text, int maxWords) {
+        Map<String, Integer> counts = new HashMap<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean letter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                counts.merge(text.substring(start, i).toLowerCase(), 1, Integer::sum);
+                start = -1;
+            }
+        }
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(counts.entrySet());
+        // При равной частоте - по алфавиту, чтобы словарь не зависел от порядка HashMap
+        entries.sort((a, b) -> a.getValue().equals(b.getValue())
+                ? a.getKey().compareTo(b.getKey()) : b.getValue() - a.getValue());
+        List<String> vocabulary = new ArrayList<>();
+        for (int i = 0; i < Math.min(maxWords, entries.size()); i++) {
+            vocabulary.add(entries.get(i).getKey());
+        }
+        return vocabulary;
+    }
+
+    @Override
+    public void fill(char[] buffer, int offset, int length, long position, SplittableRandom random) {
+        int end = offset + length;
+        int i = offset;
+        int wordsInLine = 0;
+        while (i < end) {
+            String word = words[rank(random.nextDouble())];
+            int count = Math.min(word.length(), end - i);
+            word.getChars(0, count, buffer, i);
+            i += count;
+            if (i < end) {
+                // В среднем строка из 12 слов
+                boolean newLine = ++wordsInLine >= 4 && random.nextInt(8) == 0;
+                buffer[i++] = newLine ? '\n' : ' ';
+                if (newLine) {
+                    wordsInLine = 0;
+                }
+            }
+        }
+    }
+
+    private int rank(double u) {
+        int index = Arrays.binarySearch(cumulative, u);
+        index = index >= 0 ? index : -index - 1;
+        return Math.min(index, words.length - 1);
+    }
+
+    @Override
+    public String getName() {
+        return String.format("Ципф (%d слов, s=%.2f)", words.length, exponent);
+    }
+}
@@ -0,0 +1,57 @@
+package com.search.benchmark.hash;
+
+// Циклический полиномиальный хеш (BuzHash): h = XOR rotl(T[c_i], m-1-i).
+// Сдвиг окна - два поворота и два XOR, без умножений.
+public class BuzHash implements HashFunction {
+    private final CharTable table;
+    private final String name = "BuzHash";
+
+    public BuzHash() {
+        this(0x5DEECE66DL);
+    }
+
+    public BuzHash(long seed) {
+        this.table = new CharTable(seed);
+    }
+
+    @Override
+    public long hash(String s) {
+        return hash(s, 0, s.length());
+    }
+
+    @Override
+    public long hash(String s, int from, int to) {
+        long h = 0;
+        for (int i = from; i < to; i++) {
+            h = Long.rotateLeft(h, 1) ^ table.get(s.charAt(i));
+        }
+        return h;
+    }
+
+    @Override
+    public long update(long oldHash, char oldChar, char newChar, int patternLength) {
+        return Long.rotateLeft(oldHash, 1)
+                ^ Long.rotateLeft(table.get(oldChar), patternLength)
+                ^ table.get(newChar);
+    }
+
+    @Override
+    public RollingHasher rolling(int windowLength) {
+        return new RollingHasher() {
+            @Override
+            public int getWindowLength() {
+                return windowLength;
+            }
+
+            @Override
+            public long roll(long hash, char outgoing, char incoming) {
+                return update(hash, outgoing, incoming, windowLength);
+            }
+        };
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+}
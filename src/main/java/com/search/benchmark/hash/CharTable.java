@@ -0,0 +1,22 @@
+package com.search.benchmark.hash;
+
+import java.util.SplittableRandom;
+
+// Случайные 64-битные значения для символов (табличные хеши BuzHash и Gear).
+// Для UTF-16 две таблицы по 256 элементов: по младшему и старшему байту.
+final class CharTable {
+    private final long[] low = new long[256];
+    private final long[] high = new long[256];
+
+    CharTable(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < 256; i++) {
+            low[i] = random.nextLong();
+            high[i] = random.nextLong();
+        }
+    }
+
+    long get(char c) {
+        return low[c & 0xFF] ^ Long.rotateLeft(high[c >>> 8], 17);
+    }
+}
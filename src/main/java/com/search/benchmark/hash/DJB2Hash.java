@@ -12,6 +12,15 @@ public class DJB2Hash implements HashFunction {
         return h & 0xFFFFFFFFL;
     }
 
+    @Override
+    public long hash(String s, int from, int to) {
+        long h = 5381;
+        for (int i = from; i < to; i++) {
+            h = ((h << 5) + h) + s.charAt(i);
+        }
+        return h & 0xFFFFFFFFL;
+    }
+
     @Override
     public long update(long oldHash, char oldChar, char newChar, int patternLength) {
         throw new UnsupportedOperationException(
@@ -0,0 +1,69 @@
+package com.search.benchmark.hash;
+
+/**
+ * Двойное хеширование: два независимых хеша упаковываются в один long (по 32 бита).
+ * Ложное совпадение требует коллизии сразу в обоих. Подходит для хешей со значениями
+ * меньше 2^32: SimpleHash, HornerHash, XORHash, DJB2Hash.
+ */
+public class DoubleHash implements HashFunction {
+    private static final long LOW_MASK = 0xFFFFFFFFL;
+
+    private final HashFunction first;
+    private final HashFunction second;
+    private final String name;
+
+    public DoubleHash(HashFunction first, HashFunction second) {
+        this.first = first;
+        this.second = second;
+        this.name = "DoubleHash (" + first.getName() + " + " + second.getName() + ")";
+    }
+
+    private static long pack(long high, long low) {
+        if ((high & ~LOW_MASK) != 0 || (low & ~LOW_MASK) != 0) {
+            throw new IllegalStateException("DoubleHash поддерживает только 32-битные хеши");
+        }
+        return (high << 32) | low;
+    }
+
+    @Override
+    public long hash(String s) {
+        return pack(first.hash(s), second.hash(s));
+    }
+
+    @Override
+    public long hash(String s, int from, int to) {
+        return pack(first.hash(s, from, to), second.hash(s, from, to));
+    }
+
+    @Override
+    public long update(long oldHash, char oldChar, char newChar, int patternLength) {
+        return pack(first.update(oldHash >>> 32, oldChar, newChar, patternLength),
+                second.update(oldHash & LOW_MASK, oldChar, newChar, patternLength));
+    }
+
+    @Override
+    public RollingHasher rolling(int windowLength) {
+        RollingHasher a = first.rolling(windowLength);
+        RollingHasher b = second.rolling(windowLength);
+        if (a == null || b == null) {
+            return null;
+        }
+        return new RollingHasher() {
+            @Override
+            public int getWindowLength() {
+                return windowLength;
+            }
+
+            @Override
+            public long roll(long hash, char outgoing, char incoming) {
+                return (a.roll(hash >>> 32, outgoing, incoming) << 32)
+                        | b.roll(hash & LOW_MASK, outgoing, incoming);
+            }
+        };
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,57 @@
+package com.search.benchmark.hash;
+
+// Gear-хеш: h = (h << 1) + G[c] по модулю 2^64. Символ, вышедший из окна,
+// вычитается явно (G[out] << m), поэтому хеш зависит только от текущего окна.
+// При m >= 64 старые символы выдвигаются сдвигом сами.
+public class GearHash implements HashFunction {
+    private final CharTable table;
+    private final String name = "GearHash";
+
+    public GearHash() {
+        this(0x9E3779B97F4A7C15L);
+    }
+
+    public GearHash(long seed) {
+        this.table = new CharTable(seed);
+    }
+
+    @Override
+    public long hash(String s) {
+        return hash(s, 0, s.length());
+    }
+
+    @Override
+    public long hash(String s, int from, int to) {
+        long h = 0;
+        for (int i = from; i < to; i++) {
+            h = (h << 1) + table.get(s.charAt(i));
+        }
+        return h;
+    }
+
+    @Override
+    public long update(long oldHash, char oldChar, char newChar, int patternLength) {
+        long outgoing = patternLength >= 64 ? 0 : table.get(oldChar) << patternLength;
+        return (oldHash << 1) + table.get(newChar) - outgoing;
+    }
+
+    @Override
+    public RollingHasher rolling(int windowLength) {
+        return new RollingHasher() {
+            @Override
+            public int getWindowLength() {
+                return windowLength;
+            }
+
+            @Override
+            public long roll(long hash, char outgoing, char incoming) {
+                return update(hash, outgoing, incoming, windowLength);
+            }
+        };
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+}
@@ -2,6 +2,20 @@ package com.search.benchmark.hash;
 
 public interface HashFunction {
     long hash(String s);
+
+    // Хеш подстроки s[from, to) без создания String; должен совпадать с hash(s.substring(from, to))
+    default long hash(String s, int from, int to) {
+        return hash(s.substring(from, to));
+    }
+
+    // Сдвиг окна длины patternLength за O(1): полиномиальные хеши кэшируют степень
+    // основания для последней длины окна. Для цикла по тексту удобнее rolling(m)
     long update(long oldHash, char oldChar, char newChar, int patternLength);
+
+    // Скользящий хеш для окна длины windowLength или null, если rolling не поддерживается
+    default RollingHasher rolling(int windowLength) {
+        return null;
+    }
+
     String getName();
-}
\ No newline at end of file
+}
@@ -0,0 +1,95 @@
+package com.search.benchmark.hash;
+
+/**
+ * Полиномиальный хеш по модулю простого Мерсенна 2^61-1. Произведение двух 61-битных
+ * чисел берется целиком через Math.multiplyHigh, а приведение по модулю 2^61-1
+ * сводится к сдвигам и сложению, без деления. Вероятность коллизии ~ m / 2^61.
+ */
+public class MersenneHash implements HashFunction {
+    private static final long MOD = (1L << 61) - 1;
+    private static final long DEFAULT_BASE = 0x1F3A5C7E9B2D4F6L;
+
+    private final long base;
+    private final String name;
+    private final RollingCache rollingCache = new RollingCache(this);
+
+    public MersenneHash() {
+        this(DEFAULT_BASE);
+    }
+
+    public MersenneHash(long base) {
+        if (base <= 1 || base >= MOD) {
+            throw new IllegalArgumentException("Основание должно быть в диапазоне (1, 2^61-1): " + base);
+        }
+        this.base = base;
+        this.name = "MersenneHash (2^61-1)";
+    }
+
+    static long mulMod(long a, long b) {
+        long high = Math.multiplyHigh(a, b);
+        long low = a * b;
+        // a*b = high * 2^64 + low, а 2^61 ≡ 1 (mod 2^61-1)
+        long r = (low & MOD) + (low >>> 61) + (high << 3);
+        r = (r & MOD) + (r >>> 61);
+        return r >= MOD ? r - MOD : r;
+    }
+
+    private static long addMod(long a, long b) {
+        long r = a + b;
+        return r >= MOD ? r - MOD : r;
+    }
+
+    static long powMod(long base, long exponent) {
+        long result = 1;
+        long b = base;
+        while (exponent > 0) {
+            if ((exponent & 1) != 0) {
+                result = mulMod(result, b);
+            }
+            b = mulMod(b, b);
+            exponent >>= 1;
+        }
+        return result;
+    }
+
+    @Override
+    public long hash(String s) {
+        return hash(s, 0, s.length());
+    }
+
+    @Override
+    public long hash(String s, int from, int to) {
+        long h = 0;
+        for (int i = from; i < to; i++) {
+            h = addMod(mulMod(h, base), s.charAt(i));
+        }
+        return h;
+    }
+
+    @Override
+    public long update(long oldHash, char oldChar, char newChar, int patternLength) {
+        return rollingCache.update(oldHash, oldChar, newChar, patternLength);
+    }
+
+    @Override
+    public RollingHasher rolling(int windowLength) {
+        long power = powMod(base, Math.max(0, windowLength - 1));
+        return new RollingHasher() {
+            @Override
+            public int getWindowLength() {
+                return windowLength;
+            }
+
+            @Override
+            public long roll(long hash, char outgoing, char incoming) {
+                long h = addMod(hash, MOD - mulMod(outgoing, power));
+                return addMod(mulMod(h, base), incoming);
+            }
+        };
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,32 @@
+package com.search.benchmark.hash;
+
+// Полиномиальный хеш по модулю mod < 2^31: base^(m-1) mod p вычисляется один раз
+final class PolynomialRollingHasher implements RollingHasher {
+    private final long base;
+    private final long mod;
+    private final int windowLength;
+    private final long power;
+
+    PolynomialRollingHasher(long base, long mod, int windowLength) {
+        this.base = base;
+        this.mod = mod;
+        this.windowLength = windowLength;
+
+        long p = 1;
+        for (int i = 0; i < windowLength - 1; i++) {
+            p = (p * base) % mod;
+        }
+        this.power = p;
+    }
+
+    @Override
+    public int getWindowLength() {
+        return windowLength;
+    }
+
+    @Override
+    public long roll(long hash, char outgoing, char incoming) {
+        long h = (hash - outgoing * power % mod + mod) % mod;
+        return (h * base + incoming) % mod;
+    }
+}
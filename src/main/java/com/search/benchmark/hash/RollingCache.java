@@ -0,0 +1,22 @@
+package com.search.benchmark.hash;
+
+// Последний скользящий хеш для HashFunction.update: степень основания вычисляется
+// один раз на длину окна, а не на каждом сдвиге. Хешеры неизменяемы, поэтому
+// достаточно volatile-ссылки; при гонке степень просто посчитается еще раз.
+final class RollingCache {
+    private final HashFunction hashFunction;
+    private volatile RollingHasher last;
+
+    RollingCache(HashFunction hashFunction) {
+        this.hashFunction = hashFunction;
+    }
+
+    long update(long hash, char outgoing, char incoming, int windowLength) {
+        RollingHasher roller = last;
+        if (roller == null || roller.getWindowLength() != windowLength) {
+            roller = hashFunction.rolling(windowLength);
+            last = roller;
+        }
+        return roller.roll(hash, outgoing, incoming);
+    }
+}
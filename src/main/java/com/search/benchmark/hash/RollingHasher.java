@@ -0,0 +1,10 @@
+package com.search.benchmark.hash;
+
+// Скользящий хеш для окна фиксированной длины. Все степени основания вычисляются
+// один раз при создании, поэтому сдвиг окна стоит O(1). Реализации неизменяемы.
+public interface RollingHasher {
+    int getWindowLength();
+
+    // Хеш окна после удаления outgoing слева и добавления incoming справа
+    long roll(long hash, char outgoing, char incoming);
+}
@@ -4,6 +4,7 @@ public class SimpleHash implements HashFunction {
     private final long base = 256;
     private final long mod = 1_000_000_007L;
     private final String name = "SimpleHash (base=256)";
+    private final RollingCache rollingCache = new RollingCache(this);
 
     @Override
     public long hash(String s) {
@@ -15,15 +16,22 @@ public class SimpleHash implements HashFunction {
     }
 
     @Override
-    public long update(long oldHash, char oldChar, char newChar, int patternLength) {
-        long power = 1;
-        for (int i = 0; i < patternLength - 1; i++) {
-            power = (power * base) % mod;
+    public long hash(String s, int from, int to) {
+        long h = 0;
+        for (int i = from; i < to; i++) {
+            h = (h * base + s.charAt(i)) % mod;
         }
+        return h;
+    }
 
-        long newHash = (oldHash - oldChar * power % mod + mod) % mod;
-        newHash = (newHash * base + newChar) % mod;
-        return newHash;
+    @Override
+    public long update(long oldHash, char oldChar, char newChar, int patternLength) {
+        return rollingCache.update(oldHash, oldChar, newChar, patternLength);
+    }
+
+    @Override
+    public RollingHasher rolling(int windowLength) {
+        return new PolynomialRollingHasher(base, mod, windowLength);
     }
 
     @Override
@@ -12,11 +12,35 @@ public class XORHash implements HashFunction {
         return h;
     }
 
+    @Override
+    public long hash(String s, int from, int to) {
+        long h = 0;
+        for (int i = from; i < to; i++) {
+            h = (h ^ s.charAt(i)) & 0xFFFFFFFFL;
+        }
+        return h;
+    }
+
     @Override
     public long update(long oldHash, char oldChar, char newChar, int patternLength) {
         return oldHash ^ oldChar ^ newChar;
     }
 
+    @Override
+    public RollingHasher rolling(int windowLength) {
+        return new RollingHasher() {
+            @Override
+            public int getWindowLength() {
+                return windowLength;
+            }
+
+            @Override
+            public long roll(long hash, char outgoing, char incoming) {
+                return hash ^ outgoing ^ incoming;
+            }
+        };
+    }
+
     @Override
     public String getName() {
         return name;
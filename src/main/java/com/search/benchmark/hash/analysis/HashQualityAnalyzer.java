@@ -0,0 +1,205 @@
+package com.search.benchmark.hash.analysis;
+
+import com.search.benchmark.Main;
+import com.search.benchmark.algorithms.LongIntHashMap;
+import com.search.benchmark.hash.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Анализ качества хеш-функций на всех окнах корпусов из texts/:
+ * - равномерность по корзинам (χ², по различным окнам);
+ * - лавинный эффект: доля изменившихся бит выхода при инверсии одного бита символа;
+ * - ложные совпадения: окна с тем же хешем, что у выбранного паттерна, но другим текстом;
+ * - стоимость сдвига окна (rolling или пересчет окна целиком).
+ *
+ * Запуск: java -cp target/classes com.search.benchmark.hash.analysis.HashQualityAnalyzer [длина окна]
+ */
+public class HashQualityAnalyzer {
+    private static final String[] CORPORA = {
+            "programming.txt", "lotr_two_towers.txt", "java_algorithms.txt", "shawshank.txt"
+    };
+    // Простое число корзин: остаток не сводится к младшим битам хеша
+    private static final int BUCKETS = 1021;
+    private static final int AVALANCHE_SAMPLES = 2000;
+    private static final int PATTERN_SAMPLES = 200;
+    private static final int TIMING_ROUNDS = 5;
+
+    private final int windowLength;
+    private final long seed;
+    // Сильный 61-битный хеш как отпечаток окна для поиска различных окон
+    private final MersenneHash fingerprint = new MersenneHash();
+
+    public HashQualityAnalyzer(int windowLength) {
+        this(windowLength, 42);
+    }
+
+    public HashQualityAnalyzer(int windowLength, long seed) {
+        if (windowLength <= 0) {
+            throw new IllegalArgumentException("Длина окна должна быть положительной: " + windowLength);
+        }
+        this.windowLength = windowLength;
+        this.seed = seed;
+    }
+
+    public static List<HashFunction> createHashFunctions() {
+        List<HashFunction> hashes = new ArrayList<>();
+        hashes.add(new SimpleHash());
+        hashes.add(new HornerHash());
+        hashes.add(new XORHash());
+        hashes.add(new DJB2Hash());
+        hashes.add(new MersenneHash());
+        hashes.add(new DoubleHash(new HornerHash(), new SimpleHash()));
+        hashes.add(new BuzHash());
+        hashes.add(new GearHash());
+        return hashes;
+    }
+
+    public HashQualityReport analyze(HashFunction hash, String corpusName, String text) {
+        int m = windowLength;
+        int windows = Math.max(0, text.length() - m + 1);
+        long[] hashes = windowHashes(hash, text, windows);
+
+        // Равномерность считаем по различным окнам: повторы слов в тексте не вина хеша
+        LongIntHashMap seen = new LongIntHashMap(1024);
+        long[] observed = new long[BUCKETS];
+        long distinct = 0;
+        long fp = windows > 0 ? fingerprint.hash(text, 0, m) : 0;
+        RollingHasher fingerprintRoller = fingerprint.rolling(m);
+        for (int i = 0; i < windows; i++) {
+            if (seen.put(fp, 0) < 0) {
+                observed[(int) Long.remainderUnsigned(hashes[i], BUCKETS)]++;
+                distinct++;
+            }
+            if (i + 1 < windows) {
+                fp = fingerprintRoller.roll(fp, text.charAt(i), text.charAt(i + m));
+            }
+        }
+        double expected = (double) distinct / BUCKETS;
+        double chiSquared = 0;
+        for (long count : observed) {
+            double diff = count - expected;
+            chiSquared += expected == 0 ? 0 : diff * diff / expected;
+        }
+
+        long allBits = 0;
+        for (long h : hashes) {
+            allBits |= h;
+        }
+        int outputBits = Math.max(1, 64 - Long.numberOfLeadingZeros(allBits));
+
+        return new HashQualityReport(hash.getName(), corpusName, m, windows, distinct, BUCKETS, chiSquared,
+                avalanche(hash, text, windows, outputBits), outputBits,
+                Math.min(PATTERN_SAMPLES, windows), falsePositives(text, hashes), nanosPerUpdate(hash, text, hashes));
+    }
+
+    private long[] windowHashes(HashFunction hash, String text, int windows) {
+        long[] hashes = new long[windows];
+        if (windows == 0) {
+            return hashes;
+        }
+        RollingHasher roller = hash.rolling(windowLength);
+        long h = hash.hash(text, 0, windowLength);
+        for (int i = 0; i < windows; i++) {
+            hashes[i] = h;
+            if (i + 1 < windows) {
+                h = roller != null
+                        ? roller.roll(h, text.charAt(i), text.charAt(i + windowLength))
+                        : hash.hash(text, i + 1, i + 1 + windowLength);
+            }
+        }
+        return hashes;
+    }
+
+    // Средняя доля изменившихся бит выхода (идеал - 0.5) при инверсии одного из младших 8 бит символа
+    private double avalanche(HashFunction hash, String text, int windows, int outputBits) {
+        if (windows == 0) {
+            return 0;
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        long changedBits = 0;
+        for (int k = 0; k < AVALANCHE_SAMPLES; k++) {
+            int start = random.nextInt(windows);
+            char[] window = text.substring(start, start + windowLength).toCharArray();
+            long before = hash.hash(new String(window));
+            int position = random.nextInt(windowLength);
+            window[position] ^= (char) (1 << random.nextInt(8));
+            long after = hash.hash(new String(window));
+            changedBits += Long.bitCount(before ^ after);
+        }
+        return (double) changedBits / AVALANCHE_SAMPLES / outputBits;
+    }
+
+    // Число ложных совпадений хеша между окнами текста и случайно выбранными паттернами-окнами
+    private long falsePositives(String text, long[] hashes) {
+        int windows = hashes.length;
+        if (windows == 0) {
+            return 0;
+        }
+        SplittableRandom random = new SplittableRandom(seed + 1);
+        int patterns = Math.min(PATTERN_SAMPLES, windows);
+        int[] patternStarts = new int[patterns];
+        int[] nextSameHash = new int[patterns];
+        LongIntHashMap table = new LongIntHashMap(patterns);
+        for (int p = 0; p < patterns; p++) {
+            patternStarts[p] = random.nextInt(windows);
+            nextSameHash[p] = table.put(hashes[patternStarts[p]], p);
+        }
+
+        long falsePositives = 0;
+        for (int i = 0; i < windows; i++) {
+            for (int p = table.get(hashes[i]); p >= 0; p = nextSameHash[p]) {
+                if (!text.regionMatches(i, text, patternStarts[p], windowLength)) {
+                    falsePositives++;
+                }
+            }
+        }
+        return falsePositives;
+    }
+
+    // Лучшее время из нескольких прогонов; результат каждого сверяется с уже посчитанными хешами,
+    // поэтому вычисление не может быть отброшено JIT как неиспользуемое
+    private double nanosPerUpdate(HashFunction hash, String text, long[] expected) {
+        int windows = expected.length;
+        if (windows < 2) {
+            return 0;
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < TIMING_ROUNDS; round++) {
+            long start = System.nanoTime();
+            long[] hashes = windowHashes(hash, text, windows);
+            long elapsed = System.nanoTime() - start;
+            if (hashes[windows - 1] != expected[windows - 1]) {
+                throw new IllegalStateException(hash.getName() + ": хеш последнего окна не воспроизводится");
+            }
+            best = Math.min(best, elapsed);
+        }
+        return (double) best / windows;
+    }
+
+    public List<HashQualityReport> analyzeAll(List<HashFunction> hashes) {
+        List<HashQualityReport> reports = new ArrayList<>();
+        for (String corpus : CORPORA) {
+            String text = Main.readTextFromFile(corpus);
+            for (HashFunction hash : hashes) {
+                reports.add(analyze(hash, corpus, text));
+            }
+        }
+        return reports;
+    }
+
+    public static void main(String[] args) {
+        int windowLength = args.length > 0 ? Integer.parseInt(args[0]) : 9;
+        System.out.println("=== АНАЛИЗ КАЧЕСТВА ХЕШ-ФУНКЦИЙ ===");
+        System.out.println("Длина окна: " + windowLength + ", корзин: " + BUCKETS
+                + ", корпуса: " + Arrays.toString(CORPORA) + "\n");
+
+        HashQualityAnalyzer analyzer = new HashQualityAnalyzer(windowLength);
+        HashQualityReport.printHeader();
+        for (HashQualityReport report : analyzer.analyzeAll(createHashFunctions())) {
+            report.printRow();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.search.benchmark.hash.analysis;
+
+// Результаты анализа одной хеш-функции на одном корпусе
+public class HashQualityReport {
+    private final String hashName;
+    private final String corpusName;
+    private final int windowLength;
+    private final long windows;
+    private final long distinctWindows;
+    private final int buckets;
+    private final double chiSquared;
+    private final double avalanche;
+    private final int outputBits;
+    private final long sampledPatterns;
+    private final long falsePositives;
+    private final double nanosPerUpdate;
+
+    public HashQualityReport(String hashName, String corpusName, int windowLength,
+                             long windows, long distinctWindows, int buckets, double chiSquared,
+                             double avalanche, int outputBits, long sampledPatterns,
+                             long falsePositives, double nanosPerUpdate) {
+        this.hashName = hashName;
+        this.corpusName = corpusName;
+        this.windowLength = windowLength;
+        this.windows = windows;
+        this.distinctWindows = distinctWindows;
+        this.buckets = buckets;
+        this.chiSquared = chiSquared;
+        this.avalanche = avalanche;
+        this.outputBits = outputBits;
+        this.sampledPatterns = sampledPatterns;
+        this.falsePositives = falsePositives;
+        this.nanosPerUpdate = nanosPerUpdate;
+    }
+
+    // χ² / (buckets - 1): около 1 для равномерного распределения, больше - хуже
+    public double getNormalizedChiSquared() {
+        return chiSquared / (buckets - 1);
+    }
+
+    // Доля ложных совпадений хеша на пару (окно, паттерн) - лишние проверки в Рабине-Карпе
+    public double getFalsePositiveRate() {
+        return windows == 0 || sampledPatterns == 0 ? 0 : (double) falsePositives / windows / sampledPatterns;
+    }
+
+    // Геттеры
+    public String getHashName() { return hashName; }
+    public String getCorpusName() { return corpusName; }
+    public int getWindowLength() { return windowLength; }
+    public long getWindows() { return windows; }
+    public long getDistinctWindows() { return distinctWindows; }
+    public int getBuckets() { return buckets; }
+    public double getChiSquared() { return chiSquared; }
+    public double getAvalanche() { return avalanche; }
+    public int getOutputBits() { return outputBits; }
+    public long getSampledPatterns() { return sampledPatterns; }
+    public long getFalsePositives() { return falsePositives; }
+    public double getNanosPerUpdate() { return nanosPerUpdate; }
+
+    public void printRow() {
+        System.out.printf("%-60s %-22s %-10.3f %-9.3f %-6d %-,12d %-12.3e %-8.2f\n",
+                hashName, corpusName, getNormalizedChiSquared(), avalanche, outputBits,
+                falsePositives, getFalsePositiveRate(), nanosPerUpdate);
+    }
+
+    public static void printHeader() {
+        System.out.printf("%-60s %-22s %-10s %-9s %-6s %-12s %-12s %-8s\n",
+                "ХЕШ-ФУНКЦИЯ", "КОРПУС", "χ²/df", "ЛАВИНА", "БИТ", "ЛОЖН. СОВП.", "ДОЛЯ", "нс/сдвиг");
+        System.out.println("-".repeat(145));
+    }
+}
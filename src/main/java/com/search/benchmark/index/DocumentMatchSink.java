@@ -0,0 +1,7 @@
+package com.search.benchmark.index;
+
+// Получатель вхождений при поиске по коллекции: номер документа и позиция в нём
+@FunctionalInterface
+public interface DocumentMatchSink {
+    void onMatch(int documentId, int position);
+}
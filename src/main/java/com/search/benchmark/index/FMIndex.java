@@ -0,0 +1,145 @@
+package com.search.benchmark.index;
+
+import java.util.Arrays;
+
+/**
+ * Сжатый FM-индекс: BWT текста (коды символов в сжатом алфавите) хранится в wavelet matrix,
+ * то есть ceil(log2 σ) бит на символ плюс около четверти этого на rank-счетчики, а Occ
+ * вычисляется как rank в ней же без таблицы σ счетчиков на блок. Выборка суффиксного
+ * массива - через каждые 32 позиции текста. На алфавите в сотню символов индекс занимает
+ * чуть больше 1 байта на символ против 4 байт у суффиксного массива.
+ * count - обратный поиск за O(m log σ), locate - LF-переходы до ближайшей выборки.
+ * Полный суффиксный массив после построения не хранится.
+ */
+public class FMIndex {
+    private static final int SA_SAMPLE = 32;
+
+    private final int n;
+    private final int[] charCode;
+    private final WaveletMatrix bwt;
+    private final int[] c;
+    private final RankBitVector sampledRows;
+    private final int[] samples;
+
+    private FMIndex(String text, int[] sa) {
+        n = text.length();
+
+        // Код 0 - сентинел '$', символы текста - коды 1..σ в порядке возрастания.
+        // Коды - int: полный BMP вместе с сентинелом дает 65537 кодов
+        charCode = new int[65536];
+        boolean[] present = new boolean[65536];
+        for (int i = 0; i < n; i++) {
+            present[text.charAt(i)] = true;
+        }
+        int sigma = 1;
+        for (int ch = 0; ch < 65536; ch++) {
+            if (present[ch]) {
+                charCode[ch] = sigma++;
+            }
+        }
+
+        // Строки BWT: строка 0 - суффикс "$", далее суффиксы текста в порядке sa
+        int rows = n + 1;
+        int[] codes = new int[rows];
+        long[] sampled = RankBitVector.words(rows);
+        int sampleCount = 0;
+        for (int row = 0; row < rows; row++) {
+            int suffix = row == 0 ? n : sa[row - 1];
+            codes[row] = suffix == 0 ? 0 : charCode[text.charAt(suffix - 1)];
+            if (suffix % SA_SAMPLE == 0) {
+                sampled[row >>> 6] |= 1L << row;
+                sampleCount++;
+            }
+        }
+        sampledRows = new RankBitVector(sampled);
+
+        samples = new int[sampleCount];
+        int k = 0;
+        for (int row = 0; row < rows; row++) {
+            int suffix = row == 0 ? n : sa[row - 1];
+            if (suffix % SA_SAMPLE == 0) {
+                samples[k++] = suffix;
+            }
+        }
+
+        c = new int[sigma + 1];
+        for (int code : codes) {
+            c[code + 1]++;
+        }
+        for (int i = 1; i <= sigma; i++) {
+            c[i] += c[i - 1];
+        }
+
+        bwt = new WaveletMatrix(codes, sigma);
+    }
+
+    public static FMIndex build(String text) {
+        return new FMIndex(text, SuffixArray.buildArray(text));
+    }
+
+    // Число символов с кодом code в bwt[0, row)
+    private int occ(int code, int row) {
+        return bwt.rank(code, row);
+    }
+
+    // Диапазон строк [from, to) для паттерна или null
+    private int[] range(String pattern) {
+        int lo = 0;
+        int hi = n + 1;
+        for (int k = pattern.length() - 1; k >= 0 && lo < hi; k--) {
+            int code = charCode[pattern.charAt(k)];
+            if (code == 0) {
+                return null;
+            }
+            lo = c[code] + occ(code, lo);
+            hi = c[code] + occ(code, hi);
+        }
+        return lo < hi ? new int[]{lo, hi} : null;
+    }
+
+    public int count(String pattern) {
+        if (pattern.isEmpty()) {
+            return 0;
+        }
+        int[] range = range(pattern);
+        return range == null ? 0 : range[1] - range[0];
+    }
+
+    // Позиции вхождений по возрастанию
+    public int[] locate(String pattern) {
+        if (pattern.isEmpty()) {
+            return new int[0];
+        }
+        int[] range = range(pattern);
+        if (range == null) {
+            return new int[0];
+        }
+        int[] positions = new int[range[1] - range[0]];
+        for (int row = range[0]; row < range[1]; row++) {
+            positions[row - range[0]] = suffixAt(row);
+        }
+        Arrays.sort(positions);
+        return positions;
+    }
+
+    // LF-переходы до строки с сохраненной позицией
+    private int suffixAt(int row) {
+        int steps = 0;
+        while (!sampledRows.get(row)) {
+            int code = bwt.get(row);
+            row = c[code] + occ(code, row);
+            steps++;
+        }
+        return samples[sampledRows.rank1(row)] + steps;
+    }
+
+    public int length() {
+        return n;
+    }
+
+    // Примерный объем индекса в памяти (без заголовков объектов)
+    public long sizeInBytes() {
+        return bwt.sizeInBytes() + sampledRows.sizeInBytes()
+                + (charCode.length + c.length + samples.length) * 4L;
+    }
+}
@@ -0,0 +1,74 @@
+package com.search.benchmark.index;
+
+import com.search.benchmark.algorithms.CompiledPattern;
+import com.search.benchmark.algorithms.MatchSink;
+import com.search.benchmark.algorithms.StringSearchAlgorithm;
+import com.search.benchmark.stats.AlgorithmStats;
+
+// Поиск через FM-индекс; индекс кешируется для последнего текста, как в SuffixArraySearch
+public class FMIndexSearch implements StringSearchAlgorithm {
+    private volatile Indexed indexed;
+
+    private FMIndex indexFor(String text) {
+        Indexed current = indexed;
+        if (current == null || current.text != text) {
+            current = new Indexed(text, FMIndex.build(text));
+            indexed = current;
+        }
+        return current.index;
+    }
+
+    private static final class Indexed {
+        final String text;
+        final FMIndex index;
+
+        Indexed(String text, FMIndex index) {
+            this.text = text;
+            this.index = index;
+        }
+    }
+
+    @Override
+    public AlgorithmStats search(String text, String pattern) {
+        AlgorithmStats stats = new AlgorithmStats(getName());
+        long startTime = System.nanoTime();
+
+        for (int position : indexFor(text).locate(pattern)) {
+            stats.addPosition(position);
+        }
+
+        stats.setTimeNanos(System.nanoTime() - startTime);
+        return stats;
+    }
+
+    @Override
+    public CompiledPattern compile(String pattern) {
+        return new CompiledPattern() {
+            @Override
+            public String getPattern() {
+                return pattern;
+            }
+
+            @Override
+            public void search(String text, MatchSink sink) {
+                for (int position : indexFor(text).locate(pattern)) {
+                    sink.onMatch(position);
+                    if (sink.isDone()) {
+                        return;
+                    }
+                }
+            }
+
+            // Число вхождений - длина диапазона в индексе, без locate
+            @Override
+            public int count(String text) {
+                return pattern.isEmpty() ? 0 : indexFor(text).count(pattern);
+            }
+        };
+    }
+
+    @Override
+    public String getName() {
+        return "FM-индекс";
+    }
+}
@@ -0,0 +1,36 @@
+package com.search.benchmark.index;
+
+// Массив LCP: lcp[i] - длина общего префикса суффиксов sa[i] и sa[i + 1]. Алгоритм Касаи, O(n).
+public final class LcpArray {
+
+    private LcpArray() {
+    }
+
+    public static int[] build(String text, int[] sa) {
+        int n = text.length();
+        if (n == 0) {
+            return new int[0];
+        }
+        int[] rank = new int[n];
+        for (int i = 0; i < n; i++) {
+            rank[sa[i]] = i;
+        }
+
+        int[] lcp = new int[n - 1];
+        int h = 0;
+        for (int i = 0; i < n; i++) {
+            if (h > 0) {
+                h--;
+            }
+            if (rank[i] == 0) {
+                continue;
+            }
+            int j = sa[rank[i] - 1];
+            while (j + h < n && i + h < n && text.charAt(j + h) == text.charAt(i + h)) {
+                h++;
+            }
+            lcp[rank[i] - 1] = h;
+        }
+        return lcp;
+    }
+}
@@ -0,0 +1,80 @@
+package com.search.benchmark.index;
+
+import java.util.Arrays;
+
+// Возрастающий список номеров документов: разности между соседними номерами в varint
+final class PostingList {
+    private byte[] data = new byte[8];
+    private int length;
+    private int size;
+    private int last = -1;
+
+    // Номера добавляются по возрастанию, повтор последнего номера игнорируется
+    void add(int document) {
+        if (document <= last) {
+            return;
+        }
+        int delta = document - last;
+        if (length + 5 > data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+        while (delta >= 0x80) {
+            data[length++] = (byte) (delta | 0x80);
+            delta >>>= 7;
+        }
+        data[length++] = (byte) delta;
+        last = document;
+        size++;
+    }
+
+    int[] toArray() {
+        int[] result = new int[size];
+        Cursor cursor = cursor();
+        for (int i = 0; i < size; i++) {
+            result[i] = cursor.next();
+        }
+        return result;
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    // Геттеры
+    int size() { return size; }
+    int byteSize() { return length; }
+
+    final class Cursor {
+        private int offset;
+        private int current = -1;
+
+        // Следующий номер или -1, если список закончился
+        int next() {
+            if (offset >= length) {
+                return -1;
+            }
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[offset++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            current += delta;
+            return current;
+        }
+
+        // Первый номер >= target или -1
+        int advance(int target) {
+            int document = current;
+            while (document < target) {
+                document = next();
+                if (document < 0) {
+                    return -1;
+                }
+            }
+            return document;
+        }
+    }
+}
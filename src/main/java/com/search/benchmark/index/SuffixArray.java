@@ -0,0 +1,257 @@
+package com.search.benchmark.index;
+
+import java.util.Arrays;
+
+/**
+ * Суффиксный массив текста, построенный алгоритмом SA-IS (индуцированная сортировка) за O(n).
+ * Поиск паттерна - двоичный поиск диапазона суффиксов за O(m log n).
+ * Объект неизменяем и может использоваться из нескольких потоков.
+ */
+public class SuffixArray {
+    private final String text;
+    private final int[] sa;
+    private volatile int[] lcp;
+
+    private SuffixArray(String text, int[] sa) {
+        this.text = text;
+        this.sa = sa;
+    }
+
+    public static SuffixArray build(String text) {
+        return new SuffixArray(text, buildArray(text));
+    }
+
+    // Суффиксный массив без сентинела: sa[i] - начало i-го суффикса в лексикографическом порядке
+    static int[] buildArray(String text) {
+        int n = text.length();
+        // Сжимаем алфавит до рангов 0..σ-1 с сохранением порядка символов
+        boolean[] present = new boolean[65536];
+        for (int i = 0; i < n; i++) {
+            present[text.charAt(i)] = true;
+        }
+        int[] rank = new int[65536];
+        int sigma = 0;
+        for (int c = 0; c < 65536; c++) {
+            if (present[c]) {
+                rank[c] = sigma++;
+            }
+        }
+        int[] s = new int[n];
+        for (int i = 0; i < n; i++) {
+            s[i] = rank[text.charAt(i)];
+        }
+        return saIs(s, Math.max(0, sigma - 1));
+    }
+
+    // SA-IS для массива s со значениями в [0, upper]
+    static int[] saIs(int[] s, int upper) {
+        int n = s.length;
+        if (n == 0) {
+            return new int[0];
+        }
+        if (n == 1) {
+            return new int[]{0};
+        }
+        if (n == 2) {
+            return s[0] < s[1] ? new int[]{0, 1} : new int[]{1, 0};
+        }
+
+        int[] sa = new int[n];
+        // ls[i] - суффикс i типа S (меньше следующего)
+        boolean[] ls = new boolean[n];
+        for (int i = n - 2; i >= 0; i--) {
+            ls[i] = s[i] == s[i + 1] ? ls[i + 1] : s[i] < s[i + 1];
+        }
+
+        // Границы корзин: sumL - начало L-части, sumS - начало S-части корзины символа
+        int[] sumL = new int[upper + 1];
+        int[] sumS = new int[upper + 1];
+        for (int i = 0; i < n; i++) {
+            if (!ls[i]) {
+                sumS[s[i]]++;
+            } else {
+                sumL[s[i] + 1]++;
+            }
+        }
+        for (int i = 0; i <= upper; i++) {
+            sumS[i] += sumL[i];
+            if (i < upper) {
+                sumL[i + 1] += sumS[i];
+            }
+        }
+
+        int[] lmsMap = new int[n + 1];
+        Arrays.fill(lmsMap, -1);
+        int m = 0;
+        for (int i = 1; i < n; i++) {
+            if (!ls[i - 1] && ls[i]) {
+                lmsMap[i] = m++;
+            }
+        }
+        int[] lms = new int[m];
+        int k = 0;
+        for (int i = 1; i < n; i++) {
+            if (!ls[i - 1] && ls[i]) {
+                lms[k++] = i;
+            }
+        }
+
+        induce(s, sa, ls, sumL, sumS, lms, upper);
+
+        if (m > 0) {
+            int[] sortedLms = new int[m];
+            k = 0;
+            for (int v : sa) {
+                if (lmsMap[v] != -1) {
+                    sortedLms[k++] = v;
+                }
+            }
+
+            // Именуем LMS-подстроки и рекурсивно сортируем сокращенную строку
+            int[] recS = new int[m];
+            int recUpper = 0;
+            recS[lmsMap[sortedLms[0]]] = 0;
+            for (int i = 1; i < m; i++) {
+                int l = sortedLms[i - 1];
+                int r = sortedLms[i];
+                int endL = lmsMap[l] + 1 < m ? lms[lmsMap[l] + 1] : n;
+                int endR = lmsMap[r] + 1 < m ? lms[lmsMap[r] + 1] : n;
+                boolean same = true;
+                if (endL - l != endR - r) {
+                    same = false;
+                } else {
+                    while (l < endL && s[l] == s[r]) {
+                        l++;
+                        r++;
+                    }
+                    if (l == n || s[l] != s[r]) {
+                        same = false;
+                    }
+                }
+                if (!same) {
+                    recUpper++;
+                }
+                recS[lmsMap[sortedLms[i]]] = recUpper;
+            }
+
+            int[] recSa = saIs(recS, recUpper);
+            for (int i = 0; i < m; i++) {
+                sortedLms[i] = lms[recSa[i]];
+            }
+            induce(s, sa, ls, sumL, sumS, sortedLms, upper);
+        }
+
+        return sa;
+    }
+
+    private static void induce(int[] s, int[] sa, boolean[] ls, int[] sumL, int[] sumS, int[] lms, int upper) {
+        int n = s.length;
+        Arrays.fill(sa, -1);
+        int[] buf = new int[upper + 1];
+
+        System.arraycopy(sumS, 0, buf, 0, upper + 1);
+        for (int d : lms) {
+            if (d != n) {
+                sa[buf[s[d]]++] = d;
+            }
+        }
+
+        System.arraycopy(sumL, 0, buf, 0, upper + 1);
+        sa[buf[s[n - 1]]++] = n - 1;
+        for (int i = 0; i < n; i++) {
+            int v = sa[i];
+            if (v >= 1 && !ls[v - 1]) {
+                sa[buf[s[v - 1]]++] = v - 1;
+            }
+        }
+
+        System.arraycopy(sumL, 0, buf, 0, upper + 1);
+        for (int i = n - 1; i >= 0; i--) {
+            int v = sa[i];
+            if (v >= 1 && ls[v - 1]) {
+                sa[--buf[s[v - 1] + 1]] = v - 1;
+            }
+        }
+    }
+
+    // Сравнивает паттерн с префиксом суффикса; 0 - суффикс начинается с паттерна
+    private int compare(String pattern, int suffix, long[] checks) {
+        int n = text.length();
+        int m = pattern.length();
+        int limit = Math.min(m, n - suffix);
+        for (int j = 0; j < limit; j++) {
+            if (checks != null) {
+                checks[0]++;
+            }
+            int diff = pattern.charAt(j) - text.charAt(suffix + j);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return limit == m ? 0 : 1;
+    }
+
+    // Диапазон [from, to) строк массива, суффиксы которых начинаются с паттерна
+    int[] range(String pattern, long[] checks) {
+        int lo = 0;
+        int hi = sa.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compare(pattern, sa[mid], checks) > 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        int from = lo;
+        hi = sa.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compare(pattern, sa[mid], checks) >= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return new int[]{from, lo};
+    }
+
+    public int count(String pattern) {
+        if (pattern.isEmpty()) {
+            return 0;
+        }
+        int[] range = range(pattern, null);
+        return range[1] - range[0];
+    }
+
+    // Позиции вхождений по возрастанию
+    public int[] locate(String pattern) {
+        return locate(pattern, null);
+    }
+
+    int[] locate(String pattern, long[] checks) {
+        if (pattern.isEmpty()) {
+            return new int[0];
+        }
+        int[] range = range(pattern, checks);
+        int[] positions = Arrays.copyOfRange(sa, range[0], range[1]);
+        Arrays.sort(positions);
+        return positions;
+    }
+
+    // LCP соседних суффиксов (алгоритм Касаи), строится по первому запросу
+    public int[] getLcp() {
+        int[] result = lcp;
+        if (result == null) {
+            result = LcpArray.build(text, sa);
+            lcp = result;
+        }
+        return result;
+    }
+
+    // Геттеры
+    public String getText() { return text; }
+    public int[] getArray() { return sa.clone(); }
+    public int length() { return sa.length; }
+    int suffixAt(int row) { return sa[row]; }
+}
@@ -0,0 +1,72 @@
+package com.search.benchmark.index;
+
+import com.search.benchmark.algorithms.CompiledPattern;
+import com.search.benchmark.algorithms.MatchSink;
+import com.search.benchmark.algorithms.StringSearchAlgorithm;
+import com.search.benchmark.stats.AlgorithmStats;
+
+/**
+ * Поиск через суффиксный массив. Индекс строится при первом запросе к тексту
+ * и переиспользуется, пока запросы идут к тому же объекту String.
+ * Время первого запроса включает построение индекса.
+ */
+public class SuffixArraySearch implements StringSearchAlgorithm {
+    private volatile SuffixArray index;
+
+    SuffixArray indexFor(String text) {
+        SuffixArray current = index;
+        if (current == null || current.getText() != text) {
+            current = SuffixArray.build(text);
+            index = current;
+        }
+        return current;
+    }
+
+    @Override
+    public AlgorithmStats search(String text, String pattern) {
+        AlgorithmStats stats = new AlgorithmStats(getName());
+        long startTime = System.nanoTime();
+
+        if (!pattern.isEmpty()) {
+            long[] checks = new long[1];
+            for (int position : indexFor(text).locate(pattern, checks)) {
+                stats.addPosition(position);
+            }
+            stats.addCharChecks(checks[0]);
+        }
+
+        stats.setTimeNanos(System.nanoTime() - startTime);
+        return stats;
+    }
+
+    @Override
+    public CompiledPattern compile(String pattern) {
+        return new CompiledPattern() {
+            @Override
+            public String getPattern() {
+                return pattern;
+            }
+
+            @Override
+            public void search(String text, MatchSink sink) {
+                for (int position : indexFor(text).locate(pattern)) {
+                    sink.onMatch(position);
+                    if (sink.isDone()) {
+                        return;
+                    }
+                }
+            }
+
+            // Число вхождений - длина диапазона в индексе, без locate
+            @Override
+            public int count(String text) {
+                return pattern.isEmpty() ? 0 : indexFor(text).count(pattern);
+            }
+        };
+    }
+
+    @Override
+    public String getName() {
+        return "Суффиксный массив";
+    }
+}
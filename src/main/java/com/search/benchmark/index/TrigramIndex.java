@@ -0,0 +1,148 @@
+package com.search.benchmark.index;
+
+import com.search.benchmark.algorithms.BoyerMooreSearch;
+import com.search.benchmark.algorithms.CompiledPattern;
+import com.search.benchmark.algorithms.LongIntHashMap;
+import com.search.benchmark.algorithms.StringSearchAlgorithm;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Инвертированный индекс триграмм по коллекции документов.
+ * Триграмма упаковывается в long, LongIntHashMap даёт номер её списка документов.
+ * Запрос пересекает списки триграмм паттерна, начиная с самого короткого,
+ * и проверяет только оставшиеся документы скомпилированным паттерном.
+ * Фильтр триграмм буквальный и чувствителен к регистру, поэтому для неточного
+ * проверяющего движка (isExact() == false: без регистра, шаблоны, ошибки)
+ * он отключается и проверяются все документы.
+ * Документы можно добавлять в любой момент; класс не потокобезопасен.
+ */
+public class TrigramIndex {
+    private final StringSearchAlgorithm verifier;
+    private final LongIntHashMap trigramIds = new LongIntHashMap(1 << 12);
+    private final List<PostingList> postings = new ArrayList<>();
+    private final List<String> documents = new ArrayList<>();
+    private final List<String> names = new ArrayList<>();
+
+    public TrigramIndex() {
+        this(new BoyerMooreSearch());
+    }
+
+    public TrigramIndex(StringSearchAlgorithm verifier) {
+        this.verifier = verifier;
+    }
+
+    public int addDocument(String name, String content) {
+        int id = documents.size();
+        documents.add(content);
+        names.add(name);
+        for (int i = 0; i + 3 <= content.length(); i++) {
+            long key = trigram(content, i);
+            int list = trigramIds.get(key);
+            if (list < 0) {
+                list = postings.size();
+                postings.add(new PostingList());
+                trigramIds.put(key, list);
+            }
+            // Повторная триграмма того же документа отбрасывается самим списком
+            postings.get(list).add(id);
+        }
+        return id;
+    }
+
+    // Добавляет все обычные файлы каталога в порядке имён
+    public void addDirectory(Path directory) throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(Files::isRegularFile).sorted(Comparator.naturalOrder()).toList();
+        }
+        for (Path file : files) {
+            addDocument(file.getFileName().toString(), Files.readString(file, StandardCharsets.UTF_8));
+        }
+    }
+
+    // Документы, содержащие все триграммы паттерна. Паттерн короче трёх символов не фильтруется
+    public int[] candidates(String pattern) {
+        if (pattern.length() < 3) {
+            return allDocuments();
+        }
+
+        int trigrams = pattern.length() - 2;
+        PostingList[] lists = new PostingList[trigrams];
+        for (int i = 0; i < trigrams; i++) {
+            int list = trigramIds.get(trigram(pattern, i));
+            if (list < 0) {
+                return new int[0];
+            }
+            lists[i] = postings.get(list);
+        }
+        Arrays.sort(lists, Comparator.comparingInt(PostingList::size));
+
+        int[] result = lists[0].toArray();
+        int count = result.length;
+        for (int l = 1; l < lists.length && count > 0; l++) {
+            if (lists[l] == lists[l - 1]) {
+                continue;
+            }
+            PostingList.Cursor cursor = lists[l].cursor();
+            int kept = 0;
+            for (int i = 0; i < count; i++) {
+                int document = cursor.advance(result[i]);
+                if (document < 0) {
+                    break;
+                }
+                if (document == result[i]) {
+                    result[kept++] = document;
+                }
+            }
+            count = kept;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    // Возвращает число проверенных документов-кандидатов
+    public int search(String pattern, DocumentMatchSink sink) {
+        int[] candidates = verifier.isExact() ? candidates(pattern) : allDocuments();
+        if (pattern.isEmpty()) {
+            return candidates.length;
+        }
+        CompiledPattern compiled = verifier.compile(pattern);
+        for (int document : candidates) {
+            compiled.search(documents.get(document), position -> sink.onMatch(document, position));
+        }
+        return candidates.length;
+    }
+
+    private int[] allDocuments() {
+        int[] all = new int[documents.size()];
+        Arrays.setAll(all, i -> i);
+        return all;
+    }
+
+    private static long trigram(String s, int i) {
+        return ((long) s.charAt(i) << 32) | ((long) s.charAt(i + 1) << 16) | s.charAt(i + 2);
+    }
+
+    public long postingBytes() {
+        long total = 0;
+        for (PostingList list : postings) {
+            total += list.byteSize();
+        }
+        return total;
+    }
+
+    // Геттеры
+    public int documentCount() { return documents.size(); }
+    public int trigramCount() { return postings.size(); }
+    public String getDocument(int id) { return documents.get(id); }
+    public String getDocumentName(int id) { return names.get(id); }
+    public StringSearchAlgorithm getVerifier() { return verifier; }
+}
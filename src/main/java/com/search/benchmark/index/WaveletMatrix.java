@@ -0,0 +1,90 @@
+package com.search.benchmark.index;
+
+// Wavelet matrix над кодами 0..sigma-1: ceil(log2 sigma) битовых векторов длины n.
+// get и rank - по одному rank на уровень, то есть O(log sigma).
+final class WaveletMatrix {
+    private final int length;
+    private final RankBitVector[] levels;
+    private final int[] zeros;
+
+    // codes используется как рабочий буфер и портится
+    WaveletMatrix(int[] codes, int sigma) {
+        length = codes.length;
+        int levelCount = 32 - Integer.numberOfLeadingZeros(Math.max(sigma - 1, 0));
+        levels = new RankBitVector[levelCount];
+        zeros = new int[levelCount];
+
+        int[] current = codes;
+        int[] next = new int[length];
+        for (int level = 0; level < levelCount; level++) {
+            int shift = levelCount - 1 - level;
+            long[] words = RankBitVector.words(length);
+            int zeroCount = 0;
+            for (int i = 0; i < length; i++) {
+                if (((current[i] >>> shift) & 1) != 0) {
+                    words[i >>> 6] |= 1L << i;
+                } else {
+                    zeroCount++;
+                }
+            }
+            // Устойчивое разбиение: сначала нули, затем единицы
+            int z = 0;
+            int o = zeroCount;
+            for (int i = 0; i < length; i++) {
+                if (((current[i] >>> shift) & 1) != 0) {
+                    next[o++] = current[i];
+                } else {
+                    next[z++] = current[i];
+                }
+            }
+            levels[level] = new RankBitVector(words);
+            zeros[level] = zeroCount;
+            int[] swap = current;
+            current = next;
+            next = swap;
+        }
+    }
+
+    int get(int i) {
+        int code = 0;
+        for (int level = 0; level < levels.length; level++) {
+            RankBitVector bits = levels[level];
+            if (bits.get(i)) {
+                code = (code << 1) | 1;
+                i = zeros[level] + bits.rank1(i);
+            } else {
+                code <<= 1;
+                i = bits.rank0(i);
+            }
+        }
+        return code;
+    }
+
+    // Число вхождений code в [0, i)
+    int rank(int code, int i) {
+        int from = 0;
+        for (int level = 0; level < levels.length; level++) {
+            RankBitVector bits = levels[level];
+            if (((code >>> (levels.length - 1 - level)) & 1) != 0) {
+                from = zeros[level] + bits.rank1(from);
+                i = zeros[level] + bits.rank1(i);
+            } else {
+                from = bits.rank0(from);
+                i = bits.rank0(i);
+            }
+        }
+        return i - from;
+    }
+
+    int length() {
+        return length;
+    }
+
+    long sizeInBytes() {
+        long size = zeros.length * 4L;
+        for (RankBitVector bits : levels) {
+            size += bits.sizeInBytes();
+        }
+        return size;
+    }
+}
@@ -0,0 +1,118 @@
+package com.search.benchmark.metrics;
+
+import com.search.benchmark.stats.AlgorithmStats;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Метрики одного движка. Счетчики - LongAdder (полосы по потокам, без общей
+ * точки конкуренции). Проверки символов и коллизии известны только
+ * для инструментированных вызовов, поэтому они считаются по выборке.
+ */
+public class EngineMetrics implements EngineMetricsMXBean {
+    private final String name;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder matches = new LongAdder();
+    private final LongAdder charsScanned = new LongAdder();
+    private final LongAdder busyNanos = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    private final LongAdder sampledCalls = new LongAdder();
+    private final LongAdder sampledChars = new LongAdder();
+    private final LongAdder sampledCharChecks = new LongAdder();
+    private final LongAdder sampledCollisions = new LongAdder();
+
+    EngineMetrics(String name) {
+        this.name = name;
+    }
+
+    // Быстрый вызов: известны только время, длина текста и число вхождений
+    public void record(long nanos, int textLength, long found) {
+        calls.increment();
+        matches.add(found);
+        charsScanned.add(textLength);
+        busyNanos.add(nanos);
+        latency.record(nanos);
+    }
+
+    // Инструментированный вызов: дополнительно проверки символов и коллизии
+    public void recordSample(AlgorithmStats stats, int textLength) {
+        recordSample(stats, textLength, stats.getFoundCount());
+    }
+
+    // found - сколько вхождений реально передано потребителю (меньше при ранней остановке)
+    public void recordSample(AlgorithmStats stats, int textLength, long found) {
+        record(stats.getTimeNanos(), textLength, found);
+        sampledCalls.increment();
+        sampledChars.add(textLength);
+        sampledCharChecks.add(stats.getCharChecks());
+        sampledCollisions.add(stats.getCollisions());
+    }
+
+    public LatencyHistogram.Snapshot latencySnapshot() {
+        return latency.snapshot();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    @Override
+    public long getMatches() {
+        return matches.sum();
+    }
+
+    @Override
+    public long getCharsScanned() {
+        return charsScanned.sum();
+    }
+
+    @Override
+    public double getBytesPerSecond() {
+        long nanos = busyNanos.sum();
+        return nanos == 0 ? 0 : charsScanned.sum() * (double) Character.BYTES * 1e9 / nanos;
+    }
+
+    @Override
+    public long getLatencyP50Nanos() {
+        return latency.snapshot().percentile(0.50);
+    }
+
+    @Override
+    public long getLatencyP99Nanos() {
+        return latency.snapshot().percentile(0.99);
+    }
+
+    @Override
+    public long getLatencyP999Nanos() {
+        return latency.snapshot().percentile(0.999);
+    }
+
+    @Override
+    public long getLatencyMaxNanos() {
+        return latency.snapshot().getMax();
+    }
+
+    @Override
+    public long getSampledCalls() {
+        return sampledCalls.sum();
+    }
+
+    @Override
+    public double getCharChecksPerChar() {
+        long chars = sampledChars.sum();
+        return chars == 0 ? 0 : (double) sampledCharChecks.sum() / chars;
+    }
+
+    @Override
+    public double getCollisionsPerCall() {
+        long sampled = sampledCalls.sum();
+        return sampled == 0 ? 0 : (double) sampledCollisions.sum() / sampled;
+    }
+}
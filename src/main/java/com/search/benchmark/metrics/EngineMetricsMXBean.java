@@ -0,0 +1,30 @@
+package com.search.benchmark.metrics;
+
+// Атрибуты движка в JMX (jconsole, VisualVM): com.search.benchmark:type=SearchEngine,name=...
+public interface EngineMetricsMXBean {
+    String getName();
+
+    long getCalls();
+
+    long getMatches();
+
+    long getCharsScanned();
+
+    // Скорость сканирования по времени внутри вызовов, байт UTF-16 в секунду
+    double getBytesPerSecond();
+
+    long getLatencyP50Nanos();
+
+    long getLatencyP99Nanos();
+
+    long getLatencyP999Nanos();
+
+    long getLatencyMaxNanos();
+
+    // По выборочным инструментированным вызовам
+    long getSampledCalls();
+
+    double getCharChecksPerChar();
+
+    double getCollisionsPerCall();
+}
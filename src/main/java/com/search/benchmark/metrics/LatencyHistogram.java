@@ -0,0 +1,104 @@
+package com.search.benchmark.metrics;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Гистограмма задержек в стиле HDR: логарифмические интервалы по степеням двойки,
+ * каждый разбит на 32 линейных подинтервала, относительная ошибка не больше 1/32.
+ * Покрывает весь диапазон long за 1920 интервалов. Счетчик интервала - LongAdder,
+ * как и остальные счетчики EngineMetrics: задержки одного движка попадают в несколько
+ * соседних интервалов, и общий атомарный счетчик стал бы точкой конкуренции потоков.
+ * Счетчики создаются при первой записи в интервал, поэтому пустые интервалы бесплатны.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BITS = 5;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS + 1) * SUB_COUNT;
+
+    private final AtomicReferenceArray<LongAdder> counts = new AtomicReferenceArray<>(BUCKETS);
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        int bucket = bucket(value);
+        LongAdder count = counts.get(bucket);
+        if (count == null) {
+            count = createCount(bucket);
+        }
+        count.increment();
+        max.accumulate(value);
+    }
+
+    // Счетчик создает первый записавший поток, остальные берут уже установленный
+    private LongAdder createCount(int bucket) {
+        LongAdder created = new LongAdder();
+        LongAdder existing = counts.compareAndExchange(bucket, null, created);
+        return existing == null ? created : existing;
+    }
+
+    static int bucket(long value) {
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+        return (shift + 1) * SUB_COUNT + (int) ((value >>> shift) - SUB_COUNT);
+    }
+
+    // Наибольшее значение, попадающее в интервал
+    static long highestEquivalent(int bucket) {
+        if (bucket < SUB_COUNT) {
+            return bucket;
+        }
+        int shift = bucket / SUB_COUNT - 1;
+        long lower = (long) (SUB_COUNT + bucket % SUB_COUNT) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    // Копия счетчиков; запись во время копирования может попасть или не попасть в снимок
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            LongAdder count = counts.get(i);
+            copy[i] = count == null ? 0 : count.sum();
+            total += copy[i];
+        }
+        return new Snapshot(copy, total, max.get());
+    }
+
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long total;
+        private final long max;
+
+        Snapshot(long[] counts, long total, long max) {
+            this.counts = counts;
+            this.total = total;
+            this.max = max;
+        }
+
+        // Значение, не превышаемое долей quantile записей (0..1)
+        public long percentile(double quantile) {
+            if (total == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(quantile * total));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(highestEquivalent(i), max);
+                }
+            }
+            return max;
+        }
+
+        // Геттеры
+        public long getCount() { return total; }
+        public long getMax() { return max; }
+    }
+}
@@ -0,0 +1,133 @@
+package com.search.benchmark.metrics;
+
+import com.search.benchmark.algorithms.CompiledPattern;
+import com.search.benchmark.algorithms.MatchSink;
+import com.search.benchmark.algorithms.StringSearchAlgorithm;
+import com.search.benchmark.stats.AlgorithmStats;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Декоратор, записывающий метрики движка. Быстрые вызовы измеряются двумя
+ * System.nanoTime и счетчиком вхождений; примерно каждый sampleEvery-й вызов
+ * выполняется инструментированно, чтобы оценить проверки символов и коллизии
+ * без подсчета на каждом символе.
+ */
+public class MeteredSearch implements StringSearchAlgorithm {
+    private final StringSearchAlgorithm delegate;
+    private final EngineMetrics metrics;
+    private final int sampleEvery;
+
+    public MeteredSearch(StringSearchAlgorithm delegate, MetricsRegistry registry) {
+        this(delegate, registry, 1000);
+    }
+
+    // sampleEvery = 0 - без инструментированных выборок
+    public MeteredSearch(StringSearchAlgorithm delegate, MetricsRegistry registry, int sampleEvery) {
+        this.delegate = delegate;
+        this.metrics = registry.forEngine(delegate.getName());
+        this.sampleEvery = sampleEvery;
+    }
+
+    @Override
+    public AlgorithmStats search(String text, String pattern) {
+        return search(text, 0, text.length(), pattern);
+    }
+
+    @Override
+    public AlgorithmStats search(String text, int from, int to, String pattern) {
+        AlgorithmStats stats = delegate.search(text, from, to, pattern);
+        metrics.recordSample(stats, to - from);
+        return stats;
+    }
+
+    @Override
+    public void search(String text, String pattern, MatchSink sink) {
+        compile(pattern).search(text, sink);
+    }
+
+    @Override
+    public CompiledPattern compile(String pattern) {
+        return new Metered(delegate.compile(pattern));
+    }
+
+    private boolean sampled() {
+        return sampleEvery > 0 && ThreadLocalRandom.current().nextInt(sampleEvery) == 0;
+    }
+
+    private final class Metered implements CompiledPattern {
+        private final CompiledPattern compiled;
+
+        Metered(CompiledPattern compiled) {
+            this.compiled = compiled;
+        }
+
+        @Override
+        public String getPattern() {
+            return compiled.getPattern();
+        }
+
+        @Override
+        public void search(String text, MatchSink sink) {
+            search(text, 0, text.length(), sink);
+        }
+
+        @Override
+        public void search(String text, int from, int to, MatchSink sink) {
+            if (sampled()) {
+                // Выборка: инструментированный поиск, позиции передаются в sink
+                AlgorithmStats stats = delegate.search(text, from, to, compiled.getPattern());
+                long delivered = 0;
+                for (int position : stats.getPositionArray()) {
+                    sink.onMatch(position);
+                    delivered++;
+                    if (sink.isDone()) {
+                        break;
+                    }
+                }
+                metrics.recordSample(stats, to - from, delivered);
+                return;
+            }
+
+            CountingSink counting = new CountingSink(sink);
+            long start = System.nanoTime();
+            compiled.search(text, from, to, counting);
+            metrics.record(System.nanoTime() - start, to - from, counting.count);
+        }
+    }
+
+    // Считает вхождения и пропускает их дальше, сохраняя раннюю остановку
+    private static final class CountingSink implements MatchSink {
+        private final MatchSink target;
+        private long count;
+
+        CountingSink(MatchSink target) {
+            this.target = target;
+        }
+
+        @Override
+        public void onMatch(int position) {
+            count++;
+            target.onMatch(position);
+        }
+
+        @Override
+        public boolean isDone() {
+            return target.isDone();
+        }
+    }
+
+    // Геттеры
+    public StringSearchAlgorithm getDelegate() { return delegate; }
+    public EngineMetrics getMetrics() { return metrics; }
+
+    @Override
+    public boolean isExact() {
+        return delegate.isExact();
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+}
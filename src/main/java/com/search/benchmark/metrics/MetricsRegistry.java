@@ -0,0 +1,85 @@
+package com.search.benchmark.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Метрики по именам движков. После registerMBeans каждый движок, в том числе
+// появившийся позже, публикуется в платформенном MBeanServer
+public class MetricsRegistry {
+    public static final String DOMAIN = "com.search.benchmark";
+
+    private final ConcurrentHashMap<String, EngineMetrics> engines = new ConcurrentHashMap<>();
+    private volatile MBeanServer server;
+
+    public EngineMetrics forEngine(String name) {
+        EngineMetrics metrics = engines.get(name);
+        if (metrics != null) {
+            return metrics;
+        }
+        return engines.computeIfAbsent(name, key -> {
+            EngineMetrics created = new EngineMetrics(key);
+            register(created);
+            return created;
+        });
+    }
+
+    public synchronized void registerMBeans() {
+        if (server != null) {
+            return;
+        }
+        server = ManagementFactory.getPlatformMBeanServer();
+        for (EngineMetrics metrics : engines.values()) {
+            register(metrics);
+        }
+    }
+
+    public synchronized void unregisterMBeans() {
+        if (server == null) {
+            return;
+        }
+        for (EngineMetrics metrics : engines.values()) {
+            try {
+                ObjectName objectName = objectName(metrics.getName());
+                if (server.isRegistered(objectName)) {
+                    server.unregisterMBean(objectName);
+                }
+            } catch (JMException e) {
+                System.err.println("Не удалось снять MBean " + metrics.getName() + ": " + e.getMessage());
+            }
+        }
+        server = null;
+    }
+
+    private void register(EngineMetrics metrics) {
+        MBeanServer current = server;
+        if (current == null) {
+            return;
+        }
+        try {
+            ObjectName objectName = objectName(metrics.getName());
+            if (!current.isRegistered(objectName)) {
+                current.registerMBean(metrics, objectName);
+            }
+        } catch (JMException e) {
+            System.err.println("Не удалось зарегистрировать MBean " + metrics.getName() + ": " + e.getMessage());
+        }
+    }
+
+    public static ObjectName objectName(String engineName) throws JMException {
+        return new ObjectName(DOMAIN + ":type=SearchEngine,name=" + ObjectName.quote(engineName));
+    }
+
+    public MetricsSnapshot snapshot() {
+        List<MetricsSnapshot.Engine> result = new ArrayList<>();
+        for (EngineMetrics metrics : engines.values()) {
+            result.add(new MetricsSnapshot.Engine(metrics));
+        }
+        result.sort((a, b) -> a.getName().compareTo(b.getName()));
+        return new MetricsSnapshot(System.currentTimeMillis(), result);
+    }
+}
@@ -0,0 +1,76 @@
+package com.search.benchmark.metrics;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.util.List;
+
+// Неизменяемый снимок метрик всех движков на момент timestampMillis
+public class MetricsSnapshot {
+    private final long timestampMillis;
+    private final List<Engine> engines;
+
+    MetricsSnapshot(long timestampMillis, List<Engine> engines) {
+        this.timestampMillis = timestampMillis;
+        this.engines = List.copyOf(engines);
+    }
+
+    public void print(PrintStream out) {
+        out.printf("\n=== Метрики на %s ===\n", Instant.ofEpochMilli(timestampMillis));
+        out.printf("%-40s %10s %12s %10s %10s %10s %12s %10s %10s\n",
+                "ДВИЖОК", "ВЫЗОВОВ", "МБ/с", "p50 (мкс)", "p99 (мкс)", "p999 (мкс)",
+                "ВХОЖДЕНИЙ", "ПРОВ/СИМВ", "КОЛЛ/ВЫЗ");
+        out.println("-".repeat(132));
+        for (Engine engine : engines) {
+            out.printf("%-40s %,10d %12.1f %10.1f %10.1f %10.1f %,12d %10.3f %10.2f\n",
+                    engine.name, engine.calls, engine.bytesPerSecond / 1e6,
+                    engine.p50Nanos / 1e3, engine.p99Nanos / 1e3, engine.p999Nanos / 1e3,
+                    engine.matches, engine.charChecksPerChar, engine.collisionsPerCall);
+        }
+    }
+
+    // Геттеры
+    public long getTimestampMillis() { return timestampMillis; }
+    public List<Engine> getEngines() { return engines; }
+
+    public static final class Engine {
+        private final String name;
+        private final long calls;
+        private final long matches;
+        private final long charsScanned;
+        private final double bytesPerSecond;
+        private final long p50Nanos;
+        private final long p99Nanos;
+        private final long p999Nanos;
+        private final long maxNanos;
+        private final double charChecksPerChar;
+        private final double collisionsPerCall;
+
+        Engine(EngineMetrics metrics) {
+            LatencyHistogram.Snapshot latency = metrics.latencySnapshot();
+            this.name = metrics.getName();
+            this.calls = metrics.getCalls();
+            this.matches = metrics.getMatches();
+            this.charsScanned = metrics.getCharsScanned();
+            this.bytesPerSecond = metrics.getBytesPerSecond();
+            this.p50Nanos = latency.percentile(0.50);
+            this.p99Nanos = latency.percentile(0.99);
+            this.p999Nanos = latency.percentile(0.999);
+            this.maxNanos = latency.getMax();
+            this.charChecksPerChar = metrics.getCharChecksPerChar();
+            this.collisionsPerCall = metrics.getCollisionsPerCall();
+        }
+
+        // Геттеры
+        public String getName() { return name; }
+        public long getCalls() { return calls; }
+        public long getMatches() { return matches; }
+        public long getCharsScanned() { return charsScanned; }
+        public double getBytesPerSecond() { return bytesPerSecond; }
+        public long getP50Nanos() { return p50Nanos; }
+        public long getP99Nanos() { return p99Nanos; }
+        public long getP999Nanos() { return p999Nanos; }
+        public long getMaxNanos() { return maxNanos; }
+        public double getCharChecksPerChar() { return charChecksPerChar; }
+        public double getCollisionsPerCall() { return collisionsPerCall; }
+    }
+}
@@ -0,0 +1,31 @@
+package com.search.benchmark.metrics;
+
+import java.io.PrintStream;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Периодически печатает снимок метрик (в stdout или файл журнала) из фонового потока
+public class SnapshotDumper implements AutoCloseable {
+    private final ScheduledExecutorService scheduler;
+
+    public SnapshotDumper(MetricsRegistry registry, PrintStream out, long period, TimeUnit unit) {
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-dumper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(() -> {
+            MetricsSnapshot snapshot = registry.snapshot();
+            synchronized (out) {
+                snapshot.print(out);
+                out.flush();
+            }
+        }, period, period, unit);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,59 @@
+package com.search.benchmark.report;
+
+// Сравнение пропускной способности одного алгоритма на одном корпусе в двух прогонах
+public class Comparison {
+
+    public enum Verdict {
+        REGRESSION("РЕГРЕССИЯ"),
+        IMPROVEMENT("УЛУЧШЕНИЕ"),
+        NO_CHANGE("без изменений"),
+        INSUFFICIENT_DATA("мало повторов");
+
+        private final String label;
+
+        Verdict(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() { return label; }
+    }
+
+    private final String algorithm;
+    private final String corpus;
+    private final int baselineRuns;
+    private final int candidateRuns;
+    private final double baselineMean;
+    private final double candidateMean;
+    // Относительное изменение и границы доверительного интервала, доли от базового среднего
+    private final double change;
+    private final double changeLow;
+    private final double changeHigh;
+    private final Verdict verdict;
+
+    Comparison(String algorithm, String corpus, int baselineRuns, int candidateRuns,
+               double baselineMean, double candidateMean, double change,
+               double changeLow, double changeHigh, Verdict verdict) {
+        this.algorithm = algorithm;
+        this.corpus = corpus;
+        this.baselineRuns = baselineRuns;
+        this.candidateRuns = candidateRuns;
+        this.baselineMean = baselineMean;
+        this.candidateMean = candidateMean;
+        this.change = change;
+        this.changeLow = changeLow;
+        this.changeHigh = changeHigh;
+        this.verdict = verdict;
+    }
+
+    // Геттеры
+    public String getAlgorithm() { return algorithm; }
+    public String getCorpus() { return corpus; }
+    public int getBaselineRuns() { return baselineRuns; }
+    public int getCandidateRuns() { return candidateRuns; }
+    public double getBaselineMean() { return baselineMean; }
+    public double getCandidateMean() { return candidateMean; }
+    public double getChange() { return change; }
+    public double getChangeLow() { return changeLow; }
+    public double getChangeHigh() { return changeHigh; }
+    public Verdict getVerdict() { return verdict; }
+}
@@ -0,0 +1,39 @@
+package com.search.benchmark.report;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartUtils;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.data.category.DefaultCategoryDataset;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Столбчатая диаграмма пропускной способности: база и новый прогон по каждому алгоритму
+public final class ComparisonChart {
+
+    private ComparisonChart() {
+    }
+
+    // Один PNG на корпус: <prefix>-<номер корпуса>.png
+    public static void save(ComparisonReport report, Path directory, String prefix) throws IOException {
+        Files.createDirectories(directory);
+        String[] corpora = report.getComparisons().stream()
+                .map(Comparison::getCorpus).distinct().toArray(String[]::new);
+        for (int i = 0; i < corpora.length; i++) {
+            DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+            for (Comparison c : report.getComparisons()) {
+                if (c.getCorpus().equals(corpora[i])) {
+                    dataset.addValue(c.getBaselineMean(), "База", c.getAlgorithm());
+                    dataset.addValue(c.getCandidateMean(), "Новый", c.getAlgorithm());
+                }
+            }
+            JFreeChart chart = ChartFactory.createBarChart(corpora[i], "Алгоритм", "МБ/с",
+                    dataset, PlotOrientation.HORIZONTAL, true, false, false);
+            int height = 120 + 40 * dataset.getColumnCount();
+            ChartUtils.saveChartAsPNG(directory.resolve(prefix + "-" + (i + 1) + ".png").toFile(),
+                    chart, 900, height);
+        }
+    }
+}
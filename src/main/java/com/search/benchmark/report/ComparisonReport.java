@@ -0,0 +1,63 @@
+package com.search.benchmark.report;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public class ComparisonReport {
+    private final EnvironmentInfo baseline;
+    private final EnvironmentInfo candidate;
+    private final double confidence;
+    private final List<Comparison> comparisons;
+
+    ComparisonReport(EnvironmentInfo baseline, EnvironmentInfo candidate, double confidence,
+                     List<Comparison> comparisons) {
+        this.baseline = baseline;
+        this.candidate = candidate;
+        this.confidence = confidence;
+        this.comparisons = List.copyOf(comparisons);
+    }
+
+    public boolean hasRegressions() {
+        return countOf(Comparison.Verdict.REGRESSION) > 0;
+    }
+
+    public long countOf(Comparison.Verdict verdict) {
+        return comparisons.stream().filter(c -> c.getVerdict() == verdict).count();
+    }
+
+    public void print(PrintStream out) {
+        out.printf("\n=== Сравнение прогонов (доверительный интервал %.0f%%) ===\n", confidence * 100);
+        // Отличия окружения объясняют изменения лучше любого кода
+        for (Map.Entry<String, String> entry : baseline.getProperties().entrySet()) {
+            String key = entry.getKey();
+            if (key.equals("timestamp")) {
+                continue;
+            }
+            String other = candidate.get(key);
+            if (!Objects.equals(entry.getValue(), other)) {
+                out.printf("Окружение отличается: %s: '%s' -> '%s'\n", key, entry.getValue(), other);
+            }
+        }
+
+        out.printf("%-40s %-36s %6s %12s %12s %9s %20s %s\n",
+                "АЛГОРИТМ", "КОРПУС", "ПОВТ.", "БАЗА МБ/с", "НОВЫЙ МБ/с", "ИЗМ.", "ИНТЕРВАЛ", "ИТОГ");
+        out.println("-".repeat(150));
+        for (Comparison c : comparisons) {
+            out.printf("%-40s %-36s %3d/%-2d %12.1f %12.1f %+8.1f%% [%+7.1f%%, %+7.1f%%] %s\n",
+                    c.getAlgorithm(), c.getCorpus(), c.getBaselineRuns(), c.getCandidateRuns(),
+                    c.getBaselineMean(), c.getCandidateMean(), c.getChange() * 100,
+                    c.getChangeLow() * 100, c.getChangeHigh() * 100, c.getVerdict().getLabel());
+        }
+        out.printf("\nРегрессий: %d, улучшений: %d, без изменений: %d, мало повторов: %d\n",
+                countOf(Comparison.Verdict.REGRESSION), countOf(Comparison.Verdict.IMPROVEMENT),
+                countOf(Comparison.Verdict.NO_CHANGE), countOf(Comparison.Verdict.INSUFFICIENT_DATA));
+    }
+
+    // Геттеры
+    public EnvironmentInfo getBaseline() { return baseline; }
+    public EnvironmentInfo getCandidate() { return candidate; }
+    public double getConfidence() { return confidence; }
+    public List<Comparison> getComparisons() { return comparisons; }
+}
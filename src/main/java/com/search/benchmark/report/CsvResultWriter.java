@@ -0,0 +1,43 @@
+package com.search.benchmark.report;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+// CSV с окружением в комментариях "# ключ=значение" перед заголовком
+public class CsvResultWriter implements ResultWriter {
+    static final char COMMENT_MARKER = '#';
+
+    private final CSVPrinter printer;
+
+    public CsvResultWriter(Path path, EnvironmentInfo environment) throws IOException {
+        String[] comments = new String[environment.getProperties().size()];
+        int i = 0;
+        for (Map.Entry<String, String> entry : environment.getProperties().entrySet()) {
+            comments[i++] = entry.getKey() + "=" + entry.getValue();
+        }
+        CSVFormat format = CSVFormat.DEFAULT.builder()
+                .setCommentMarker(COMMENT_MARKER)
+                .setHeaderComments((Object[]) comments)
+                .setHeader(ResultRow.COLUMNS)
+                .build();
+        this.printer = new CSVPrinter(Files.newBufferedWriter(path, StandardCharsets.UTF_8), format);
+        printer.flush();
+    }
+
+    @Override
+    public void write(ResultRow row) throws IOException {
+        printer.printRecord(row.values());
+        printer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        printer.close();
+    }
+}
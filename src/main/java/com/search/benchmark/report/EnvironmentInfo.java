@@ -0,0 +1,61 @@
+package com.search.benchmark.report;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Окружение, в котором получены результаты: без него сравнение двух прогонов бессмысленно
+public class EnvironmentInfo {
+    private final Map<String, String> properties;
+
+    public EnvironmentInfo(Map<String, String> properties) {
+        this.properties = Collections.unmodifiableMap(new LinkedHashMap<>(properties));
+    }
+
+    public static EnvironmentInfo current() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("timestamp", Instant.now().toString());
+        properties.put("jdk.version", System.getProperty("java.version"));
+        properties.put("jdk.vendor", System.getProperty("java.vendor"));
+        properties.put("jvm.name", System.getProperty("java.vm.name"));
+        properties.put("jvm.args", String.join(" ", ManagementFactory.getRuntimeMXBean().getInputArguments()));
+        properties.put("os", System.getProperty("os.name") + " " + System.getProperty("os.version"));
+        properties.put("cpu.arch", System.getProperty("os.arch"));
+        properties.put("cpu.model", cpuModel());
+        properties.put("cpu.cores", String.valueOf(Runtime.getRuntime().availableProcessors()));
+        properties.put("heap.max", String.valueOf(Runtime.getRuntime().maxMemory()));
+        return new EnvironmentInfo(properties);
+    }
+
+    // Модель процессора есть только в /proc/cpuinfo (Linux), иначе - неизвестна
+    private static String cpuModel() {
+        Path cpuinfo = Paths.get("/proc/cpuinfo");
+        if (Files.isReadable(cpuinfo)) {
+            try {
+                List<String> lines = Files.readAllLines(cpuinfo);
+                for (String line : lines) {
+                    if (line.startsWith("model name")) {
+                        return line.substring(line.indexOf(':') + 1).trim();
+                    }
+                }
+            } catch (IOException e) {
+                // Модель процессора необязательна
+            }
+        }
+        return "unknown";
+    }
+
+    public String get(String key) {
+        return properties.getOrDefault(key, "");
+    }
+
+    // Геттеры
+    public Map<String, String> getProperties() { return properties; }
+}
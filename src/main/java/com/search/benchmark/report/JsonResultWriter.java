@@ -0,0 +1,72 @@
+package com.search.benchmark.report;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+// JSON Lines: первая строка - окружение, далее по объекту на запуск
+public class JsonResultWriter implements ResultWriter {
+    private final BufferedWriter writer;
+
+    public JsonResultWriter(Path path, EnvironmentInfo environment) throws IOException {
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        StringBuilder line = new StringBuilder("{\"type\":\"environment\"");
+        for (Map.Entry<String, String> entry : environment.getProperties().entrySet()) {
+            line.append(',');
+            appendQuoted(line, entry.getKey());
+            line.append(':');
+            appendQuoted(line, entry.getValue());
+        }
+        writer.write(line.append('}').toString());
+        writer.newLine();
+        writer.flush();
+    }
+
+    @Override
+    public void write(ResultRow row) throws IOException {
+        StringBuilder line = new StringBuilder("{\"type\":\"run\"");
+        Object[] values = row.values();
+        for (int i = 0; i < values.length; i++) {
+            line.append(',');
+            appendQuoted(line, ResultRow.COLUMNS[i]);
+            line.append(':');
+            if (values[i] instanceof String) {
+                appendQuoted(line, (String) values[i]);
+            } else {
+                line.append(values[i]);
+            }
+        }
+        writer.write(line.append('}').toString());
+        writer.newLine();
+        writer.flush();
+    }
+
+    static void appendQuoted(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': out.append("\\\""); break;
+                case '\\': out.append("\\\\"); break;
+                case '\n': out.append("\\n"); break;
+                case '\r': out.append("\\r"); break;
+                case '\t': out.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        out.append('"');
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
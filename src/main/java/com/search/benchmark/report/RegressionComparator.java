@@ -0,0 +1,138 @@
+package com.search.benchmark.report;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Сравнение двух наборов результатов. Для каждой пары (алгоритм, корпус)
+ * строится доверительный интервал разности средних пропускных способностей
+ * по повторам (t-интервал Уэлча, дисперсии не предполагаются равными).
+ * Регрессия - интервал целиком ниже нуля и падение не меньше minChange:
+ * шум отсекается интервалом, незначимые доли процента - порогом.
+ */
+public class RegressionComparator {
+    private final double confidence;
+    private final double minChange;
+
+    public RegressionComparator() {
+        this(0.95, 0.03);
+    }
+
+    public RegressionComparator(double confidence, double minChange) {
+        if (confidence <= 0 || confidence >= 1) {
+            throw new IllegalArgumentException("Уровень доверия должен быть в (0, 1): " + confidence);
+        }
+        this.confidence = confidence;
+        this.minChange = minChange;
+    }
+
+    public ComparisonReport compare(ResultSet baseline, ResultSet candidate) {
+        Map<String, List<ResultRow>> before = group(baseline.getRows());
+        Map<String, List<ResultRow>> after = group(candidate.getRows());
+        List<Comparison> comparisons = new ArrayList<>();
+        for (Map.Entry<String, List<ResultRow>> entry : before.entrySet()) {
+            List<ResultRow> candidateRows = after.get(entry.getKey());
+            if (candidateRows != null) {
+                comparisons.add(compare(entry.getValue(), candidateRows));
+            }
+        }
+        return new ComparisonReport(baseline.getEnvironment(), candidate.getEnvironment(),
+                confidence, comparisons);
+    }
+
+    private Comparison compare(List<ResultRow> baseline, List<ResultRow> candidate) {
+        ResultRow first = baseline.get(0);
+        double[] a = throughput(baseline);
+        double[] b = throughput(candidate);
+        double meanA = mean(a);
+        double meanB = mean(b);
+        double change = (meanB - meanA) / meanA;
+        if (a.length < 2 || b.length < 2) {
+            return new Comparison(first.getAlgorithm(), first.getCorpus(), a.length, b.length,
+                    meanA, meanB, change, Double.NaN, Double.NaN, Comparison.Verdict.INSUFFICIENT_DATA);
+        }
+
+        double varA = variance(a, meanA) / a.length;
+        double varB = variance(b, meanB) / b.length;
+        double standardError = Math.sqrt(varA + varB);
+        double halfWidth = 0;
+        if (standardError > 0) {
+            // Степени свободы Уэлча-Саттертуэйта
+            double df = (varA + varB) * (varA + varB)
+                    / (varA * varA / (a.length - 1) + varB * varB / (b.length - 1));
+            halfWidth = StudentT.quantile(1 - (1 - confidence) / 2, df) * standardError;
+        }
+        double low = (meanB - meanA - halfWidth) / meanA;
+        double high = (meanB - meanA + halfWidth) / meanA;
+
+        Comparison.Verdict verdict = Comparison.Verdict.NO_CHANGE;
+        if (high < 0 && -change >= minChange) {
+            verdict = Comparison.Verdict.REGRESSION;
+        } else if (low > 0 && change >= minChange) {
+            verdict = Comparison.Verdict.IMPROVEMENT;
+        }
+        return new Comparison(first.getAlgorithm(), first.getCorpus(), a.length, b.length,
+                meanA, meanB, change, low, high, verdict);
+    }
+
+    private static Map<String, List<ResultRow>> group(List<ResultRow> rows) {
+        Map<String, List<ResultRow>> groups = new LinkedHashMap<>();
+        for (ResultRow row : rows) {
+            groups.computeIfAbsent(row.getAlgorithm() + '\u0000' + row.getCorpus(),
+                    key -> new ArrayList<>()).add(row);
+        }
+        return groups;
+    }
+
+    private static double[] throughput(List<ResultRow> rows) {
+        return rows.stream().mapToDouble(ResultRow::getMegabytesPerSecond).toArray();
+    }
+
+    private static double mean(double[] values) {
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum / values.length;
+    }
+
+    // Несмещенная выборочная дисперсия
+    private static double variance(double[] values, double mean) {
+        double sum = 0;
+        for (double value : values) {
+            sum += (value - mean) * (value - mean);
+        }
+        return sum / (values.length - 1);
+    }
+
+    // Геттеры
+    public double getConfidence() { return confidence; }
+    public double getMinChange() { return minChange; }
+
+    // Использование: RegressionComparator база.csv новый.csv [--chart каталог]
+    // Код выхода 1 при найденных регрессиях - для проверки в CI
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Использование: RegressionComparator <база> <новый> [--chart <каталог>]");
+            System.exit(2);
+        }
+        ResultSet baseline = ResultSet.load(Paths.get(args[0]));
+        ResultSet candidate = ResultSet.load(Paths.get(args[1]));
+        ComparisonReport report = new RegressionComparator().compare(baseline, candidate);
+        report.print(System.out);
+
+        if (args.length >= 4 && args[2].equals("--chart")) {
+            Path directory = Paths.get(args[3]);
+            ComparisonChart.save(report, directory, "comparison");
+            System.out.println("Графики сохранены в " + directory.toAbsolutePath());
+        }
+        if (report.hasRegressions()) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.search.benchmark.report;
+
+import com.search.benchmark.stats.AlgorithmStats;
+
+// Один запуск одного алгоритма на одном корпусе - строка экспорта
+public class ResultRow {
+    public static final String[] COLUMNS = {
+            "corpus", "algorithm", "repetition", "text_length", "pattern_length",
+            "time_nanos", "char_checks", "collisions", "found"
+    };
+
+    private final String corpus;
+    private final String algorithm;
+    private final int repetition;
+    private final int textLength;
+    private final int patternLength;
+    private final long timeNanos;
+    private final long charChecks;
+    private final long collisions;
+    private final int found;
+
+    public ResultRow(String corpus, String algorithm, int repetition, int textLength, int patternLength,
+                     long timeNanos, long charChecks, long collisions, int found) {
+        this.corpus = corpus;
+        this.algorithm = algorithm;
+        this.repetition = repetition;
+        this.textLength = textLength;
+        this.patternLength = patternLength;
+        this.timeNanos = timeNanos;
+        this.charChecks = charChecks;
+        this.collisions = collisions;
+        this.found = found;
+    }
+
+    public static ResultRow of(String corpus, int repetition, int textLength, int patternLength,
+                               AlgorithmStats stats) {
+        return new ResultRow(corpus, stats.getAlgorithmName(), repetition, textLength, patternLength,
+                stats.getTimeNanos(), stats.getCharChecks(), stats.getCollisions(), stats.getFoundCount());
+    }
+
+    // Пропускная способность в МБ/с (символ Java - 2 байта)
+    public double getMegabytesPerSecond() {
+        return timeNanos == 0 ? 0 : textLength * (double) Character.BYTES * 1e3 / timeNanos;
+    }
+
+    Object[] values() {
+        return new Object[]{corpus, algorithm, repetition, textLength, patternLength,
+                timeNanos, charChecks, collisions, found};
+    }
+
+    // Геттеры
+    public String getCorpus() { return corpus; }
+    public String getAlgorithm() { return algorithm; }
+    public int getRepetition() { return repetition; }
+    public int getTextLength() { return textLength; }
+    public int getPatternLength() { return patternLength; }
+    public long getTimeNanos() { return timeNanos; }
+    public long getCharChecks() { return charChecks; }
+    public long getCollisions() { return collisions; }
+    public int getFound() { return found; }
+}
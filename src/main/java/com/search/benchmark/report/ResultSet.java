@@ -0,0 +1,183 @@
+package com.search.benchmark.report;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Загруженный набор результатов (CSV или JSON Lines) вместе с окружением
+public class ResultSet {
+    private final EnvironmentInfo environment;
+    private final List<ResultRow> rows;
+
+    public ResultSet(EnvironmentInfo environment, List<ResultRow> rows) {
+        this.environment = environment;
+        this.rows = Collections.unmodifiableList(new ArrayList<>(rows));
+    }
+
+    public static ResultSet load(Path path) throws IOException {
+        String name = path.getFileName().toString().toLowerCase();
+        return name.endsWith(".json") || name.endsWith(".jsonl") ? loadJson(path) : loadCsv(path);
+    }
+
+    private static ResultSet loadCsv(Path path) throws IOException {
+        CSVFormat format = CSVFormat.DEFAULT.builder()
+                .setCommentMarker(CsvResultWriter.COMMENT_MARKER)
+                .setHeader()
+                .setSkipHeaderRecord(true)
+                .build();
+        // Окружение - в начальных строках-комментариях "# ключ=значение"
+        Map<String, String> properties = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null && line.startsWith(String.valueOf(CsvResultWriter.COMMENT_MARKER))) {
+                int eq = line.indexOf('=');
+                if (eq > 0) {
+                    properties.put(line.substring(1, eq).trim(), line.substring(eq + 1));
+                }
+            }
+        }
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+             CSVParser parser = format.parse(reader)) {
+            List<ResultRow> rows = new ArrayList<>();
+            for (CSVRecord record : parser) {
+                rows.add(row(record.toMap()));
+            }
+            return new ResultSet(new EnvironmentInfo(properties), rows);
+        }
+    }
+
+    private static ResultSet loadJson(Path path) throws IOException {
+        Map<String, String> environment = new LinkedHashMap<>();
+        List<ResultRow> rows = new ArrayList<>();
+        int lineNumber = 0;
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            Map<String, String> fields = parseFlatObject(line, lineNumber);
+            String type = fields.remove("type");
+            if ("environment".equals(type)) {
+                environment.putAll(fields);
+            } else {
+                rows.add(row(fields));
+            }
+        }
+        return new ResultSet(new EnvironmentInfo(environment), rows);
+    }
+
+    private static ResultRow row(Map<String, String> fields) {
+        return new ResultRow(
+                fields.get("corpus"),
+                fields.get("algorithm"),
+                Integer.parseInt(fields.get("repetition")),
+                Integer.parseInt(fields.get("text_length")),
+                Integer.parseInt(fields.get("pattern_length")),
+                Long.parseLong(fields.get("time_nanos")),
+                Long.parseLong(fields.get("char_checks")),
+                Long.parseLong(fields.get("collisions")),
+                Integer.parseInt(fields.get("found")));
+    }
+
+    // Разбор плоского объекта {"ключ":строка|число,...}, который пишет JsonResultWriter
+    static Map<String, String> parseFlatObject(String line, int lineNumber) throws IOException {
+        Map<String, String> fields = new LinkedHashMap<>();
+        int[] pos = {skipSpaces(line, 0)};
+        expect(line, pos, '{', lineNumber);
+        if (peek(line, pos) == '}') {
+            return fields;
+        }
+        while (true) {
+            String key = readString(line, pos, lineNumber);
+            expect(line, pos, ':', lineNumber);
+            String value;
+            if (peek(line, pos) == '"') {
+                value = readString(line, pos, lineNumber);
+            } else {
+                int start = pos[0];
+                while (pos[0] < line.length() && ",} ".indexOf(line.charAt(pos[0])) < 0) {
+                    pos[0]++;
+                }
+                value = line.substring(start, pos[0]);
+            }
+            fields.put(key, value);
+            pos[0] = skipSpaces(line, pos[0]);
+            if (peek(line, pos) == ',') {
+                pos[0]++;
+                continue;
+            }
+            expect(line, pos, '}', lineNumber);
+            return fields;
+        }
+    }
+
+    private static String readString(String line, int[] pos, int lineNumber) throws IOException {
+        expect(line, pos, '"', lineNumber);
+        StringBuilder out = new StringBuilder();
+        while (pos[0] < line.length()) {
+            char c = line.charAt(pos[0]++);
+            if (c == '"') {
+                return out.toString();
+            }
+            if (c != '\\') {
+                out.append(c);
+                continue;
+            }
+            if (pos[0] >= line.length()) {
+                break;
+            }
+            char escaped = line.charAt(pos[0]++);
+            switch (escaped) {
+                case 'n': out.append('\n'); break;
+                case 'r': out.append('\r'); break;
+                case 't': out.append('\t'); break;
+                case 'b': out.append('\b'); break;
+                case 'f': out.append('\f'); break;
+                case 'u':
+                    if (pos[0] + 4 > line.length()) {
+                        throw new IOException("Строка " + lineNumber + ": неполная escape-последовательность");
+                    }
+                    out.append((char) Integer.parseInt(line.substring(pos[0], pos[0] + 4), 16));
+                    pos[0] += 4;
+                    break;
+                default: out.append(escaped);
+            }
+        }
+        throw new IOException("Строка " + lineNumber + ": незакрытая строка");
+    }
+
+    private static void expect(String line, int[] pos, char expected, int lineNumber) throws IOException {
+        pos[0] = skipSpaces(line, pos[0]);
+        if (pos[0] >= line.length() || line.charAt(pos[0]) != expected) {
+            throw new IOException("Строка " + lineNumber + ": ожидался '" + expected + "' в позиции " + pos[0]);
+        }
+        pos[0]++;
+    }
+
+    private static char peek(String line, int[] pos) {
+        pos[0] = skipSpaces(line, pos[0]);
+        return pos[0] < line.length() ? line.charAt(pos[0]) : 0;
+    }
+
+    private static int skipSpaces(String line, int pos) {
+        while (pos < line.length() && Character.isWhitespace(line.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    // Геттеры
+    public EnvironmentInfo getEnvironment() { return environment; }
+    public List<ResultRow> getRows() { return rows; }
+}
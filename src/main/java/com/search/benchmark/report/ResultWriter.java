@@ -0,0 +1,20 @@
+package com.search.benchmark.report;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+
+// Потоковая запись результатов: каждая строка сбрасывается сразу, прерванный прогон не теряется
+public interface ResultWriter extends Closeable {
+
+    void write(ResultRow row) throws IOException;
+
+    // Формат по расширению: .json / .jsonl - JSON Lines, иначе CSV
+    static ResultWriter open(Path path, EnvironmentInfo environment) throws IOException {
+        String name = path.getFileName().toString().toLowerCase();
+        if (name.endsWith(".json") || name.endsWith(".jsonl")) {
+            return new JsonResultWriter(path, environment);
+        }
+        return new CsvResultWriter(path, environment);
+    }
+}
@@ -0,0 +1,94 @@
+package com.search.benchmark.report;
+
+// Квантили распределения Стьюдента для доверительных интервалов (без внешних библиотек)
+final class StudentT {
+
+    private StudentT() {
+    }
+
+    // Квантиль уровня p (0.5 < p < 1) для df степеней свободы; df может быть дробным (Уэлч)
+    static double quantile(double p, double df) {
+        double low = 0;
+        double high = 1;
+        while (cdf(high, df) < p) {
+            high *= 2;
+        }
+        for (int i = 0; i < 100; i++) {
+            double mid = (low + high) / 2;
+            if (cdf(mid, df) < p) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        return (low + high) / 2;
+    }
+
+    // P(T <= t) для t >= 0 через регуляризованную неполную бета-функцию
+    static double cdf(double t, double df) {
+        double x = df / (df + t * t);
+        return 1 - 0.5 * incompleteBeta(df / 2, 0.5, x);
+    }
+
+    private static double incompleteBeta(double a, double b, double x) {
+        if (x <= 0) {
+            return 0;
+        }
+        if (x >= 1) {
+            return 1;
+        }
+        double front = Math.exp(logGamma(a + b) - logGamma(a) - logGamma(b)
+                + a * Math.log(x) + b * Math.log(1 - x));
+        // Цепная дробь сходится быстро при x < (a + 1) / (a + b + 2), иначе симметрия
+        if (x < (a + 1) / (a + b + 2)) {
+            return front * continuedFraction(a, b, x) / a;
+        }
+        return 1 - front * continuedFraction(b, a, 1 - x) / b;
+    }
+
+    // Модифицированный метод Ленца
+    private static double continuedFraction(double a, double b, double x) {
+        final double tiny = 1e-300;
+        double c = 1;
+        double d = 1 - (a + b) * x / (a + 1);
+        d = 1 / (Math.abs(d) < tiny ? tiny : d);
+        double result = d;
+        for (int m = 1; m <= 300; m++) {
+            int m2 = 2 * m;
+            double numerator = m * (b - m) * x / ((a + m2 - 1) * (a + m2));
+            d = 1 + numerator * d;
+            d = 1 / (Math.abs(d) < tiny ? tiny : d);
+            c = 1 + numerator / c;
+            c = Math.abs(c) < tiny ? tiny : c;
+            result *= d * c;
+
+            numerator = -(a + m) * (a + b + m) * x / ((a + m2) * (a + m2 + 1));
+            d = 1 + numerator * d;
+            d = 1 / (Math.abs(d) < tiny ? tiny : d);
+            c = 1 + numerator / c;
+            c = Math.abs(c) < tiny ? tiny : c;
+            double delta = d * c;
+            result *= delta;
+            if (Math.abs(delta - 1) < 1e-14) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    // Приближение Ланцоша
+    private static double logGamma(double x) {
+        double[] coefficients = {
+                76.18009172947146, -86.50532032941677, 24.01409824083091,
+                -1.231739572450155, 0.1208650973866179e-2, -0.5395239384953e-5
+        };
+        double y = x;
+        double tmp = x + 5.5;
+        tmp -= (x + 0.5) * Math.log(tmp);
+        double series = 1.000000000190015;
+        for (double coefficient : coefficients) {
+            series += coefficient / ++y;
+        }
+        return -tmp + Math.log(2.5066282746310005 * series / x);
+    }
+}
@@ -1,6 +1,7 @@
 package com.search.benchmark.stats;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
 
 public class AlgorithmStats {
@@ -8,11 +9,13 @@ public class AlgorithmStats {
     private long timeNanos;
     private long charChecks;
     private long collisions;
-    private final List<Integer> positions;
+    // Позиции храним в int[], чтобы не упаковывать каждое вхождение
+    private int[] positions;
+    private int foundCount;
 
     public AlgorithmStats(String algorithmName) {
         this.algorithmName = algorithmName;
-        this.positions = new ArrayList<>();
+        this.positions = new int[16];
     }
 
     public void incrementCharChecks() {
@@ -23,8 +26,20 @@ public class AlgorithmStats {
         this.collisions++;
     }
 
+    // Для объединения статистики нескольких запусков (например, по частям текста)
+    public void addCharChecks(long charChecks) {
+        this.charChecks += charChecks;
+    }
+
+    public void addCollisions(long collisions) {
+        this.collisions += collisions;
+    }
+
     public void addPosition(int position) {
-        this.positions.add(position);
+        if (foundCount == positions.length) {
+            positions = Arrays.copyOf(positions, foundCount * 2);
+        }
+        positions[foundCount++] = position;
     }
 
     public void setTimeNanos(long timeNanos) {
@@ -37,8 +52,26 @@ public class AlgorithmStats {
     public double getTimeMillis() { return timeNanos / 1_000_000.0; }
     public long getCharChecks() { return charChecks; }
     public long getCollisions() { return collisions; }
-    public List<Integer> getPositions() { return positions; }
-    public int getFoundCount() { return positions.size(); }
+    public int getFoundCount() { return foundCount; }
+    public int[] getPositionArray() { return Arrays.copyOf(positions, foundCount); }
+
+    // Представление позиций в виде списка (для совместимости), без копирования
+    public List<Integer> getPositions() {
+        return new AbstractList<Integer>() {
+            @Override
+            public Integer get(int index) {
+                if (index >= foundCount) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + foundCount);
+                }
+                return positions[index];
+            }
+
+            @Override
+            public int size() {
+                return foundCount;
+            }
+        };
+    }
 
     public void printStats() {
         System.out.printf("\n=== %s ===\n", algorithmName);
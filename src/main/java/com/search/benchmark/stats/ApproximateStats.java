@@ -0,0 +1,39 @@
+package com.search.benchmark.stats;
+
+import java.util.Arrays;
+
+// Статистика приближенного поиска: к каждой позиции добавляется найденное расстояние
+public class ApproximateStats extends AlgorithmStats {
+    private final int maxDistance;
+    private int[] distances;
+    private int matchCount;
+
+    public ApproximateStats(String algorithmName, int maxDistance) {
+        super(algorithmName);
+        this.maxDistance = maxDistance;
+        this.distances = new int[16];
+    }
+
+    public void addMatch(int position, int distance) {
+        if (matchCount == distances.length) {
+            distances = Arrays.copyOf(distances, matchCount * 2);
+        }
+        distances[matchCount++] = distance;
+        addPosition(position);
+    }
+
+    // Число вхождений с расстоянием ровно distance
+    public int getFoundCount(int distance) {
+        int count = 0;
+        for (int i = 0; i < matchCount; i++) {
+            if (distances[i] == distance) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // Геттеры
+    public int getMaxDistance() { return maxDistance; }
+    public int[] getDistanceArray() { return Arrays.copyOf(distances, matchCount); }
+}
@@ -0,0 +1,17 @@
+package com.search.benchmark.stats;
+
+// Статистика одного задания пакета: номер задания во входном списке и задержка от постановки в очередь
+public class JobStats extends AlgorithmStats {
+    private final int jobIndex;
+    private final long latencyNanos;
+
+    public JobStats(String algorithmName, int jobIndex, long latencyNanos) {
+        super(algorithmName);
+        this.jobIndex = jobIndex;
+        this.latencyNanos = latencyNanos;
+    }
+
+    // Геттеры
+    public int getJobIndex() { return jobIndex; }
+    public long getLatencyNanos() { return latencyNanos; }
+}
@@ -0,0 +1,38 @@
+package com.search.benchmark.stats;
+
+import java.util.Arrays;
+
+// Статистика поиска набора паттернов: к каждой позиции добавляется номер паттерна
+public class MultiPatternStats extends AlgorithmStats {
+    private final int patternCount;
+    private int[] patternIds;
+    private int matchCount;
+
+    public MultiPatternStats(String algorithmName, int patternCount) {
+        super(algorithmName);
+        this.patternCount = patternCount;
+        this.patternIds = new int[16];
+    }
+
+    public void addMatch(int patternId, int position) {
+        if (matchCount == patternIds.length) {
+            patternIds = Arrays.copyOf(patternIds, matchCount * 2);
+        }
+        patternIds[matchCount++] = patternId;
+        addPosition(position);
+    }
+
+    public int getFoundCount(int patternId) {
+        int count = 0;
+        for (int i = 0; i < matchCount; i++) {
+            if (patternIds[i] == patternId) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // Геттеры
+    public int getPatternCount() { return patternCount; }
+    public int[] getPatternIdArray() { return Arrays.copyOf(patternIds, matchCount); }
+}
@@ -0,0 +1,79 @@
+package com.search.benchmark.streaming;
+
+import com.search.benchmark.algorithms.BoyerMooreSearch;
+import com.search.benchmark.algorithms.ShiftTable;
+
+import java.util.Arrays;
+
+// Между порциями переносятся последние m-1 символов: вхождение, пересекающее
+// границу, целиком окажется в окне (хвост + новая порция).
+// Таблица плохого символа и сдвиги хорошего суффикса - те же, что у BoyerMooreSearch
+public class BoyerMooreStreamMatcher implements StreamMatcher {
+    private final String pattern;
+    private final ShiftTable.Kind tableKind;
+    private final ShiftTable badChar;
+    private final int[] goodSuffix;
+    private final StreamMatchSink sink;
+    private char[] window;
+    private int carried;
+    private long position;
+
+    public BoyerMooreStreamMatcher(String pattern, StreamMatchSink sink) {
+        this(pattern, ShiftTable.Kind.FULL, sink);
+    }
+
+    public BoyerMooreStreamMatcher(String pattern, ShiftTable.Kind tableKind, StreamMatchSink sink) {
+        if (pattern.isEmpty()) {
+            throw new IllegalArgumentException("Паттерн не должен быть пустым");
+        }
+        this.pattern = pattern;
+        this.tableKind = tableKind;
+        this.sink = sink;
+        this.badChar = ShiftTable.build(pattern, pattern.length(), tableKind);
+        this.goodSuffix = BoyerMooreSearch.computeGoodSuffixShifts(pattern);
+        this.window = new char[pattern.length()];
+    }
+
+    @Override
+    public void feed(char[] buffer, int offset, int length) {
+        int m = pattern.length();
+        int n = carried + length;
+        if (window.length < n) {
+            window = Arrays.copyOf(window, n);
+        }
+        System.arraycopy(buffer, offset, window, carried, length);
+
+        // Глобальная позиция window[0]
+        long windowStart = position - carried;
+
+        int s = 0;
+        while (s <= n - m) {
+            int j = m - 1;
+            while (j >= 0 && pattern.charAt(j) == window[s + j]) {
+                j--;
+            }
+
+            if (j < 0) {
+                sink.onMatch(windowStart + s);
+                s += goodSuffix[0];
+            } else {
+                s += Math.max(goodSuffix[j + 1], j - badChar.lastIndex(window[s + j]));
+            }
+        }
+
+        int keep = Math.min(m - 1, n);
+        System.arraycopy(window, n - keep, window, 0, keep);
+        carried = keep;
+        position += length;
+    }
+
+    @Override
+    public long getPosition() {
+        return position;
+    }
+
+    @Override
+    public String getName() {
+        return "Бойер-Мур" + tableKind.getSuffix() + " (поток)";
+    }
+}
@@ -0,0 +1,53 @@
+package com.search.benchmark.streaming;
+
+import com.search.benchmark.algorithms.KMPSearch;
+
+// Между порциями переносится только индекс j в паттерне
+public class KMPStreamMatcher implements StreamMatcher {
+    private final String pattern;
+    private final int[] lps;
+    private final StreamMatchSink sink;
+    private long position;
+    private int j;
+
+    public KMPStreamMatcher(String pattern, StreamMatchSink sink) {
+        if (pattern.isEmpty()) {
+            throw new IllegalArgumentException("Паттерн не должен быть пустым");
+        }
+        this.pattern = pattern;
+        this.lps = KMPSearch.computeLPSArray(pattern);
+        this.sink = sink;
+    }
+
+    @Override
+    public void feed(char[] buffer, int offset, int length) {
+        int m = pattern.length();
+        int end = offset + length;
+
+        for (int i = offset; i < end; i++) {
+            char c = buffer[i];
+            while (j > 0 && c != pattern.charAt(j)) {
+                j = lps[j - 1];
+            }
+            if (c == pattern.charAt(j)) {
+                j++;
+            }
+            if (j == m) {
+                sink.onMatch(position + (i - offset) - m + 1);
+                j = lps[j - 1];
+            }
+        }
+
+        position += length;
+    }
+
+    @Override
+    public long getPosition() {
+        return position;
+    }
+
+    @Override
+    public String getName() {
+        return "Кнут-Моррис-Пратт (поток)";
+    }
+}
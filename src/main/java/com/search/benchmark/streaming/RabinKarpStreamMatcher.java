@@ -0,0 +1,85 @@
+package com.search.benchmark.streaming;
+
+import com.search.benchmark.hash.HashFunction;
+import com.search.benchmark.hash.RollingHasher;
+
+// Между порциями переносятся скользящий хеш и последние m символов (кольцевой буфер),
+// которые нужны для update и для проверки кандидатов
+public class RabinKarpStreamMatcher implements StreamMatcher {
+    private final String pattern;
+    private final HashFunction hashFunction;
+    private final RollingHasher roller;
+    private final long patternHash;
+    private final StreamMatchSink sink;
+    private final char[] window;
+    private final String name;
+    private long position;
+    private long textHash;
+
+    public RabinKarpStreamMatcher(String pattern, HashFunction hashFunction, StreamMatchSink sink) {
+        if (pattern.isEmpty()) {
+            throw new IllegalArgumentException("Паттерн не должен быть пустым");
+        }
+        this.roller = hashFunction.rolling(pattern.length());
+        if (roller == null) {
+            throw new IllegalArgumentException(hashFunction.getName() + " не поддерживает rolling update");
+        }
+        this.pattern = pattern;
+        this.hashFunction = hashFunction;
+        this.patternHash = hashFunction.hash(pattern);
+        this.sink = sink;
+        this.window = new char[pattern.length()];
+        this.name = "Рабин-Карп (" + hashFunction.getName() + ", поток)";
+    }
+
+    @Override
+    public void feed(char[] buffer, int offset, int length) {
+        int m = pattern.length();
+        int end = offset + length;
+
+        for (int i = offset; i < end; i++) {
+            char c = buffer[i];
+            int slot = (int) (position % m);
+
+            if (position < m) {
+                window[slot] = c;
+                if (position == m - 1) {
+                    textHash = hashFunction.hash(new String(window));
+                }
+            } else {
+                textHash = roller.roll(textHash, window[slot], c);
+                window[slot] = c;
+            }
+            position++;
+
+            // Окно [position - m, position) начинается в слоте position % m
+            if (position >= m && textHash == patternHash && windowMatches((int) (position % m))) {
+                sink.onMatch(position - m);
+            }
+        }
+    }
+
+    private boolean windowMatches(int start) {
+        int m = pattern.length();
+        for (int j = 0; j < m; j++) {
+            int slot = start + j;
+            if (slot >= m) {
+                slot -= m;
+            }
+            if (window[slot] != pattern.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public long getPosition() {
+        return position;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+}
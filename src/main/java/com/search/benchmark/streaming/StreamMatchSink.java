@@ -0,0 +1,7 @@
+package com.search.benchmark.streaming;
+
+// Получатель вхождений в потоке; позиция - глобальное смещение в символах от начала потока
+@FunctionalInterface
+public interface StreamMatchSink {
+    void onMatch(long position);
+}
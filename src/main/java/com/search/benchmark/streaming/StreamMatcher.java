@@ -0,0 +1,12 @@
+package com.search.benchmark.streaming;
+
+// Поиск по потоку порциями: состояние автомата переносится через границы буферов,
+// память ограничена размером буфера и длиной паттерна
+public interface StreamMatcher {
+    void feed(char[] buffer, int offset, int length);
+
+    // Сколько символов уже обработано
+    long getPosition();
+
+    String getName();
+}
@@ -0,0 +1,36 @@
+package com.search.benchmark.streaming;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+
+// Прогоняет Reader/InputStream через StreamMatcher буферами фиксированного размера
+public class StreamingSearch {
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private StreamingSearch() {
+    }
+
+    public static long search(Reader reader, StreamMatcher matcher) throws IOException {
+        return search(reader, matcher, DEFAULT_BUFFER_SIZE);
+    }
+
+    // Возвращает количество прочитанных символов
+    public static long search(Reader reader, StreamMatcher matcher, int bufferSize) throws IOException {
+        char[] buffer = new char[bufferSize];
+        int read;
+        while ((read = reader.read(buffer, 0, bufferSize)) != -1) {
+            if (read > 0) {
+                matcher.feed(buffer, 0, read);
+            }
+        }
+        return matcher.getPosition();
+    }
+
+    public static long search(InputStream input, Charset charset, StreamMatcher matcher, int bufferSize)
+            throws IOException {
+        return search(new InputStreamReader(input, charset), matcher, bufferSize);
+    }
+}
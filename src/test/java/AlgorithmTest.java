@@ -1,7 +1,36 @@
+import com.search.benchmark.Main;
 import com.search.benchmark.algorithms.*;
+import com.search.benchmark.auto.*;
+import com.search.benchmark.batch.*;
+import com.search.benchmark.bytes.*;
+import com.search.benchmark.editor.*;
+import com.search.benchmark.generators.*;
+import com.search.benchmark.index.*;
+import com.search.benchmark.metrics.*;
+import com.search.benchmark.report.*;
+import com.search.benchmark.streaming.*;
 import com.search.benchmark.hash.*;
+import com.search.benchmark.hash.analysis.*;
 import com.search.benchmark.stats.AlgorithmStats;
+import com.search.benchmark.stats.ApproximateStats;
+import com.search.benchmark.stats.JobStats;
+import com.search.benchmark.stats.MultiPatternStats;
 import org.junit.Test;
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 import static org.junit.Assert.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -55,4 +84,1057 @@ public class AlgorithmTest {
 
         assertEquals(0, stats.getFoundCount());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testAllAlgorithmsAgreeOnCorpora() {
+        // Тот же набор входов, что у SearchBenchmark: паттерн из середины текста
+        for (String corpus : new String[]{"programming.txt", "lotr_two_towers.txt", "java_algorithms.txt", "shawshank.txt"}) {
+            String text = Main.readTextFromFile(corpus);
+            for (int length : new int[]{4, 9, 32}) {
+                int start = (text.length() - length) / 2;
+                String pattern = text.substring(start, start + length);
+                int[] expected = new NaiveSearch().search(text, pattern).getPositionArray();
+                assertTrue(expected.length > 0);
+                for (StringSearchAlgorithm algorithm : Main.createAlgorithms()) {
+                    assertArrayEquals(corpus + " / " + algorithm.getName(),
+                            expected, algorithm.search(text, pattern).getPositionArray());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFastPathMatchesInstrumented() {
+        String text = "abracadabra abracadabra";
+        String pattern = "abra";
+
+        for (StringSearchAlgorithm algorithm : Main.createAlgorithms()) {
+            AlgorithmStats stats = algorithm.search(text, pattern);
+            PositionCollector collector = new PositionCollector();
+            algorithm.search(text, pattern, collector);
+
+            assertArrayEquals(algorithm.getName(), stats.getPositionArray(), collector.toArray());
+            assertEquals(4, collector.size());
+        }
+    }
+
+    @Test
+    public void testCompiledPatternCache() {
+        CompiledPatternCache cache = new CompiledPatternCache(2);
+        KMPSearch kmp = new KMPSearch();
+
+        CompiledPattern first = cache.get(kmp, "abc");
+        assertSame(first, cache.get(kmp, "abc"));
+        assertNotSame(first, cache.get(new BoyerMooreSearch(), "abc"));
+
+        cache.get(kmp, "xyz");
+        assertEquals(2, cache.size());
+        assertNotSame(first, cache.get(kmp, "abc"));
+
+        PositionCollector collector = new PositionCollector();
+        first.search("abcabc", collector);
+        assertArrayEquals(new int[]{0, 3}, collector.toArray());
+
+        // Движки с одним именем, но разной настройкой, не делят скомпилированный паттерн
+        CompiledPatternCache shared = new CompiledPatternCache(8);
+        CompiledPattern wildcard = shared.get(new ShiftOrSearch(), "a?c");
+        CompiledPattern literal = shared.get(new ShiftOrSearch(false, false), "a?c");
+        assertNotSame(wildcard, literal);
+        assertFalse(new ShiftOrSearch().getName().equals(new ShiftOrSearch(false, false).getName()));
+        assertArrayEquals(new int[]{0, 4}, wildcard.firstN("abc a?c", 10));
+        assertArrayEquals(new int[]{4}, literal.firstN("abc a?c", 10));
+        CompiledPattern ignoreCase = shared.get(new KMPSearch(true), "abc");
+        assertNotSame(ignoreCase, shared.get(new KMPSearch(true), "abc"));
+    }
+
+    @Test
+    public void testMappedFileSearch() throws IOException {
+        String text = "Алгоритм algorithm: поиск 😀 algorithm и ещё algorithm";
+        Path file = Files.createTempFile("mapped", ".txt");
+        try {
+            Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+            ByteSearchAlgorithm[] algorithms = {
+                    new ByteKMPSearch(), new ByteBoyerMooreSearch(), new ByteRabinKarpSearch()
+            };
+
+            for (ByteSearchAlgorithm algorithm : algorithms) {
+                // Маленькое окно, чтобы вхождения попадали на стыки окон
+                MappedFileSearch search = new MappedFileSearch(algorithm, 12);
+                List<long[]> found = new ArrayList<>();
+                long count = search.search(file, "algorithm", (b, c) -> found.add(new long[]{b, c}));
+
+                assertEquals(3, count);
+                int expectedChar = -1;
+                for (long[] match : found) {
+                    expectedChar = text.indexOf("algorithm", expectedChar + 1);
+                    long expectedByte = text.substring(0, expectedChar).getBytes(StandardCharsets.UTF_8).length;
+                    assertEquals(expectedByte, match[0], algorithm.getName());
+                    assertEquals(expectedChar, match[1], algorithm.getName());
+                }
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testStreamingAcrossChunkBoundaries() throws IOException {
+        String text = "aabaabaab xx aabaab aab";
+        String pattern = "aab";
+        int[] expected = new KMPSearch().search(text, pattern).getPositionArray();
+
+        for (int bufferSize = 1; bufferSize <= 5; bufferSize++) {
+            List<StreamMatcher> matchers = new ArrayList<>();
+            List<List<Long>> found = new ArrayList<>();
+            for (int k = 0; k < 5; k++) {
+                found.add(new ArrayList<>());
+            }
+            matchers.add(new KMPStreamMatcher(pattern, found.get(0)::add));
+            matchers.add(new RabinKarpStreamMatcher(pattern, new HornerHash(), found.get(1)::add));
+            matchers.add(new BoyerMooreStreamMatcher(pattern, found.get(2)::add));
+            matchers.add(new BoyerMooreStreamMatcher(pattern, ShiftTable.Kind.LOW_BYTE, found.get(3)::add));
+            matchers.add(new BoyerMooreStreamMatcher(pattern, ShiftTable.Kind.HASHED, found.get(4)::add));
+
+            for (int k = 0; k < matchers.size(); k++) {
+                StreamingSearch.search(new StringReader(text), matchers.get(k), bufferSize);
+                assertEquals(expected.length, found.get(k).size(), matchers.get(k).getName());
+                for (int i = 0; i < expected.length; i++) {
+                    assertEquals(expected[i], found.get(k).get(i).longValue());
+                }
+            }
+        }
+
+        // Сдвиги хорошего суффикса на периодическом тексте не теряют вхождений на стыках порций
+        String periodic = TextGenerator.generateRandomText(3000, "ab");
+        for (String repeated : new String[]{"abab", "aabaa", "babbab"}) {
+            long[] all = Arrays.stream(new KMPSearch().search(periodic, repeated).getPositionArray())
+                    .asLongStream().toArray();
+            for (ShiftTable.Kind kind : ShiftTable.Kind.values()) {
+                for (int bufferSize : new int[]{3, 7, 64}) {
+                    List<Long> positions = new ArrayList<>();
+                    StreamingSearch.search(new StringReader(periodic),
+                            new BoyerMooreStreamMatcher(repeated, kind, positions::add), bufferSize);
+                    assertArrayEquals(repeated + " " + kind + " " + bufferSize,
+                            all, positions.stream().mapToLong(Long::longValue).toArray());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testParallelSearchMatchesSequential() {
+        String text = TextGenerator.generateTextWithPatterns(500_000, "seam", 0.05);
+        String pattern = "seam";
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (StringSearchAlgorithm algorithm : Main.createAlgorithms()) {
+                int[] expected = algorithm.search(text, pattern).getPositionArray();
+                ParallelSearch parallel = new ParallelSearch(algorithm, pool);
+
+                assertArrayEquals(expected, parallel.search(text, pattern).getPositionArray());
+                PositionCollector collector = new PositionCollector();
+                parallel.search(text, pattern, collector);
+                assertArrayEquals(expected, collector.toArray());
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        // Ранняя остановка: после ответа в первой из 4 частей остальные отменяются,
+        // поэтому каждый запрос успевает начать не больше двух частей
+        ForkJoinPool single = new ForkJoinPool(1);
+        AtomicInteger searchedChunks = new AtomicInteger();
+        StringSearchAlgorithm slow = new BoyerMooreSearch() {
+            @Override
+            public CompiledPattern compile(String pattern) {
+                CompiledPattern compiled = super.compile(pattern);
+                return new CompiledPattern() {
+                    @Override
+                    public String getPattern() {
+                        return pattern;
+                    }
+
+                    @Override
+                    public void search(String chunk, MatchSink sink) {
+                        searchedChunks.incrementAndGet();
+                        try {
+                            Thread.sleep(50);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        compiled.search(chunk, sink);
+                    }
+                };
+            }
+        };
+        try {
+            ParallelSearch parallel = new ParallelSearch(slow, single);
+            assertEquals(text.indexOf(pattern), parallel.indexOf(text, pattern));
+            assertTrue(parallel.contains(text, pattern));
+            assertTrue("частей: " + searchedChunks.get(), searchedChunks.get() <= 2 * 2);
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    @Test
+    public void testRegionSearch() {
+        String text = TextGenerator.generateTextWithPatterns(3000, "Seam", 0.1) + "seam SEAM";
+        String pattern = "seam";
+        int m = pattern.length();
+        List<StringSearchAlgorithm> engines = new ArrayList<>(Main.createAlgorithms());
+        engines.add(new KMPSearch(true));
+        engines.add(new BoyerMooreSearch(true));
+        engines.add(new RabinKarpSearch(new MersenneHash(), true));
+        engines.add(new ShiftOrSearch(false, true));
+        engines.add(new MeteredSearch(new HorspoolSearch(), new MetricsRegistry()));
+        // Движок без поиска на участке - копия участка по умолчанию
+        engines.add(new SuffixArraySearch());
+
+        int n = text.length();
+        int[][] regions = {{0, n}, {1, n - 1}, {37, 1000}, {500, 503}, {700, 700}, {n - 9, n}};
+        for (StringSearchAlgorithm engine : engines) {
+            int[] all = engine.search(text, pattern).getPositionArray();
+            CompiledPattern compiled = engine.compile(pattern);
+            for (int[] region : regions) {
+                int from = region[0];
+                int to = region[1];
+                int[] expected = Arrays.stream(all).filter(p -> p >= from && p + m <= to).toArray();
+                String name = engine.getName() + " [" + from + ", " + to + ")";
+                assertArrayEquals(name, expected, engine.search(text, from, to, pattern).getPositionArray());
+                PositionCollector collector = new PositionCollector();
+                compiled.search(text, from, to, collector);
+                assertArrayEquals(name, expected, collector.toArray());
+            }
+        }
+    }
+
+    @Test
+    public void testAhoCorasickMatchesRepeatedSearch() {
+        String text = "she sells sea shells; he shears his sheep. Ушла, ушел.";
+        List<String> patterns = Arrays.asList("he", "she", "his", "hers", "sea", "ушл", "he", "");
+
+        MultiPatternStats expected = new RepeatedSearch(new KMPSearch()).search(text, patterns);
+        MultiPatternStats actual = new AhoCorasickSearch().search(text, patterns);
+
+        assertEquals(expected.getFoundCount(), actual.getFoundCount());
+        for (int id = 0; id < patterns.size(); id++) {
+            assertEquals(expected.getFoundCount(id), actual.getFoundCount(id), patterns.get(id));
+        }
+
+        List<String> found = new ArrayList<>();
+        new AhoCorasickSearch().search("ushers", Arrays.asList("he", "she", "hers"),
+                (id, position) -> found.add(id + "@" + position));
+        assertEquals(Arrays.asList("1@1", "0@2", "2@2"), found);
+    }
+
+    @Test
+    public void testMultiPatternRabinKarpWithEveryHash() {
+        String text = "the cat sat on the mat; the rat ate the hat; tac eht";
+        List<String> patterns = Arrays.asList("the", "at", "cat", "mat", "rat", "hat", "zzz", "at");
+        MultiPatternStats expected = new RepeatedSearch(new KMPSearch()).search(text, patterns);
+
+        HashFunction[] hashes = {new SimpleHash(), new HornerHash(), new XORHash()};
+        for (HashFunction hash : hashes) {
+            MultiPatternStats actual = new MultiPatternRabinKarpSearch(hash).search(text, patterns);
+            for (int id = 0; id < patterns.size(); id++) {
+                assertEquals(expected.getFoundCount(id), actual.getFoundCount(id), hash.getName());
+            }
+        }
+
+        // XOR-хеш не зависит от порядка символов: окна "tac" и "eht" дают коллизии
+        assertTrue(new MultiPatternRabinKarpSearch(new XORHash()).search(text, patterns).getCollisions() > 0);
+    }
+
+    @Test
+    public void testBoyerMooreFamilyWithEveryShiftTable() {
+        String[] texts = {
+                TextGenerator.generateRandomText(5000, "ab"),
+                TextGenerator.generateRandomText(5000, TextGenerator.getRussianAlphabet().substring(0, 4) + "01"),
+                TextGenerator.generateRepeatedText("abaab", 500)
+        };
+        String[] patterns = {"a", "ab", "abaab", "abaababaab", "ааб", "б0а", "0"};
+
+        for (ShiftTable.Kind kind : ShiftTable.Kind.values()) {
+            StringSearchAlgorithm[] algorithms = {
+                    new BoyerMooreSearch(kind), new HorspoolSearch(kind),
+                    new SundaySearch(kind), new GalilBoyerMooreSearch(kind)
+            };
+            for (String text : texts) {
+                for (String pattern : patterns) {
+                    int[] expected = new NaiveSearch().search(text, pattern).getPositionArray();
+                    for (StringSearchAlgorithm algorithm : algorithms) {
+                        assertArrayEquals(algorithm.getName() + " / " + pattern,
+                                expected, algorithm.search(text, pattern).getPositionArray());
+                        PositionCollector collector = new PositionCollector();
+                        algorithm.search(text, pattern, collector);
+                        assertArrayEquals(algorithm.getName() + " / " + pattern, expected, collector.toArray());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testGalilRuleIsLinearOnPeriodicText() {
+        String text = TextGenerator.generateRepeatedText("a", 20_000);
+        String pattern = TextGenerator.generateRepeatedText("a", 50);
+
+        AlgorithmStats galil = new GalilBoyerMooreSearch().search(text, pattern);
+        AlgorithmStats plain = new BoyerMooreSearch().search(text, pattern);
+
+        assertEquals(text.length() - pattern.length() + 1, galil.getFoundCount());
+        assertTrue(galil.getCharChecks() <= 2L * text.length());
+        assertTrue(plain.getCharChecks() > 10L * text.length());
+    }
+
+    @Test
+    public void testVectorSearchAcrossBlocks() {
+        String text = TextGenerator.generateTextWithPatterns(50_000, "algorithm", 0.02) + "a";
+        String[] patterns = {"algorithm", "a", "ab", "xyzzy", text.substring(8000, 8400)};
+
+        VectorSearch algorithm = new VectorSearch();
+        for (String pattern : patterns) {
+            int[] expected = new KMPSearch().search(text, pattern).getPositionArray();
+            PositionCollector collector = new PositionCollector();
+            algorithm.search(text, pattern, collector);
+
+            assertArrayEquals(expected, collector.toArray());
+            assertArrayEquals(expected, algorithm.search(text, pattern).getPositionArray());
+        }
+    }
+
+    @Test
+    public void testRollingHashersMatchWindowRecompute() {
+        String text = TextGenerator.generateRandomText(2000, "abcабв");
+        HashFunction[] hashes = {
+                new SimpleHash(), new HornerHash(), new XORHash(), new MersenneHash(),
+                new DoubleHash(new HornerHash(), new SimpleHash()), new BuzHash(), new GearHash()
+        };
+
+        for (HashFunction hash : hashes) {
+            for (int m : new int[]{1, 7, 64, 70}) {
+                RollingHasher roller = hash.rolling(m);
+                long h = hash.hash(text, 0, m);
+                long updated = h;
+                assertEquals(hash.hash(text.substring(0, m)), h, hash.getName());
+                for (int i = 0; i + m < text.length(); i++) {
+                    h = roller.roll(h, text.charAt(i), text.charAt(i + m));
+                    assertEquals(hash.hash(text, i + 1, i + 1 + m), h, hash.getName());
+                    // update с кэшированной степенью дает тот же хеш
+                    updated = hash.update(updated, text.charAt(i), text.charAt(i + m), m);
+                    assertEquals(h, updated, hash.getName());
+                }
+            }
+        }
+
+        // Хеш без rolling: Рабин-Карп пересчитывает окно целиком
+        assertNull(new DJB2Hash().rolling(3));
+        assertEquals(3, new RabinKarpSearch(new DJB2Hash()).search("abcabcabc", "abc").getFoundCount());
+    }
+
+    @Test
+    public void testSuffixArrayAndFMIndex() {
+        for (String alphabet : new String[]{"ab", "abc", "абвг "}) {
+            for (int length : new int[]{0, 1, 2, 3, 17, 500, 5000}) {
+                String text = TextGenerator.generateRandomText(length, alphabet);
+
+                SuffixArray sa = SuffixArray.build(text);
+                int[] array = sa.getArray();
+                for (int i = 1; i < array.length; i++) {
+                    assertTrue(text.substring(array[i - 1]).compareTo(text.substring(array[i])) < 0);
+                }
+                int[] lcp = sa.getLcp();
+                for (int i = 0; i < lcp.length; i++) {
+                    String a = text.substring(array[i]);
+                    String b = text.substring(array[i + 1]);
+                    int expected = 0;
+                    while (expected < Math.min(a.length(), b.length()) && a.charAt(expected) == b.charAt(expected)) {
+                        expected++;
+                    }
+                    assertEquals(expected, lcp[i]);
+                }
+
+                FMIndex fm = FMIndex.build(text);
+                for (String pattern : new String[]{"a", "ab", "aba", "бв", "zz", alphabet}) {
+                    int[] expected = new KMPSearch().search(text, pattern).getPositionArray();
+                    assertArrayEquals(expected, sa.locate(pattern));
+                    assertArrayEquals(expected, fm.locate(pattern));
+                    assertEquals(expected.length, fm.count(pattern));
+                    assertArrayEquals(expected, new SuffixArraySearch().search(text, pattern).getPositionArray());
+                    assertArrayEquals(expected, new FMIndexSearch().search(text, pattern).getPositionArray());
+                }
+            }
+        }
+
+        // Сжатый индекс меньше суффиксного массива (4 байта на символ)
+        String lotr = Main.readTextFromFile("lotr_two_towers.txt");
+        FMIndex lotrIndex = FMIndex.build(lotr);
+        assertTrue("FM-индекс: " + lotrIndex.sizeInBytes() + " байт", lotrIndex.sizeInBytes() < 2L * lotr.length());
+        assertArrayEquals(new KMPSearch().search(lotr, "Frodo").getPositionArray(), lotrIndex.locate("Frodo"));
+
+        // Полный BMP вместе с сентинелом - 65537 кодов
+        StringBuilder bmp = new StringBuilder();
+        for (int ch = 0; ch < 65536; ch++) {
+            bmp.append((char) ch);
+        }
+        bmp.append("\uffff\u0000");
+        FMIndex bmpIndex = FMIndex.build(bmp.toString());
+        assertArrayEquals(new int[]{65535}, bmpIndex.locate("\uffff\uffff"));
+        assertArrayEquals(new int[]{0, 65537}, bmpIndex.locate("\u0000"));
+    }
+
+    @Test
+    public void testTrigramIndex() {
+        TrigramIndex index = new TrigramIndex();
+        List<String> documents = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            String document = TextGenerator.generateRandomText(50 + i % 200, "abcdefgh ");
+            documents.add(document);
+            index.addDocument("doc" + i, document);
+        }
+
+        for (String pattern : new String[]{"a", "ab", "abc", "abcd", "hgfe d", "zzz", "aaaaaaaaaaaaaaaaaaaa"}) {
+            List<String> expected = new ArrayList<>();
+            for (int d = 0; d < documents.size(); d++) {
+                for (int position : new KMPSearch().search(documents.get(d), pattern).getPositionArray()) {
+                    expected.add(d + ":" + position);
+                }
+            }
+            List<String> actual = new ArrayList<>();
+            int verified = index.search(pattern, (document, position) -> actual.add(document + ":" + position));
+            assertEquals(expected, actual, pattern);
+            assertTrue(verified <= documents.size());
+        }
+
+        // Инкрементальное добавление: новый документ сразу виден запросам
+        assertEquals(0, index.candidates("qwerty").length);
+        int id = index.addDocument("new", "xx qwerty yy");
+        assertArrayEquals(new int[]{id}, index.candidates("qwerty"));
+
+        // Неточный проверяющий движок: фильтр триграмм отключается, вхождения не теряются
+        TrigramIndex folded = new TrigramIndex(new BoyerMooreSearch(true));
+        folded.addDocument("upper", "xx QWERTY yy");
+        folded.addDocument("other", "nothing here");
+        TrigramIndex wildcard = new TrigramIndex(new ShiftOrSearch());
+        wildcard.addDocument("text", "xx qwerty yy");
+        List<String> found = new ArrayList<>();
+        folded.search("qwerty", (document, position) -> found.add(document + ":" + position));
+        wildcard.search("qw?rty", (document, position) -> found.add(document + ":" + position));
+        assertEquals(List.of("0:3", "0:3"), found);
+        assertFalse(new BoyerMooreSearch(true).isExact());
+        assertTrue(new BoyerMooreSearch().isExact());
+    }
+
+    @Test
+    public void testAutoSearch() throws IOException {
+        CalibrationProfile profile = CalibrationProfile.defaults();
+        profile.set(0, 0, 1, CalibrationProfile.Engine.RABIN_KARP);
+        Path file = Files.createTempFile("calibration", ".properties");
+        try {
+            profile.save(file);
+            CalibrationProfile loaded = CalibrationProfile.load(file);
+            assertSame(CalibrationProfile.Engine.RABIN_KARP, loaded.get(0, 0, 1));
+            assertArrayEquals(profile.getPatternBounds(), loaded.getPatternBounds());
+        } finally {
+            Files.delete(file);
+        }
+
+        AutoSearch auto = new AutoSearch(profile);
+        String dna = TextGenerator.generateRandomText(5000, "ACGT");
+        assertSame(CalibrationProfile.Engine.RABIN_KARP, auto.choose(dna, "AC"));
+        assertSame(CalibrationProfile.Engine.BOYER_MOORE,
+                auto.choose(TextGenerator.generateRandomText(5000, TextGenerator.getEnglishAlphabet()), "abcdefghijkl"));
+
+        for (String text : new String[]{"", "abc", dna, Main.readTextFromFile("programming.txt")}) {
+            for (String pattern : new String[]{"A", "ACG", "программ", "GATTACAGATTACA"}) {
+                int[] expected = new KMPSearch().search(text, pattern).getPositionArray();
+                assertArrayEquals(expected, auto.search(text, pattern).getPositionArray());
+                PositionCollector collector = new PositionCollector();
+                auto.compile(pattern).search(text, collector);
+                assertArrayEquals(expected, collector.toArray());
+            }
+        }
+    }
+
+    @Test
+    public void testBatchSearchExecutor() {
+        List<TestCase> jobs = new ArrayList<>();
+        String[] patterns = {"ab", "abc", "cab", "bbbb"};
+        for (int i = 0; i < 500; i++) {
+            String text = TextGenerator.generateRandomText(200 + i, "abc");
+            jobs.add(new TestCase("job" + i, text, patterns[i % patterns.length]));
+        }
+
+        for (BatchSearchExecutor.ThreadMode mode : BatchSearchExecutor.ThreadMode.values()) {
+            for (boolean grouped : new boolean[]{false, true}) {
+                // Маленькая емкость: потребитель управляет скоростью постановки заданий
+                BatchSearchExecutor executor = new BatchSearchExecutor(new KMPSearch(), mode, 3, 8, grouped);
+                BatchRun run = executor.submit(jobs);
+                boolean[] seen = new boolean[jobs.size()];
+                try (Stream<JobStats> results = run.results()) {
+                    results.forEach(stats -> {
+                        TestCase job = jobs.get(stats.getJobIndex());
+                        assertFalse(seen[stats.getJobIndex()]);
+                        seen[stats.getJobIndex()] = true;
+                        assertArrayEquals(new KMPSearch().search(job.getText(), job.getPattern()).getPositionArray(),
+                                stats.getPositionArray());
+                        assertTrue(run.getReport().getUnreadResults() <= 8);
+                    });
+                }
+                BatchReport report = run.getReport();
+                assertEquals(jobs.size(), report.getCompleted());
+                assertTrue(report.getMaxQueueDepth() <= 8);
+                assertTrue(report.getP50Nanos() <= report.getP99Nanos());
+                assertTrue(report.getJobsPerSecond() > 0);
+            }
+        }
+    }
+
+    @Test(timeout = 30_000)
+    public void testBatchRunDeliversJobErrors() {
+        List<TestCase> jobs = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String pattern = i % 4 == 0 ? "bad" : "ab";
+            jobs.add(new TestCase("job" + i, TextGenerator.generateRandomText(100, "abc"), pattern));
+        }
+        // Error из задания не должен оставлять потребителя без результата
+        StringSearchAlgorithm failing = new KMPSearch() {
+            @Override
+            public CompiledPattern compile(String pattern) {
+                if (pattern.equals("bad")) {
+                    throw new StackOverflowError("патологическое задание");
+                }
+                return super.compile(pattern);
+            }
+        };
+
+        for (boolean grouped : new boolean[]{false, true}) {
+            BatchRun run = new BatchSearchExecutor(failing,
+                    BatchSearchExecutor.ThreadMode.PLATFORM, 3, 4, grouped).submit(jobs);
+            int succeeded = 0;
+            int failed = 0;
+            try (Stream<JobStats> results = run.results()) {
+                Iterator<JobStats> iterator = results.iterator();
+                while (true) {
+                    try {
+                        if (!iterator.hasNext()) {
+                            break;
+                        }
+                        iterator.next();
+                        succeeded++;
+                    } catch (CompletionException e) {
+                        assertTrue(e.getCause() instanceof StackOverflowError);
+                        failed++;
+                    }
+                }
+            }
+            assertEquals(150, succeeded);
+            assertEquals(50, failed);
+        }
+
+        // Отмена посреди чтения останавливает постановку заданий без ошибок у вызывающего
+        BatchRun cancelled = new BatchSearchExecutor(new KMPSearch(),
+                BatchSearchExecutor.ThreadMode.PLATFORM, 2, 2, false).submit(jobs);
+        int[] read = new int[1];
+        try (Stream<JobStats> results = cancelled.results()) {
+            results.limit(3).forEach(stats -> read[0]++);
+        }
+        assertEquals(3, read[0]);
+        assertTrue(cancelled.getReport().getCompleted() < jobs.size());
+    }
+
+    @Test
+    public void testIgnoreCase() {
+        String text = Main.readTextFromFile("programming.txt")
+                + " ПРОГРАММИСТ Программист пРоГрАмМиСт ALGORITHM Algorithm ΣΊΣΥΦΟΣ σίσυφος Ёлка ёлка";
+        List<StringSearchAlgorithm> engines = List.of(
+                new KMPSearch(true),
+                new BoyerMooreSearch(true),
+                new BoyerMooreSearch(ShiftTable.Kind.HASHED, true),
+                new RabinKarpSearch(new HornerHash(), true),
+                new RabinKarpSearch(new MersenneHash(), true)
+        );
+
+        for (String pattern : new String[]{"программист", "ПРОГРАММИСТ", "algorithm", "σίσυφοσ", "ЁЛКА", "a", "zzzz"}) {
+            // Эталон: посимвольное сравнение свернутых символов
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i + pattern.length() <= text.length(); i++) {
+                boolean match = true;
+                for (int j = 0; j < pattern.length() && match; j++) {
+                    match = CaseFolding.fold(text.charAt(i + j)) == CaseFolding.fold(pattern.charAt(j));
+                }
+                if (match) {
+                    expected.add(i);
+                }
+            }
+            assertFalse(pattern.equals("программист") && expected.size() < 3);
+
+            for (StringSearchAlgorithm engine : engines) {
+                assertEquals(expected, engine.search(text, pattern).getPositions(), engine.getName() + " " + pattern);
+                PositionCollector collector = new PositionCollector();
+                engine.compile(pattern).search(text, collector);
+                assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), collector.toArray());
+            }
+        }
+
+        // Без свертки регистр по-прежнему различается
+        assertEquals(0, new KMPSearch().search("ABC", "abc").getFoundCount());
+    }
+
+    @Test
+    public void testQueryModes() {
+        String text = TextGenerator.generateRandomText(20000, "abcd");
+        List<StringSearchAlgorithm> engines = new ArrayList<>(Main.createAlgorithms());
+        engines.add(new ParallelSearch(new KMPSearch()));
+        engines.add(new SuffixArraySearch());
+        engines.add(new FMIndexSearch());
+
+        for (String pattern : new String[]{"abc", "dddd", "abcdabcdabcd", "x"}) {
+            int[] all = new KMPSearch().search(text, pattern).getPositionArray();
+            for (StringSearchAlgorithm engine : engines) {
+                String name = engine.getName() + " " + pattern;
+                assertEquals(all.length > 0, engine.contains(text, pattern), name);
+                assertEquals(all.length > 0 ? all[0] : -1, engine.indexOf(text, pattern), name);
+                assertArrayEquals(name, Arrays.copyOf(all, Math.min(5, all.length)), engine.firstN(text, pattern, 5));
+                assertEquals(all.length, engine.count(text, pattern), name);
+            }
+        }
+
+        // Сборщик с лимитом получает ровно limit позиций: движок остановился
+        int[] calls = new int[1];
+        PositionCollector limited = new PositionCollector(4, 3) {
+            @Override
+            public void onMatch(int position) {
+                calls[0]++;
+                super.onMatch(position);
+            }
+        };
+        new BoyerMooreSearch().search(text, "ab", limited);
+        assertEquals(3, calls[0]);
+    }
+
+    @Test
+    public void testTwoWaySearch() {
+        TwoWaySearch twoWay = new TwoWaySearch();
+        java.util.Random random = new java.util.Random(7);
+        for (String alphabet : new String[]{"ab", "abc", "aбв"}) {
+            for (int round = 0; round < 200; round++) {
+                String text = TextGenerator.generateRandomText(300, alphabet);
+                String pattern = round % 3 == 0
+                        ? TextGenerator.generateRepeatedText(text.substring(0, 1 + random.nextInt(3)), 1 + random.nextInt(4))
+                        : TextGenerator.generateRandomText(1 + random.nextInt(12), alphabet);
+                int[] expected = new KMPSearch().search(text, pattern).getPositionArray();
+                assertArrayEquals(pattern, expected, twoWay.search(text, pattern).getPositionArray());
+                PositionCollector collector = new PositionCollector();
+                twoWay.compile(pattern).search(text, collector);
+                assertArrayEquals(pattern, expected, collector.toArray());
+            }
+        }
+
+        // Периодические входы, на которых наивный поиск квадратичен: число проверок остается O(n)
+        int n = 100_000;
+        String[][] adversarial = {
+                {TextGenerator.generateRepeatedText("a", n), "a".repeat(500) + "b"},
+                {TextGenerator.generateRepeatedText("a", n), "b" + "a".repeat(500)},
+                {TextGenerator.generateRepeatedText("a", n), "a".repeat(500)},
+                {TextGenerator.generateRepeatedText("aab", n / 3), TextGenerator.generateRepeatedText("aab", 150) + "aaa"},
+                {TextGenerator.generateRepeatedText("ab", n / 2), TextGenerator.generateRepeatedText("ab", 200)}
+        };
+        for (String[] input : adversarial) {
+            AlgorithmStats stats = twoWay.search(input[0], input[1]);
+            assertArrayEquals(new KMPSearch().search(input[0], input[1]).getPositionArray(), stats.getPositionArray());
+            assertTrue(stats.getCharChecks() + " проверок", stats.getCharChecks() <= 3L * input[0].length());
+        }
+        assertTrue(new NaiveSearch().search(adversarial[0][0], adversarial[0][1]).getCharChecks() > 100L * n);
+    }
+
+    @Test
+    public void testShiftOrSearch() {
+        String text = TextGenerator.generateRandomText(3000, "abcdАБВгд?[]")
+                + " Algorithm ALGORITHM algorithm " + "ab".repeat(100);
+        String[][] cases = {
+                // паттерн Shift-Or, эквивалентное регулярное выражение
+                {"abc", "abc"},
+                {"a?c", "a.c"},
+                {"[ab]c", "[ab]c"},
+                {"[a-c]?[^ab]", "[a-c].[^ab]"},
+                {"\\?\\[", "\\?\\["},
+                {"[]a]b", "[\\]a]b"},
+                {"А?В", "А.В"},
+                {"ab".repeat(40), "(?:ab){40}"},
+                {"ab".repeat(30) + "?" + "[ab]".repeat(20), "(?:ab){30}.[ab]{20}"},
+                {"[^x]".repeat(70), "[^x]{70}"}
+        };
+        for (String[] c : cases) {
+            java.util.regex.Matcher matcher = java.util.regex.Pattern.compile("(?s)(?=" + c[1] + ")").matcher(text);
+            List<Integer> expected = new ArrayList<>();
+            while (matcher.find()) {
+                expected.add(matcher.start());
+            }
+            assertEquals(expected, new ShiftOrSearch().search(text, c[0]).getPositions(), c[0]);
+            PositionCollector collector = new PositionCollector();
+            new ShiftOrSearch().compile(c[0]).search(text, collector);
+            assertArrayEquals(c[0], expected.stream().mapToInt(Integer::intValue).toArray(), collector.toArray());
+        }
+
+        // Буквальный режим и игнорирование регистра
+        assertEquals(new KMPSearch().search(text, "a?[").getPositions(),
+                new ShiftOrSearch(false, false).search(text, "a?[").getPositions());
+        assertEquals(new KMPSearch(true).search(text, "algorithm").getPositions(),
+                new ShiftOrSearch(true, true).search(text, "ALGOrithm").getPositions());
+        assertEquals(3, new ShiftOrSearch(true, true).count(text, "[a]lgorith?"));
+    }
+
+    @Test
+    public void testApproximateSearch() {
+        java.util.Random random = new java.util.Random(11);
+        for (int round = 0; round < 60; round++) {
+            String text = TextGenerator.generateRandomText(400, "abcd");
+            int m = round % 3 == 0 ? 70 + random.nextInt(80) : 1 + random.nextInt(12);
+            String pattern = round % 2 == 0
+                    ? text.substring(100, 100 + Math.min(m, 250))
+                    : TextGenerator.generateRandomText(m, "abcd");
+            m = pattern.length();
+            int k = random.nextInt(Math.min(m, 4) + (m > 64 ? 20 : 0));
+
+            // Эталон для редакционного расстояния: DP Селлерса со свободным началом
+            List<Integer> editPositions = new ArrayList<>();
+            List<Integer> editDistances = new ArrayList<>();
+            int[] column = new int[m + 1];
+            for (int i = 0; i <= m; i++) {
+                column[i] = i;
+            }
+            for (int j = 0; j < text.length(); j++) {
+                int diagonal = column[0];
+                column[0] = 0;
+                for (int i = 1; i <= m; i++) {
+                    int up = column[i];
+                    int cost = pattern.charAt(i - 1) == text.charAt(j) ? 0 : 1;
+                    column[i] = Math.min(Math.min(up + 1, column[i - 1] + 1), diagonal + cost);
+                    diagonal = up;
+                }
+                if (column[m] <= k) {
+                    editPositions.add(j + 1);
+                    editDistances.add(column[m]);
+                }
+            }
+            ApproximateStats edit = new ApproximateSearch(ApproximateSearch.Mode.EDIT, k).search(text, pattern);
+            assertEquals(editPositions, edit.getPositions(), "EDIT m=" + m + " k=" + k);
+            assertArrayEquals(editDistances.stream().mapToInt(Integer::intValue).toArray(), edit.getDistanceArray());
+
+            // Эталон для Хэмминга: прямой подсчет несовпадений окна
+            List<Integer> hammingPositions = new ArrayList<>();
+            List<Integer> hammingDistances = new ArrayList<>();
+            for (int s0 = 0; s0 + m <= text.length(); s0++) {
+                int mismatches = 0;
+                for (int i = 0; i < m; i++) {
+                    if (text.charAt(s0 + i) != pattern.charAt(i)) {
+                        mismatches++;
+                    }
+                }
+                if (mismatches <= k) {
+                    hammingPositions.add(s0);
+                    hammingDistances.add(mismatches);
+                }
+            }
+            ApproximateStats hamming = new ApproximateSearch(ApproximateSearch.Mode.HAMMING, k).search(text, pattern);
+            assertEquals(hammingPositions, hamming.getPositions(), "HAMMING m=" + m + " k=" + k);
+            assertArrayEquals(hammingDistances.stream().mapToInt(Integer::intValue).toArray(), hamming.getDistanceArray());
+        }
+
+        // Перебор вариантов дает тот же ответ
+        String text = Main.readTextFromFile("shawshank.txt").substring(0, 20000);
+        for (ApproximateSearch.Mode mode : ApproximateSearch.Mode.values()) {
+            ApproximateStats fast = new ApproximateSearch(mode, 1).search(text, "prisen");
+            ApproximateStats variants = new VariantSearch(new BoyerMooreSearch(), mode, 1).search(text, "prisen");
+            assertTrue(fast.getFoundCount() > 0);
+            assertEquals(fast.getPositions(), variants.getPositions(), mode.name());
+            assertArrayEquals(fast.getDistanceArray(), variants.getDistanceArray());
+
+            // Быстрый режим с ранней остановкой: первые два вхождения с расстояниями
+            for (ApproximateSearchAlgorithm algorithm : List.of(new ApproximateSearch(mode, 1),
+                    new VariantSearch(new BoyerMooreSearch(), mode, 1))) {
+                List<Integer> firstTwo = new ArrayList<>();
+                algorithm.search(text, "prisen", new ApproximateMatchSink() {
+                    @Override
+                    public void onMatch(int position, int distance) {
+                        firstTwo.add(position);
+                        assertEquals(fast.getDistanceArray()[firstTwo.size() - 1], distance);
+                    }
+
+                    @Override
+                    public boolean isDone() {
+                        return firstTwo.size() == 2;
+                    }
+                });
+                assertEquals(fast.getPositions().subList(0, 2), firstTwo, algorithm.getName());
+            }
+        }
+    }
+
+    @Test
+    public void testMetrics() throws Exception {
+        // Перцентили гистограммы совпадают с точными с точностью до 1/32
+        LatencyHistogram histogram = new LatencyHistogram();
+        Random random = new Random(7);
+        long[] values = new long[20000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(random.nextDouble() * 20);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(values.length, snapshot.getCount());
+        assertEquals(values[values.length - 1], snapshot.getMax());
+        for (double quantile : new double[]{0.1, 0.5, 0.9, 0.99, 0.999}) {
+            long exact = values[(int) Math.ceil(quantile * values.length) - 1];
+            long estimate = snapshot.percentile(quantile);
+            assertTrue("q=" + quantile, estimate >= exact && estimate <= exact + exact / 32 + 1);
+        }
+
+        // Запись из нескольких потоков в одни и те же интервалы не теряет отсчетов
+        LatencyHistogram shared = new LatencyHistogram();
+        Thread[] writers = new Thread[4];
+        for (int t = 0; t < writers.length; t++) {
+            writers[t] = new Thread(() -> {
+                for (int i = 0; i < 50000; i++) {
+                    shared.record(1000 + i % 64);
+                }
+            });
+            writers[t].start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        assertEquals(4L * 50000, shared.snapshot().getCount());
+        assertEquals(1063L, shared.snapshot().getMax());
+
+        // Декоратор не меняет результаты и считает вызовы, в том числе выборочные
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.registerMBeans();
+        try {
+            String text = Main.readTextFromFile("lotr_two_towers.txt");
+            BoyerMooreSearch delegate = new BoyerMooreSearch();
+            MeteredSearch metered = new MeteredSearch(delegate, registry, 4);
+            CompiledPattern compiled = metered.compile("the");
+            int[] expected = delegate.search(text, "the").getPositionArray();
+            for (int i = 0; i < 40; i++) {
+                PositionCollector collector = new PositionCollector();
+                compiled.search(text, collector);
+                assertArrayEquals(expected, collector.toArray());
+            }
+            assertEquals(3, compiled.firstN(text, 3).length);
+
+            EngineMetrics metrics = metered.getMetrics();
+            assertEquals(41L, metrics.getCalls());
+            assertEquals(40L * expected.length + 3, metrics.getMatches());
+            assertTrue(metrics.getSampledCalls() > 0 && metrics.getSampledCalls() < 41);
+            assertTrue(metrics.getCharChecksPerChar() > 0);
+
+            // MBean доступен через платформенный MBeanServer
+            Object calls = ManagementFactory.getPlatformMBeanServer()
+                    .getAttribute(MetricsRegistry.objectName(delegate.getName()), "Calls");
+            assertEquals(41L, calls);
+            assertEquals(1, registry.snapshot().getEngines().size());
+        } finally {
+            registry.unregisterMBeans();
+        }
+    }
+
+    @Test
+    public void testResultExportAndRegressionGate() throws IOException {
+        Path directory = Files.createTempDirectory("results");
+        EnvironmentInfo environment = EnvironmentInfo.current();
+        assertFalse(environment.get("jdk.version").isEmpty());
+
+        // Базовый прогон: ~100 МБ/с с шумом; новый - KMP медленнее на 30%, Бойер-Мур тот же
+        Random random = new Random(11);
+        List<ResultRow> baselineRows = new ArrayList<>();
+        List<ResultRow> candidateRows = new ArrayList<>();
+        int textLength = 1_000_000;
+        for (int repetition = 0; repetition < 8; repetition++) {
+            long base = 20_000_000L;
+            baselineRows.add(new ResultRow("корпус, \"с кавычками\"", "KMP", repetition, textLength, 9,
+                    base + random.nextInt(1_000_000), 10, 0, 3));
+            baselineRows.add(new ResultRow("корпус, \"с кавычками\"", "Бойер-Мур", repetition, textLength, 9,
+                    base + random.nextInt(1_000_000), 10, 0, 3));
+            candidateRows.add(new ResultRow("корпус, \"с кавычками\"", "KMP", repetition, textLength, 9,
+                    base * 13 / 10 + random.nextInt(1_000_000), 10, 0, 3));
+            candidateRows.add(new ResultRow("корпус, \"с кавычками\"", "Бойер-Мур", repetition, textLength, 9,
+                    base + random.nextInt(1_000_000), 10, 0, 3));
+        }
+
+        // Обе формы экспорта читаются обратно без потерь
+        Path csv = directory.resolve("baseline.csv");
+        Path json = directory.resolve("candidate.jsonl");
+        try (ResultWriter writer = ResultWriter.open(csv, environment)) {
+            for (ResultRow row : baselineRows) {
+                writer.write(row);
+            }
+        }
+        try (ResultWriter writer = ResultWriter.open(json, environment)) {
+            for (ResultRow row : candidateRows) {
+                writer.write(row);
+            }
+        }
+        ResultSet baseline = ResultSet.load(csv);
+        ResultSet candidate = ResultSet.load(json);
+        assertEquals(environment.getProperties(), baseline.getEnvironment().getProperties());
+        assertEquals(environment.getProperties(), candidate.getEnvironment().getProperties());
+        assertEquals(baselineRows.size(), baseline.getRows().size());
+        ResultRow loaded = candidate.getRows().get(0);
+        assertEquals(candidateRows.get(0).getCorpus(), loaded.getCorpus());
+        assertEquals(candidateRows.get(0).getTimeNanos(), loaded.getTimeNanos());
+
+        ComparisonReport report = new RegressionComparator().compare(baseline, candidate);
+        assertTrue(report.hasRegressions());
+        for (Comparison comparison : report.getComparisons()) {
+            Comparison.Verdict expected = comparison.getAlgorithm().equals("KMP")
+                    ? Comparison.Verdict.REGRESSION : Comparison.Verdict.NO_CHANGE;
+            assertEquals(expected, comparison.getVerdict(), comparison.getAlgorithm());
+            assertTrue(comparison.getChangeLow() <= comparison.getChange()
+                    && comparison.getChange() <= comparison.getChangeHigh());
+        }
+        // Сравнение с самим собой регрессий не дает
+        assertFalse(new RegressionComparator().compare(baseline, baseline).hasRegressions());
+
+        // Каталог для графиков создается, если его еще нет
+        Path charts = directory.resolve("charts").resolve("nested");
+        ComparisonChart.save(report, charts, "cmp");
+        assertTrue(Files.exists(charts.resolve("cmp-1.png")));
+    }
+
+    @Test
+    public void testCorpusGenerator() throws IOException {
+        String training = CorpusGenerator.trainingText();
+        List<TextModel> models = List.of(
+                new UniformTextModel("abcd"),
+                new ZipfWordModel(ZipfWordModel.vocabulary(training, 5000), 1.1),
+                MarkovTextModel.train(training, 3),
+                new PeriodicTextModel("aab", 0.001, "ab"));
+        Path file = Files.createTempFile("corpus", ".txt");
+        for (TextModel model : models) {
+            // Результат не зависит от числа потоков и совпадает с записью в файл
+            String single = new CorpusGenerator(model, 7, "needle", 200, 10_000, 1).generate(95_000);
+            String parallel = new CorpusGenerator(model, 7, "needle", 200, 10_000, 4).generate(95_000);
+            assertEquals(single, parallel, model.getName());
+            long planted = new CorpusGenerator(model, 7, "needle", 200, 10_000, 3).write(file, 95_000);
+            assertEquals(single, Files.readString(file), model.getName());
+            assertFalse(single.equals(new CorpusGenerator(model, 8, "needle", 200, 10_000, 1).generate(95_000)));
+
+            // Плотность: ~200 вхождений на миллион, то есть около 19 на 95 000 символов
+            int found = new BoyerMooreSearch().search(single, "needle").getFoundCount();
+            assertTrue(model.getName() + ": " + planted, planted >= 14 && planted <= 24);
+            assertTrue(found >= planted);
+        }
+        Files.delete(file);
+
+        // Ципф: частота слов убывает по рангу словаря
+        List<String> vocabulary = List.of("the", "and", "of", "ring");
+        String zipf = new CorpusGenerator(new ZipfWordModel(vocabulary, 1.0), 1).generate(200_000);
+        int[] counts = new int[vocabulary.size()];
+        for (String word : zipf.split("\\s+")) {
+            int rank = vocabulary.indexOf(word);
+            if (rank >= 0) {
+                counts[rank]++;
+            }
+        }
+        for (int rank = 1; rank < counts.length; rank++) {
+            assertTrue(counts[rank - 1] > counts[rank]);
+        }
+
+        // Марков: в тексте только символы обучающего текста
+        String markov = new CorpusGenerator(MarkovTextModel.train("abracadabra", 2), 3).generate(10_000);
+        for (char c : markov.toCharArray()) {
+            assertTrue("abrcd".indexOf(c) >= 0);
+        }
+
+        // Без мутаций период выдерживается на границах фрагментов
+        PeriodicTextModel periodic = new PeriodicTextModel("abc");
+        String periodicText = new CorpusGenerator(periodic, 5, null, 0, 1000, 2).generate(10_001);
+        assertEquals("abc".repeat(3334).substring(0, 10_001), periodicText);
+        assertEquals(0, new KMPSearch().search(periodicText, periodic.adversarialPattern(7)).getFoundCount());
+    }
+
+    @Test
+    public void testIncrementalSearchUnderEdits() {
+        Random random = new Random(3);
+        String initial = TextGenerator.generateRandomText(3000, "abc");
+        EditableDocument document = new EditableDocument(initial);
+        StringBuilder reference = new StringBuilder(initial);
+        List<StringSearchAlgorithm> engines = List.of(new KMPSearch(), new BoyerMooreSearch(),
+                new HorspoolSearch(), new TwoWaySearch());
+        String[] patterns = {"ab", "aba", "aaaa", "abcab"};
+        List<LiveMatches> live = new ArrayList<>();
+        for (int i = 0; i < patterns.length; i++) {
+            live.add(document.register(patterns[i], engines.get(i % engines.size())));
+        }
+
+        for (int step = 0; step < 2000; step++) {
+            int position = random.nextInt(reference.length() + 1);
+            int removed = random.nextInt(3) == 0 ? Math.min(random.nextInt(6), reference.length() - position) : 0;
+            String inserted = random.nextInt(4) == 0 ? "" : TextGenerator.generateRandomText(1 + random.nextInt(5), "abc");
+            long[] rescannedBefore = live.stream().mapToLong(LiveMatches::getRescannedChars).toArray();
+
+            document.replace(position, removed, inserted);
+            reference.replace(position, position + removed, inserted);
+
+            // Перепроверяется только окно правки, а не весь документ
+            for (int i = 0; i < live.size(); i++) {
+                long rescanned = live.get(i).getRescannedChars() - rescannedBefore[i];
+                assertTrue(rescanned <= inserted.length() + 2L * (patterns[i].length() - 1));
+            }
+            if (step % 50 == 0) {
+                String text = reference.toString();
+                assertEquals(text, document.toString());
+                for (LiveMatches matches : live) {
+                    assertArrayEquals(new NaiveSearch().search(text, matches.getPattern()).getPositionArray(),
+                            matches.positions());
+                }
+            }
+        }
+        String text = reference.toString();
+        for (LiveMatches matches : live) {
+            assertArrayEquals(new NaiveSearch().search(text, matches.getPattern()).getPositionArray(),
+                    matches.positions());
+            assertEquals(matches.positions().length, matches.count());
+        }
+
+        // Таблица фрагментов: произвольные подстроки и символы совпадают с эталоном
+        PieceTable table = document.getText();
+        for (int i = 0; i < 200; i++) {
+            int start = random.nextInt(text.length());
+            int end = start + random.nextInt(text.length() - start + 1);
+            assertEquals(text.substring(start, end), table.substring(start, end));
+            assertEquals(text.charAt(start), table.charAt(start));
+        }
+
+        // Вставка и удаление того же символа не дробят таблицу
+        PieceTable small = new PieceTable("abcdef");
+        small.insert(3, "x");
+        small.delete(3, 1);
+        assertEquals("abcdef", small.toString());
+        assertEquals(1, small.getPieceCount());
+    }
+
+    @Test
+    public void testHashQualityAnalyzer() {
+        String text = Main.readTextFromFile("lotr_two_towers.txt");
+        HashQualityAnalyzer analyzer = new HashQualityAnalyzer(9);
+        HashQualityReport xor = analyzer.analyze(new XORHash(), "lotr", text);
+        HashQualityReport mersenne = analyzer.analyze(new MersenneHash(), "lotr", text);
+
+        assertEquals((long) text.length() - 8, mersenne.getWindows());
+        assertTrue(mersenne.getDistinctWindows() > 0 && mersenne.getDistinctWindows() <= mersenne.getWindows());
+        // Сильный хеш: χ²/df около 1, ложных совпадений практически нет, лавина близка к 0.5
+        assertTrue(mersenne.getNormalizedChiSquared() > 0.5 && mersenne.getNormalizedChiSquared() < 2);
+        assertTrue(mersenne.getFalsePositiveRate() < 1e-6);
+        assertTrue(mersenne.getAvalanche() > 0.3);
+        // XOR-хеш заметно хуже по всем показателям
+        assertTrue(xor.getNormalizedChiSquared() > 100 * mersenne.getNormalizedChiSquared());
+        assertTrue(xor.getFalsePositiveRate() > 1e-4);
+        assertTrue(xor.getAvalanche() < mersenne.getAvalanche());
+        assertTrue(xor.getNanosPerUpdate() > 0);
+    }
+}